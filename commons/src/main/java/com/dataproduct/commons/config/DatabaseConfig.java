@@ -1,23 +1,110 @@
 package com.dataproduct.commons.config;
 
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.jpa.repository.config.EnableJpaAuditing;
 import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
 
+import com.zaxxer.hikari.HikariConfig;
+import com.zaxxer.hikari.HikariDataSource;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
 import javax.sql.DataSource;
-import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
 import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
 
 @Configuration
 @EnableJpaRepositories(basePackages = "com.dataproduct")
-@EnableJpaAuditing
+@EnableJpaAuditing(dateTimeProviderRef = "auditingDateTimeProvider")
 public class DatabaseConfig {
 
+    // Audit timestamps are truncated to the column precision so in-memory values match what the
+    // database stores; keyset cursors built from a freshly saved entity would otherwise skip rows.
     @Bean
-    @ConfigurationProperties(prefix = "spring.datasource")
-    public DataSource dataSource() {
-        return DataSourceBuilder.create().build();
+    public DateTimeProvider auditingDateTimeProvider() {
+        return () -> Optional.of(LocalDateTime.now().truncatedTo(ChronoUnit.MICROS));
+    }
+
+    // Connection settings come from spring.datasource.*, pool settings from spring.datasource.hikari.*.
+    // On PostgreSQL the driver sends each JDBC batch of INSERTs (hibernate.jdbc.batch_size) as one
+    // multi-row INSERT; hikari.data-source-properties.reWriteBatchedInserts=false turns that off.
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource dataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+        String url = dataSource.getJdbcUrl();
+        if (url != null && url.startsWith("jdbc:postgresql:")) {
+            dataSource.addDataSourceProperty("reWriteBatchedInserts", "true");
+        }
+        return dataSource;
+    }
+
+    /**
+     * Active once dataproduct.datasource.replicas is configured. JPA and Flyway then use a routing
+     * DataSource that sends read-only transactions to the replicas and everything else to the
+     * pool above. Write requests and a client's reads right after them stay on the primary.
+     */
+    @Configuration
+    @ConditionalOnProperty(name = "dataproduct.datasource.replicas[0].url")
+    @EnableConfigurationProperties(ReadReplicaProperties.class)
+    static class ReadReplicaConfig {
+
+        @Bean
+        public ReplicaRoutingDataSource replicaRoutingDataSource(HikariDataSource dataSource,
+                                                                 ReadReplicaProperties properties) {
+            List<HikariDataSource> replicas = new ArrayList<>();
+            for (ReadReplicaProperties.Replica replica : properties.getReplicas()) {
+                replicas.add(createReplicaPool(dataSource, replica, replicas.size() + 1, properties));
+            }
+            return new ReplicaRoutingDataSource(dataSource, replicas, properties.getReplicaRetryInterval().toMillis(),
+                    lagProbe(dataSource), properties.getReplicaMaxLag());
+        }
+
+        // Lag is only measured on PostgreSQL; elsewhere the health check just opens a connection
+        private static ReplicaLagProbe lagProbe(HikariDataSource primary) {
+            String url = primary.getJdbcUrl();
+            return url != null && url.startsWith("jdbc:postgresql:")
+                    ? new PostgresReplicaLagProbe()
+                    : ReplicaLagProbe.NONE;
+        }
+
+        // Defers getConnection to the first statement, when the transaction's read-only flag is known
+        @Bean
+        @Primary
+        public DataSource routingDataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+            return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+        }
+
+        @Bean
+        public ReadYourWritesFilter readYourWritesFilter(ReadReplicaProperties properties) {
+            return new ReadYourWritesFilter(properties.getReadYourWritesWindow());
+        }
+
+        private static HikariDataSource createReplicaPool(HikariDataSource primary, ReadReplicaProperties.Replica replica,
+                                                          int number, ReadReplicaProperties properties) {
+            HikariConfig config = new HikariConfig();
+            primary.copyStateTo(config);
+            config.setPoolName("replica-" + number);
+            config.setJdbcUrl(replica.getUrl());
+            if (replica.getUsername() != null) {
+                config.setUsername(replica.getUsername());
+            }
+            if (replica.getPassword() != null) {
+                config.setPassword(replica.getPassword());
+            }
+            config.setReadOnly(true);
+            config.setConnectionTimeout(properties.getReplicaConnectionTimeout().toMillis());
+            // A replica that is down at startup is skipped like one that goes down later
+            config.setInitializationFailTimeout(-1);
+            return new HikariDataSource(config);
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.dataproduct.commons.config;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.time.temporal.ChronoUnit;
+
+/**
+ * Lag of a PostgreSQL streaming replica. A standby that has replayed the primary's current WAL
+ * position is current, however long ago its last replayed commit was; otherwise the lag is the age
+ * of that commit. A standby that has not replayed any commit yet counts as infinitely behind, and
+ * a server that is not in recovery (e.g. the primary itself) as current.
+ */
+public class PostgresReplicaLagProbe implements ReplicaLagProbe {
+
+    private static final String LAG_SQL = """
+            SELECT CASE
+                       WHEN NOT pg_is_in_recovery() THEN 0
+                       WHEN pg_last_wal_replay_lsn() >= cast(? AS pg_lsn) THEN 0
+                       ELSE extract(epoch FROM clock_timestamp() - pg_last_xact_replay_timestamp()) * 1000
+                   END
+            """;
+
+    @Override
+    public Duration measure(Connection primary, Connection replica) throws SQLException {
+        String primaryLsn;
+        try (Statement statement = primary.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT cast(pg_current_wal_lsn() AS text)")) {
+            resultSet.next();
+            primaryLsn = resultSet.getString(1);
+        }
+        try (PreparedStatement statement = replica.prepareStatement(LAG_SQL)) {
+            statement.setString(1, primaryLsn);
+            try (ResultSet resultSet = statement.executeQuery()) {
+                resultSet.next();
+                double lagMillis = resultSet.getDouble(1);
+                return resultSet.wasNull() ? ChronoUnit.FOREVER.getDuration() : Duration.ofMillis((long) lagMillis);
+            }
+        }
+    }
+}
\ No newline at end of file
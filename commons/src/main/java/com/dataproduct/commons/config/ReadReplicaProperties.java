@@ -0,0 +1,59 @@
+package com.dataproduct.commons.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read replicas under dataproduct.datasource.replicas. Each replica pool copies the primary's
+ * spring.datasource.hikari settings; username and password default to the primary's.
+ */
+@ConfigurationProperties(prefix = "dataproduct.datasource")
+public class ReadReplicaProperties {
+
+    private List<Replica> replicas = new ArrayList<>();
+
+    // How long a replica that failed to hand out a connection is skipped
+    private Duration replicaRetryInterval = Duration.ofSeconds(30);
+
+    // Upper bound on the wait for a replica connection, kept short so failover is quick
+    private Duration replicaConnectionTimeout = Duration.ofSeconds(2);
+
+    // A replica further behind the primary than this at the last health check serves no reads
+    private Duration replicaMaxLag = Duration.ofSeconds(10);
+
+    // How long a client's reads stay on the primary after its own write; zero disables the cookie
+    private Duration readYourWritesWindow = Duration.ofSeconds(5);
+
+    public List<Replica> getReplicas() { return replicas; }
+    public void setReplicas(List<Replica> replicas) { this.replicas = replicas; }
+
+    public Duration getReplicaRetryInterval() { return replicaRetryInterval; }
+    public void setReplicaRetryInterval(Duration replicaRetryInterval) { this.replicaRetryInterval = replicaRetryInterval; }
+
+    public Duration getReplicaConnectionTimeout() { return replicaConnectionTimeout; }
+    public void setReplicaConnectionTimeout(Duration replicaConnectionTimeout) { this.replicaConnectionTimeout = replicaConnectionTimeout; }
+
+    public Duration getReplicaMaxLag() { return replicaMaxLag; }
+    public void setReplicaMaxLag(Duration replicaMaxLag) { this.replicaMaxLag = replicaMaxLag; }
+
+    public Duration getReadYourWritesWindow() { return readYourWritesWindow; }
+    public void setReadYourWritesWindow(Duration readYourWritesWindow) { this.readYourWritesWindow = readYourWritesWindow; }
+
+    public static class Replica {
+        private String url;
+        private String username;
+        private String password;
+
+        public String getUrl() { return url; }
+        public void setUrl(String url) { this.url = url; }
+
+        public String getUsername() { return username; }
+        public void setUsername(String username) { this.username = username; }
+
+        public String getPassword() { return password; }
+        public void setPassword(String password) { this.password = password; }
+    }
+}
\ No newline at end of file
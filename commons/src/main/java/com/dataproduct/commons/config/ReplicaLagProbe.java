@@ -0,0 +1,18 @@
+package com.dataproduct.commons.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+
+/**
+ * Measures how far a replica is behind the primary, given a connection to each. Used by
+ * ReplicaRoutingDataSource's periodic check to take lagging replicas out of rotation.
+ */
+@FunctionalInterface
+public interface ReplicaLagProbe {
+
+    // For databases without a lag query: a replica that hands out a connection counts as current
+    ReplicaLagProbe NONE = (primary, replica) -> Duration.ZERO;
+
+    Duration measure(Connection primary, Connection replica) throws SQLException;
+}
\ No newline at end of file
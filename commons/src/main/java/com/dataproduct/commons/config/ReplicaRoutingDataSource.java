@@ -0,0 +1,163 @@
+package com.dataproduct.commons.config;
+
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.io.Closeable;
+import java.io.IOException;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLFeatureNotSupportedException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Hands out replica connections inside read-only transactions and primary connections otherwise.
+ * Replicas are taken round-robin; one that fails to hand out a connection is skipped until the
+ * retry interval has passed, and when none is available reads fall back to the primary.
+ * <p>
+ * checkReplicas, scheduled on dataproduct.datasource.replica-health-check-interval, also measures
+ * each replica's lag with a ReplicaLagProbe. A replica that is unreachable or further behind than
+ * the maximum lag is skipped until a later check passes; connection failures alone would miss a
+ * replica that is up but no longer replaying.
+ * <p>
+ * The read-only flag is only set once the transaction manager has begun the transaction, so this
+ * has to sit behind a LazyConnectionDataSourceProxy, which defers getConnection to the first
+ * statement.
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements Closeable {
+
+    private static final ThreadLocal<Boolean> PINNED_TO_PRIMARY = new ThreadLocal<>();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final long retryIntervalNanos;
+    private final ReplicaLagProbe lagProbe;
+    private final Duration maxLag;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, long retryIntervalMillis) {
+        this(primary, replicas, retryIntervalMillis, ReplicaLagProbe.NONE, Duration.ZERO);
+    }
+
+    public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas, long retryIntervalMillis,
+                                    ReplicaLagProbe lagProbe, Duration maxLag) {
+        this.primary = primary;
+        this.replicas = replicas.stream().map(Replica::new).toList();
+        this.retryIntervalNanos = retryIntervalMillis * 1_000_000;
+        this.lagProbe = lagProbe;
+        this.maxLag = maxLag;
+    }
+
+    /**
+     * Sends this thread's reads to the primary until the returned pin is closed, for callers that
+     * must see their own or just-committed writes.
+     */
+    public static PrimaryPin pinToPrimary() {
+        if (PINNED_TO_PRIMARY.get() != null) {
+            return () -> { };
+        }
+        PINNED_TO_PRIMARY.set(Boolean.TRUE);
+        return PINNED_TO_PRIMARY::remove;
+    }
+
+    static boolean isPinnedToPrimary() {
+        return PINNED_TO_PRIMARY.get() != null;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (isPinnedToPrimary() || !TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return primary.getConnection();
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), replicas.size());
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get((start + i) % replicas.size());
+            if (replica.isAvailable()) {
+                try {
+                    return replica.dataSource.getConnection();
+                } catch (SQLException e) {
+                    replica.markDown(System.nanoTime() + retryIntervalNanos);
+                }
+            }
+        }
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        throw new SQLFeatureNotSupportedException("Credentials are configured per pool");
+    }
+
+    /**
+     * Probes every replica against the primary and records whether it may serve reads. Without a
+     * primary connection there is nothing to measure against, so the previous results are kept.
+     */
+    @Scheduled(fixedDelayString = "${dataproduct.datasource.replica-health-check-interval:PT5S}")
+    public void checkReplicas() {
+        try (Connection primaryConnection = primary.getConnection()) {
+            for (Replica replica : replicas) {
+                replica.recordCheck(isWithinMaxLag(primaryConnection, replica));
+            }
+        } catch (SQLException e) {
+            // Primary unreachable; writes fail anyway and reads keep their current routing
+        }
+    }
+
+    private boolean isWithinMaxLag(Connection primaryConnection, Replica replica) {
+        try (Connection replicaConnection = replica.dataSource.getConnection()) {
+            return lagProbe.measure(primaryConnection, replicaConnection).compareTo(maxLag) <= 0;
+        } catch (SQLException e) {
+            return false;
+        }
+    }
+
+    public int availableReplicas() {
+        return (int) replicas.stream().filter(Replica::isAvailable).count();
+    }
+
+    @Override
+    public void close() throws IOException {
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof Closeable closeable) {
+                closeable.close();
+            }
+        }
+    }
+
+    @FunctionalInterface
+    public interface PrimaryPin extends AutoCloseable {
+        @Override
+        void close();
+    }
+
+    private static final class Replica {
+        private final DataSource dataSource;
+        private volatile long downUntilNanos;
+        private volatile boolean down;
+        private volatile boolean failedCheck;
+
+        Replica(DataSource dataSource) {
+            this.dataSource = dataSource;
+        }
+
+        boolean isAvailable() {
+            return !failedCheck && (!down || System.nanoTime() - downUntilNanos >= 0);
+        }
+
+        void recordCheck(boolean passed) {
+            failedCheck = !passed;
+            if (passed) {
+                down = false;
+            }
+        }
+
+        void markDown(long untilNanos) {
+            downUntilNanos = untilNanos;
+            down = true;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.dataproduct.commons.exception;
+
+public class DataProductChangesExpiredException extends RuntimeException {
+    private final long latestSequence;
+
+    public DataProductChangesExpiredException(String message, long latestSequence) {
+        super(message);
+        this.latestSequence = latestSequence;
+    }
+
+    public long getLatestSequence() {
+        return latestSequence;
+    }
+}
\ No newline at end of file
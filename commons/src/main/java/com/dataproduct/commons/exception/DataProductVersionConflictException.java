@@ -0,0 +1,11 @@
+package com.dataproduct.commons.exception;
+
+public class DataProductVersionConflictException extends RuntimeException {
+    public DataProductVersionConflictException(String message) {
+        super(message);
+    }
+
+    public DataProductVersionConflictException(String message, Throwable cause) {
+        super(message, cause);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,87 @@
+package com.dataproduct.commons.config;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.http.Cookie;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class ReadYourWritesFilterTest {
+
+    private final ReadYourWritesFilter filter = new ReadYourWritesFilter(Duration.ofSeconds(5));
+
+    @Test
+    void write_ShouldRunOnPrimaryAndSetWindowCookie() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("PUT", "/api/v1/data-products/1");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+
+        // When
+        boolean pinned = filter(request, response);
+
+        // Then
+        assertTrue(pinned);
+        assertFalse(ReplicaRoutingDataSource.isPinnedToPrimary());
+        String cookie = response.getHeader(HttpHeaders.SET_COOKIE);
+        assertNotNull(cookie);
+        assertTrue(cookie.startsWith(ReadYourWritesFilter.COOKIE_NAME + "="));
+        assertTrue(cookie.contains("Max-Age=6"));
+    }
+
+    @Test
+    void read_ShouldRunOnPrimary_WhenWindowCookieHasNotExpired() throws Exception {
+        // Given
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/data-products/1");
+        request.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(System.currentTimeMillis() + 5_000)));
+
+        // When & Then
+        assertTrue(filter(request, new MockHttpServletResponse()));
+    }
+
+    @Test
+    void read_ShouldNotBePinned_WhenWindowCookieIsMissingExpiredOrInvalid() throws Exception {
+        MockHttpServletRequest withoutCookie = new MockHttpServletRequest("GET", "/api/v1/data-products");
+        MockHttpServletRequest expired = new MockHttpServletRequest("GET", "/api/v1/data-products");
+        expired.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, String.valueOf(System.currentTimeMillis() - 1)));
+        MockHttpServletRequest invalid = new MockHttpServletRequest("GET", "/api/v1/data-products");
+        invalid.setCookies(new Cookie(ReadYourWritesFilter.COOKIE_NAME, "soon"));
+
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        assertFalse(filter(withoutCookie, response));
+        assertFalse(filter(expired, new MockHttpServletResponse()));
+        assertFalse(filter(invalid, new MockHttpServletResponse()));
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+    }
+
+    @Test
+    void write_ShouldNotSetCookie_WhenWindowIsZero() throws Exception {
+        // Given
+        ReadYourWritesFilter disabled = new ReadYourWritesFilter(Duration.ZERO);
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/data-products");
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        AtomicBoolean pinned = new AtomicBoolean();
+
+        // When
+        disabled.doFilter(request, response, chain(pinned));
+
+        // Then
+        assertTrue(pinned.get());
+        assertNull(response.getHeader(HttpHeaders.SET_COOKIE));
+    }
+
+    private boolean filter(MockHttpServletRequest request, MockHttpServletResponse response) throws Exception {
+        AtomicBoolean pinned = new AtomicBoolean();
+        filter.doFilter(request, response, chain(pinned));
+        return pinned.get();
+    }
+
+    private static FilterChain chain(AtomicBoolean pinned) {
+        return (request, response) -> pinned.set(ReplicaRoutingDataSource.isPinnedToPrimary());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,244 @@
+package com.dataproduct.commons.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.jdbc.datasource.SingleConnectionDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Separate in-memory databases stand in for the primary and the replicas; each holds its own name
+ * in a marker table, so a query shows which one served it.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private DataSource primary;
+    private DataSource firstReplica;
+    private DataSource secondReplica;
+
+    @BeforeEach
+    void setUp() {
+        primary = database("primary");
+        firstReplica = database("replica1");
+        secondReplica = database("replica2");
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUseReplica_AndOtherAccessShouldUsePrimary() {
+        // Given
+        Routing routing = new Routing(new ReplicaRoutingDataSource(primary, List.of(firstReplica), 30_000));
+
+        // When & Then
+        assertEquals("replica1", routing.read(true));
+        assertEquals("primary", routing.read(false));
+        assertEquals("primary", routing.jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+    }
+
+    @Test
+    void readOnlyTransactions_ShouldBeBalancedAcrossReplicas() {
+        // Given
+        Routing routing = new Routing(new ReplicaRoutingDataSource(primary, List.of(firstReplica, secondReplica), 30_000));
+
+        // When
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            served.add(routing.read(true));
+        }
+
+        // Then
+        assertEquals(2, served.stream().filter("replica1"::equals).count());
+        assertEquals(2, served.stream().filter("replica2"::equals).count());
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldFailOverAndSkipReplica_WhenItCannotConnect() throws SQLException {
+        // Given
+        DataSource downReplica = mock(DataSource.class);
+        when(downReplica.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+        ReplicaRoutingDataSource replicaRoutingDataSource =
+                new ReplicaRoutingDataSource(primary, List.of(downReplica, firstReplica), 30_000);
+        Routing routing = new Routing(replicaRoutingDataSource);
+
+        // When
+        List<String> served = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            served.add(routing.read(true));
+        }
+
+        // Then
+        assertEquals(List.of("replica1", "replica1", "replica1", "replica1"), served);
+        assertEquals(1, replicaRoutingDataSource.availableReplicas());
+        verify(downReplica, times(1)).getConnection();
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldFallBackToPrimary_WhenNoReplicaIsAvailable() throws SQLException {
+        // Given
+        DataSource downReplica = mock(DataSource.class);
+        when(downReplica.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+        Routing routing = new Routing(new ReplicaRoutingDataSource(primary, List.of(downReplica), 30_000));
+
+        // When & Then
+        assertEquals("primary", routing.read(true));
+    }
+
+    @Test
+    void replica_ShouldBeRetried_AfterRetryInterval() throws SQLException {
+        // Given
+        DataSource flakyReplica = mock(DataSource.class);
+        when(flakyReplica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("Connection is not available"))
+                .thenAnswer(invocation -> firstReplica.getConnection());
+        Routing routing = new Routing(new ReplicaRoutingDataSource(primary, List.of(flakyReplica), 0));
+
+        // When & Then
+        assertEquals("primary", routing.read(true));
+        assertEquals("replica1", routing.read(true));
+    }
+
+    @Test
+    void checkReplicas_ShouldSkipReplica_WhileItLagsBeyondMaxLag() {
+        // Given
+        Map<DataSource, Duration> lag = new HashMap<>(Map.of(firstReplica, Duration.ofSeconds(30)));
+        ReplicaRoutingDataSource replicaRoutingDataSource = new ReplicaRoutingDataSource(
+                primary, List.of(firstReplica, secondReplica), 30_000, lagOf(lag), Duration.ofSeconds(10));
+        Routing routing = new Routing(replicaRoutingDataSource);
+
+        // When
+        replicaRoutingDataSource.checkReplicas();
+
+        // Then
+        assertEquals(1, replicaRoutingDataSource.availableReplicas());
+        assertEquals(List.of("replica2", "replica2"), List.of(routing.read(true), routing.read(true)));
+
+        // When
+        lag.put(firstReplica, Duration.ofSeconds(2));
+        replicaRoutingDataSource.checkReplicas();
+
+        // Then
+        assertEquals(2, replicaRoutingDataSource.availableReplicas());
+    }
+
+    @Test
+    void checkReplicas_ShouldSkipReplica_WhenProbeFails_AndFallBackToPrimary() {
+        // Given
+        ReplicaLagProbe failingProbe = (primaryConnection, replicaConnection) -> {
+            throw new SQLException("function pg_last_wal_replay_lsn() does not exist");
+        };
+        ReplicaRoutingDataSource replicaRoutingDataSource = new ReplicaRoutingDataSource(
+                primary, List.of(firstReplica), 0, failingProbe, Duration.ofSeconds(10));
+        Routing routing = new Routing(replicaRoutingDataSource);
+
+        // When
+        replicaRoutingDataSource.checkReplicas();
+
+        // Then: unlike a connection failure, the retry interval does not bring it back
+        assertEquals(0, replicaRoutingDataSource.availableReplicas());
+        assertEquals("primary", routing.read(true));
+    }
+
+    @Test
+    void checkReplicas_ShouldBringBackReplica_WhenItAcceptsConnectionsAgain() throws SQLException {
+        // Given
+        DataSource flakyReplica = mock(DataSource.class);
+        when(flakyReplica.getConnection())
+                .thenThrow(new SQLTransientConnectionException("Connection is not available"))
+                .thenAnswer(invocation -> firstReplica.getConnection());
+        ReplicaRoutingDataSource replicaRoutingDataSource =
+                new ReplicaRoutingDataSource(primary, List.of(flakyReplica), 30_000);
+        Routing routing = new Routing(replicaRoutingDataSource);
+        assertEquals("primary", routing.read(true));
+
+        // When
+        replicaRoutingDataSource.checkReplicas();
+
+        // Then: back before its retry interval is over
+        assertEquals("replica1", routing.read(true));
+    }
+
+    @Test
+    void checkReplicas_ShouldKeepPreviousResults_WhenPrimaryIsUnreachable() throws SQLException {
+        // Given
+        DataSource downPrimary = mock(DataSource.class);
+        when(downPrimary.getConnection()).thenThrow(new SQLTransientConnectionException("Connection is not available"));
+        ReplicaRoutingDataSource replicaRoutingDataSource = new ReplicaRoutingDataSource(
+                downPrimary, List.of(firstReplica), 30_000, lagOf(Map.of()), Duration.ofSeconds(10));
+
+        // When
+        replicaRoutingDataSource.checkReplicas();
+
+        // Then
+        assertEquals(1, replicaRoutingDataSource.availableReplicas());
+    }
+
+    @Test
+    void readOnlyTransaction_ShouldUsePrimary_WhenPinned() {
+        // Given
+        Routing routing = new Routing(new ReplicaRoutingDataSource(primary, List.of(firstReplica), 30_000));
+
+        // When
+        String served;
+        try (ReplicaRoutingDataSource.PrimaryPin pin = ReplicaRoutingDataSource.pinToPrimary()) {
+            served = routing.read(true);
+        }
+
+        // Then
+        assertEquals("primary", served);
+        assertFalse(ReplicaRoutingDataSource.isPinnedToPrimary());
+        assertEquals("replica1", routing.read(true));
+    }
+
+    private static DataSource database(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:routing-" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE IF NOT EXISTS marker (name VARCHAR(32))");
+        jdbcTemplate.execute("DELETE FROM marker");
+        jdbcTemplate.update("INSERT INTO marker VALUES (?)", name);
+        return dataSource;
+    }
+
+    // Reports the lag set for the replica whose marker the connection sees, none for the others
+    private ReplicaLagProbe lagOf(Map<DataSource, Duration> lag) {
+        return (primaryConnection, replicaConnection) -> {
+            String name = new JdbcTemplate(new SingleConnectionDataSource(replicaConnection, true))
+                    .queryForObject("SELECT name FROM marker", String.class);
+            DataSource replica = "replica1".equals(name) ? firstReplica : secondReplica;
+            return lag.getOrDefault(replica, Duration.ZERO);
+        };
+    }
+
+    // Wired as DatabaseConfig wires it: the router behind a lazy proxy, under a transaction manager
+    private static final class Routing {
+        private final JdbcTemplate jdbcTemplate;
+        private final DataSourceTransactionManager transactionManager;
+
+        Routing(ReplicaRoutingDataSource replicaRoutingDataSource) {
+            DataSource dataSource = new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+            this.jdbcTemplate = new JdbcTemplate(dataSource);
+            this.transactionManager = new DataSourceTransactionManager(dataSource);
+        }
+
+        String read(boolean readOnly) {
+            TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+            transactionTemplate.setReadOnly(readOnly);
+            return transactionTemplate.execute(status ->
+                    jdbcTemplate.queryForObject("SELECT name FROM marker", String.class));
+        }
+    }
+}
\ No newline at end of file
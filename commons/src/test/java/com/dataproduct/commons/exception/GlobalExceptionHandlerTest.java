@@ -0,0 +1,69 @@
+package com.dataproduct.commons.exception;
+
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.web.context.request.ServletWebRequest;
+import org.springframework.web.context.request.WebRequest;
+
+import java.sql.SQLException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class GlobalExceptionHandlerTest {
+
+    private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+    private final WebRequest request =
+            new ServletWebRequest(new MockHttpServletRequest("POST", "/api/v1/data-products"));
+
+    @Test
+    void handleDataIntegrityViolation_ShouldReturn409WithoutDriverDetails_WhenUniqueViolation() {
+        // Given
+        SQLException driverException = new SQLException(
+                "duplicate key value violates unique constraint \"uk_data_products_name\" Detail: Key (name)=(Secret)",
+                "23505");
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                new RuntimeException("wrapped", driverException));
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                handler.handleDataIntegrityViolation(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+        assertEquals("Data product conflicts with existing data", response.getBody().getMessage());
+        assertNull(response.getBody().getDetails());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_ShouldReturn409_WhenDuplicateKeyException() {
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response = handler.handleDataIntegrityViolation(
+                new DuplicateKeyException("duplicate key"), request);
+
+        // Then
+        assertEquals(HttpStatus.CONFLICT, response.getStatusCode());
+    }
+
+    @Test
+    void handleDataIntegrityViolation_ShouldReturn400WithoutDriverDetails_WhenOtherConstraint() {
+        // Given
+        SQLException driverException = new SQLException(
+                "null value in column \"name\" of relation \"data_products\" violates not-null constraint", "23502");
+        DataIntegrityViolationException ex = new DataIntegrityViolationException("could not execute statement",
+                driverException);
+
+        // When
+        ResponseEntity<GlobalExceptionHandler.ErrorResponse> response =
+                handler.handleDataIntegrityViolation(ex, request);
+
+        // Then
+        assertEquals(HttpStatus.BAD_REQUEST, response.getStatusCode());
+        assertEquals("Data product violates a data constraint", response.getBody().getMessage());
+        assertNull(response.getBody().getDetails());
+        assertFalse(response.getBody().getMessage().contains("data_products"));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,160 @@
+-- Filter benchmark: seeds 1M data products and compares, per filter combination, the first list
+-- page from a catch-all query ((:x IS NULL OR column = :x) for every filter) with the query
+-- DataProductFilterRepositoryImpl builds, which has only the predicates actually supplied.
+--
+-- Both run as prepared statements with plan_cache_mode = force_generic_plan: that is the plan a
+-- reused server-side prepared statement settles on, and the catch-all has to serve every
+-- combination with that one plan.
+--
+-- Run against a DISPOSABLE database whose schema was created by the Flyway migrations
+-- (start the API once against it), e.g.:
+--   createdb dataproduct_bench
+--   SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/dataproduct_bench ./gradlew :data-product-api:bootRun
+--   psql -d dataproduct_bench -f data-product-api/benchmark/filter-benchmark.sql
+--
+-- The script TRUNCATES data_products.
+
+\timing on
+\set ON_ERROR_STOP on
+
+TRUNCATE data_products;
+
+\echo 'Seeding 1,000,000 data products'
+INSERT INTO data_products (id, name, description, portfolio, source, sensitivity_category, data_format,
+                           owner, tags, is_active, retention_period_days, created_at, updated_at, version)
+SELECT gen_random_uuid(),
+       'product ' || i,
+       'Daily aggregate ' || i,
+       'Portfolio ' || (i % 50),
+       'source-' || (i % 200),
+       (ARRAY['PUBLIC','INTERNAL','CONFIDENTIAL','RESTRICTED'])[1 + i % 4],
+       (ARRAY['PARQUET','CSV','JSON'])[1 + i % 3],
+       'owner' || (i % 1000) || '@company.com',
+       ARRAY['domain-' || (i % 40), 'team-' || (i % 25)],
+       i % 10 <> 0,
+       365,
+       now() - make_interval(secs => i),
+       now() - make_interval(secs => i),
+       0
+FROM generate_series(1, 1000000) AS i;
+
+VACUUM ANALYZE data_products;
+
+SET plan_cache_mode = force_generic_plan;
+
+-- $1 portfolio, $2 sensitivity_category, $3 owner, $4 source, $5 data_format, $6 is_active,
+-- $7 created from (inclusive), $8 created to (exclusive)
+PREPARE catch_all(text, text, text, text, text, boolean, timestamp, timestamp) AS
+SELECT * FROM data_products
+WHERE deleted_at IS NULL
+  AND ($1 IS NULL OR portfolio = $1)
+  AND ($2 IS NULL OR sensitivity_category = $2)
+  AND ($3 IS NULL OR owner = $3)
+  AND ($4 IS NULL OR source = $4)
+  AND ($5 IS NULL OR data_format = $5)
+  AND ($6 IS NULL OR is_active = $6)
+  AND ($7 IS NULL OR created_at >= $7)
+  AND ($8 IS NULL OR created_at < $8)
+ORDER BY created_at, id
+LIMIT 20;
+
+\echo '=== No filters'
+\echo '--- catch-all'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE catch_all(NULL, NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+\echo '--- dynamic'
+PREPARE dynamic_none AS
+SELECT * FROM data_products WHERE deleted_at IS NULL ORDER BY created_at, id LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_none;
+
+\echo '=== portfolio'
+\echo '--- catch-all'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE catch_all('Portfolio 17', NULL, NULL, NULL, NULL, NULL, NULL, NULL);
+\echo '--- dynamic'
+PREPARE dynamic_portfolio(text) AS
+SELECT * FROM data_products WHERE deleted_at IS NULL AND portfolio = $1 ORDER BY created_at, id LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_portfolio('Portfolio 17');
+
+\echo '=== owner'
+\echo '--- catch-all'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE catch_all(NULL, NULL, 'owner42@company.com', NULL, NULL, NULL, NULL, NULL);
+\echo '--- dynamic'
+PREPARE dynamic_owner(text) AS
+SELECT * FROM data_products WHERE deleted_at IS NULL AND owner = $1 ORDER BY created_at, id LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_owner('owner42@company.com');
+
+\echo '=== source + isActive'
+\echo '--- catch-all'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE catch_all(NULL, NULL, NULL, 'source-7', NULL, false, NULL, NULL);
+\echo '--- dynamic'
+PREPARE dynamic_source_active(text, boolean) AS
+SELECT * FROM data_products WHERE deleted_at IS NULL AND source = $1 AND is_active = $2
+ORDER BY created_at, id LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_source_active('source-7', false);
+
+\echo '=== createdFrom + createdTo (one hour, ten days back)'
+\echo '--- catch-all'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE catch_all(NULL, NULL, NULL, NULL, NULL, NULL,
+    (now() - INTERVAL '10 days')::timestamp, (now() - INTERVAL '10 days' + INTERVAL '1 hour')::timestamp);
+\echo '--- dynamic'
+PREPARE dynamic_created(timestamp, timestamp) AS
+SELECT * FROM data_products WHERE deleted_at IS NULL AND created_at >= $1 AND created_at < $2
+ORDER BY created_at, id LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_created(
+    (now() - INTERVAL '10 days')::timestamp, (now() - INTERVAL '10 days' + INTERVAL '1 hour')::timestamp);
+
+\echo '=== portfolio + sensitivityCategory + owner + dataFormat'
+\echo '--- catch-all'
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE catch_all('Portfolio 17', 'INTERNAL', 'owner417@company.com', NULL, 'CSV',
+    NULL, NULL, NULL);
+\echo '--- dynamic'
+PREPARE dynamic_combined(text, text, text, text) AS
+SELECT * FROM data_products
+WHERE deleted_at IS NULL AND portfolio = $1 AND sensitivity_category = $2 AND owner = $3 AND data_format = $4
+ORDER BY created_at, id LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_combined('Portfolio 17', 'INTERNAL', 'owner417@company.com', 'CSV');
+
+-- Name orderings for the V9 filters; the dynamic query reads (owner|source, name) from V11
+\echo '=== owner, sort=name'
+\echo '--- catch-all'
+PREPARE catch_all_name(text, text, text, text, text, boolean, timestamp, timestamp) AS
+SELECT * FROM data_products
+WHERE deleted_at IS NULL
+  AND ($1 IS NULL OR portfolio = $1)
+  AND ($2 IS NULL OR sensitivity_category = $2)
+  AND ($3 IS NULL OR owner = $3)
+  AND ($4 IS NULL OR source = $4)
+  AND ($5 IS NULL OR data_format = $5)
+  AND ($6 IS NULL OR is_active = $6)
+  AND ($7 IS NULL OR created_at >= $7)
+  AND ($8 IS NULL OR created_at < $8)
+ORDER BY name
+LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE catch_all_name(NULL, NULL, 'owner42@company.com', NULL, NULL, NULL, NULL, NULL);
+\echo '--- dynamic'
+PREPARE dynamic_owner_name(text) AS
+SELECT * FROM data_products WHERE deleted_at IS NULL AND owner = $1 ORDER BY name LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_owner_name('owner42@company.com');
+
+\echo '=== source, sort=-name'
+\echo '--- catch-all'
+PREPARE catch_all_name_desc(text, text, text, text, text, boolean, timestamp, timestamp) AS
+SELECT * FROM data_products
+WHERE deleted_at IS NULL
+  AND ($1 IS NULL OR portfolio = $1)
+  AND ($2 IS NULL OR sensitivity_category = $2)
+  AND ($3 IS NULL OR owner = $3)
+  AND ($4 IS NULL OR source = $4)
+  AND ($5 IS NULL OR data_format = $5)
+  AND ($6 IS NULL OR is_active = $6)
+  AND ($7 IS NULL OR created_at >= $7)
+  AND ($8 IS NULL OR created_at < $8)
+ORDER BY name DESC
+LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE catch_all_name_desc(NULL, NULL, NULL, 'source-7', NULL, NULL, NULL, NULL);
+\echo '--- dynamic'
+PREPARE dynamic_source_name_desc(text) AS
+SELECT * FROM data_products WHERE deleted_at IS NULL AND source = $1 ORDER BY name DESC LIMIT 20;
+EXPLAIN (ANALYZE, BUFFERS) EXECUTE dynamic_source_name_desc('source-7');
+
+DEALLOCATE ALL;
+RESET plan_cache_mode;
\ No newline at end of file
@@ -0,0 +1,99 @@
+-- Search benchmark: seeds 1M data products and compares the tsvector/GIN query used by
+-- PostgresDataProductSearchRepository with the ILIKE scan it replaces, and shows the tag
+-- filters served by the GIN index on the tags array.
+--
+-- Run against a DISPOSABLE database whose schema was created by the Flyway migrations
+-- (start the API once against it), e.g.:
+--   createdb dataproduct_bench
+--   SPRING_DATASOURCE_URL=jdbc:postgresql://localhost:5432/dataproduct_bench ./gradlew :data-product-api:bootRun
+--   psql -d dataproduct_bench -f data-product-api/benchmark/search-benchmark.sql
+--
+-- The script TRUNCATES data_products. Seeding takes a few minutes; the search_vector triggers
+-- run for every row, so seeding time is also a rough measure of their write overhead.
+
+\timing on
+\set ON_ERROR_STOP on
+
+TRUNCATE data_products;
+
+\echo 'Seeding 1,000,000 data products with 3 tags each'
+INSERT INTO data_products (id, name, description, portfolio, source, sensitivity_category, data_format,
+                           owner, tags, is_active, retention_period_days, created_at, updated_at, version)
+SELECT gen_random_uuid(),
+       'product ' || i || ' ' || (ARRAY['customer','order','payment','inventory','shipment','invoice','ledger','marketing'])[1 + i % 8],
+       'Daily ' || (ARRAY['snapshot','feed','aggregate','extract'])[1 + i % 4] || ' of '
+           || (ARRAY['retail','wholesale','partner','internal','regional','global'])[1 + (i / 8) % 6] || ' '
+           || (ARRAY['transactions','accounts','events','balances','forecasts'])[1 + (i / 48) % 5],
+       'Portfolio ' || (i % 50),
+       'source-' || (i % 200),
+       (ARRAY['PUBLIC','INTERNAL','CONFIDENTIAL','RESTRICTED'])[1 + i % 4],
+       'PARQUET',
+       'owner' || (i % 1000) || '@company.com',
+       ARRAY['domain-' || (i % 40), 'team-' || (i % 25), CASE WHEN i % 50 = 7 THEN 'gdpr' ELSE 'core' END],
+       true,
+       365,
+       now() - make_interval(secs => i),
+       now() - make_interval(secs => i),
+       0
+FROM generate_series(1, 1000000) AS i;
+
+VACUUM ANALYZE data_products;
+
+\echo '--- Full-text, first page (GIN index)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT dp.*
+FROM data_products dp, websearch_to_tsquery('english', 'wholesale invoice') query
+WHERE dp.search_vector @@ query
+ORDER BY ts_rank_cd(dp.search_vector, query) DESC, dp.created_at, dp.id
+LIMIT 20;
+
+\echo '--- Full-text, total count'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT count(*)
+FROM data_products dp, websearch_to_tsquery('english', 'wholesale invoice') query
+WHERE dp.search_vector @@ query;
+
+\echo '--- Full-text combined with filters'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT dp.*
+FROM data_products dp, websearch_to_tsquery('english', 'gdpr forecasts') query
+WHERE dp.search_vector @@ query
+  AND dp.portfolio = 'Portfolio 17'
+  AND dp.sensitivity_category = 'RESTRICTED'
+ORDER BY ts_rank_cd(dp.search_vector, query) DESC, dp.created_at, dp.id
+LIMIT 20;
+
+\echo '--- Baseline: ILIKE over name, description and tags (sequential scan)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT dp.*
+FROM data_products dp
+WHERE (dp.name ILIKE '%invoice%' OR dp.description ILIKE '%invoice%'
+       OR array_to_string(dp.tags, ' ') ILIKE '%invoice%')
+  AND dp.description ILIKE '%wholesale%'
+ORDER BY dp.created_at, dp.id
+LIMIT 20;
+
+\echo '--- Tag filter, any of (tags && ARRAY[...], GIN index)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT dp.*
+FROM data_products dp
+WHERE dp.tags && ARRAY['domain-3', 'domain-17']::text[]
+ORDER BY dp.created_at, dp.id
+LIMIT 20;
+
+\echo '--- Tag filter, all of (one tags @> ARRAY[...] per tag, GIN index)'
+EXPLAIN (ANALYZE, BUFFERS)
+SELECT dp.*
+FROM data_products dp
+WHERE dp.tags @> ARRAY['gdpr']::text[]
+  AND dp.tags @> ARRAY['team-4']::text[]
+ORDER BY dp.created_at, dp.id
+LIMIT 20;
+
+\echo '--- Write overhead: update one product''s tags (search_vector trigger)'
+BEGIN;
+EXPLAIN (ANALYZE)
+UPDATE data_products
+SET tags = ARRAY['domain-1', 'team-1', 'core']
+WHERE id = (SELECT id FROM data_products ORDER BY created_at LIMIT 1);
+ROLLBACK;
\ No newline at end of file
@@ -0,0 +1,76 @@
+#!/usr/bin/env bash
+# Virtual-thread benchmark: runs the API in platform-thread mode and in virtual-thread mode and
+# drives both with 1,000 and 10,000 concurrent clients. The virtual-thread run is recorded with
+# JFR and -Djdk.tracePinnedThreads, and a pinning report is printed at the end: every stack that
+# blocked while holding a monitor (synchronized) on a virtual thread, grouped by frame.
+#
+# Requires a PostgreSQL database created by the Flyway migrations, `hey`
+# (https://github.com/rakyll/hey), curl and a JDK 21 `jfr` on the PATH. Raise the open file limit
+# first for the 10k run, e.g. `ulimit -n 65536`. Usage:
+#   ./gradlew :data-product-api:bootJar
+#   data-product-api/benchmark/virtual-threads-benchmark.sh
+#
+# The script creates data products named "vt-bench-*" and leaves them in place.
+
+set -euo pipefail
+
+JAR=${JAR:-data-product-api/build/libs/data-product-api-1.0.0.jar}
+BASE_URL=${BASE_URL:-http://localhost:8080}
+REQUESTS_PER_CLIENT=${REQUESTS_PER_CLIENT:-20}
+OUT=${OUT:-build/virtual-threads-benchmark}
+ENDPOINT="$BASE_URL/api/v1/data-products?limit=20"
+
+mkdir -p "$OUT"
+
+start_api() {
+    local mode=$1; shift
+    java "$@" -jar "$JAR" --spring.threads.virtual.enabled="$([ "$mode" = virtual ] && echo true || echo false)" \
+        --logging.level.com.dataproduct=INFO --logging.level.org.hibernate.SQL=WARN \
+        --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+        > "$OUT/$mode.log" 2>&1 &
+    API_PID=$!
+    until curl -sf "$BASE_URL/actuator/health" > /dev/null; do sleep 1; done
+}
+
+stop_api() {
+    kill "$API_PID"
+    wait "$API_PID" || true
+}
+
+seed() {
+    local body="["
+    for i in $(seq 1 500); do
+        body+="{\"name\":\"vt-bench-$i\",\"portfolio\":\"Benchmark\",\"source\":\"bench\",\"sensitivityCategory\":\"INTERNAL\"},"
+    done
+    curl -sf -X POST "$BASE_URL/api/v1/data-products/batch?upsert=true" \
+        -H 'Content-Type: application/json' -d "${body%,}]" > /dev/null
+}
+
+run_load() {
+    local mode=$1
+    for clients in 1000 10000; do
+        echo "--- $mode threads, $clients concurrent clients"
+        hey -c "$clients" -n $((clients * REQUESTS_PER_CLIENT)) -t 60 "$ENDPOINT" | tee "$OUT/$mode-$clients.txt" \
+            | grep -E 'Requests/sec|Average|Slowest|99% in|\[[0-9]{3}\]|Error distribution' || true
+    done
+}
+
+echo '=== Platform threads (Tomcat pool, server.tomcat.threads.max=200)'
+start_api platform
+seed
+run_load platform
+stop_api
+
+echo '=== Virtual threads'
+start_api virtual -Djdk.tracePinnedThreads=short \
+    "-XX:StartFlightRecording=filename=$OUT/virtual.jfr,settings=profile,jdk.VirtualThreadPinned#threshold=1ms"
+run_load virtual
+stop_api
+
+echo '=== Pinning report (jdk.VirtualThreadPinned, longest first)'
+jfr view --width 200 pinned-threads "$OUT/virtual.jfr" || jfr summary "$OUT/virtual.jfr"
+
+echo '=== Pinned frames reported by -Djdk.tracePinnedThreads, by occurrences'
+grep -E '<== monitors:' "$OUT/virtual.log" | sed 's/^[[:space:]]*//' | sort | uniq -c | sort -rn | head -20 || true
+
+echo "Raw hey output, logs and the JFR recording are in $OUT"
@@ -0,0 +1,126 @@
+package com.dataproduct.api.autocomplete;
+
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.repository.DataProductNameAndOwner;
+import com.dataproduct.api.repository.DataProductRepository;
+import com.dataproduct.commons.config.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * In-memory name and owner prefix index behind GET /api/v1/data-products/autocomplete. It is
+ * loaded once the application is ready, kept current from committed DataProductChangedEvents and
+ * fully reloaded on a fixed delay to pick up writes made by other instances.
+ */
+@Component
+public class DataProductAutocompleteIndex {
+
+    public enum Field {
+        NAME, OWNER
+    }
+
+    private record Entry(String name, String owner) {}
+
+    private static final class Snapshot {
+        private final Map<UUID, Entry> entries = new HashMap<>();
+        private final PrefixIndex names = new PrefixIndex();
+        private final PrefixIndex owners = new PrefixIndex();
+
+        void put(UUID id, String name, String owner) {
+            Entry previous = entries.put(id, new Entry(name, owner));
+            if (previous != null) {
+                names.remove(previous.name());
+                owners.remove(previous.owner());
+            }
+            names.add(name);
+            owners.add(owner);
+        }
+
+        void remove(UUID id) {
+            Entry previous = entries.remove(id);
+            if (previous != null) {
+                names.remove(previous.name());
+                owners.remove(previous.owner());
+            }
+        }
+
+        void apply(DataProductChangedEvent event) {
+            if (event.type() == DataProductChangedEvent.ChangeType.DELETED) {
+                remove(event.id());
+            } else {
+                put(event.id(), event.name(), event.owner());
+            }
+        }
+    }
+
+    private final DataProductRepository dataProductRepository;
+    private final Object writeLock = new Object();
+
+    // Readers only touch the skip lists of the current snapshot; everything else is guarded by writeLock
+    private volatile Snapshot snapshot = new Snapshot();
+    private List<DataProductChangedEvent> changesDuringRebuild;
+
+    @Autowired
+    public DataProductAutocompleteIndex(DataProductRepository dataProductRepository) {
+        this.dataProductRepository = dataProductRepository;
+    }
+
+    public List<String> suggest(Field field, String prefix, int limit) {
+        Snapshot current = snapshot;
+        PrefixIndex index = field == Field.OWNER ? current.owners : current.names;
+        return index.lookup(prefix, limit);
+    }
+
+    @TransactionalEventListener
+    public void onDataProductChanged(DataProductChangedEvent event) {
+        synchronized (writeLock) {
+            snapshot.apply(event);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(event);
+            }
+        }
+    }
+
+    /**
+     * Loads a fresh snapshot without blocking readers or event listeners, then swaps it in after
+     * replaying the events that arrived meanwhile. Replays are idempotent, so an event already
+     * reflected in the loaded rows does no harm.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${dataproduct.autocomplete.refresh-interval:PT5M}",
+               fixedDelayString = "${dataproduct.autocomplete.refresh-interval:PT5M}")
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (writeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        Snapshot fresh = new Snapshot();
+        // Only events from here on are replayed, so the rows must not lag behind them on a replica
+        try (ReplicaRoutingDataSource.PrimaryPin pin = ReplicaRoutingDataSource.pinToPrimary();
+             Stream<DataProductNameAndOwner> rows = dataProductRepository.streamNamesAndOwners()) {
+            rows.forEach(row -> fresh.put(row.id(), row.name(), row.owner()));
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                changesDuringRebuild = null;
+            }
+            throw e;
+        }
+        synchronized (writeLock) {
+            changesDuringRebuild.forEach(fresh::apply);
+            changesDuringRebuild = null;
+            snapshot = fresh;
+        }
+    }
+}
\ No newline at end of file
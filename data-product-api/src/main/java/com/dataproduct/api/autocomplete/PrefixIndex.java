@@ -0,0 +1,57 @@
+package com.dataproduct.api.autocomplete;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+
+/**
+ * Sorted, case-insensitive multiset of terms answering prefix queries in O(log n + limit).
+ * Lookups are lock-free; add and remove must be serialized by the caller. Each distinct term is
+ * stored once with a reference count, so an owner shared by many data products costs one entry.
+ */
+class PrefixIndex {
+
+    private record Term(String display, int count) {}
+
+    private final ConcurrentSkipListMap<String, Term> terms = new ConcurrentSkipListMap<>();
+
+    void add(String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        terms.merge(normalize(value), new Term(value, 1),
+                (existing, added) -> new Term(existing.display(), existing.count() + 1));
+    }
+
+    void remove(String value) {
+        if (value == null || value.isBlank()) {
+            return;
+        }
+        terms.computeIfPresent(normalize(value),
+                (key, existing) -> existing.count() > 1 ? new Term(existing.display(), existing.count() - 1) : null);
+    }
+
+    List<String> lookup(String prefix, int limit) {
+        String from = normalize(prefix);
+        ConcurrentNavigableMap<String, Term> matches = terms.subMap(from, true, from + Character.MAX_VALUE, false);
+        List<String> suggestions = new ArrayList<>(Math.min(limit, 16));
+        for (Map.Entry<String, Term> entry : matches.entrySet()) {
+            if (suggestions.size() == limit) {
+                break;
+            }
+            suggestions.add(entry.getValue().display());
+        }
+        return suggestions;
+    }
+
+    int size() {
+        return terms.size();
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.dataproduct.api.cache;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.api.service.DataProductService;
+import com.dataproduct.commons.config.ReplicaRoutingDataSource;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.LoadingCache;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.UncheckedIOException;
+import java.time.Duration;
+import java.util.UUID;
+
+/**
+ * Holds the serialized JSON of DataProductResponse by id, together with the entity version it was
+ * rendered from, so a detail hit skips the database, the mapper and Jackson. Entries are evicted
+ * after the writing transaction commits; the TTL bounds staleness for a load that raced with a
+ * concurrent commit. Misses are read from the primary: an entry is served to every client without
+ * reaching ReadYourWritesFilter, and a replica could still hold the row the eviction was for.
+ */
+@Component
+public class DataProductResponseCache {
+
+    public static final String CACHE_NAME = "dataProductResponses";
+
+    private final DataProductService dataProductService;
+    private final DataProductMapper dataProductMapper;
+    private final ObjectMapper objectMapper;
+    private final LoadingCache<UUID, CachedResponse> cache;
+
+    public DataProductResponseCache(
+            DataProductService dataProductService,
+            DataProductMapper dataProductMapper,
+            ObjectMapper objectMapper,
+            MeterRegistry meterRegistry,
+            @Value("${dataproduct.cache.detail.maximum-size:10000}") long maximumSize,
+            @Value("${dataproduct.cache.detail.ttl:5m}") Duration ttl) {
+        this.dataProductService = dataProductService;
+        this.dataProductMapper = dataProductMapper;
+        this.objectMapper = objectMapper;
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build(this::load);
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, CACHE_NAME);
+    }
+
+    public CachedResponse get(UUID id) {
+        return cache.get(id);
+    }
+
+    /**
+     * Current version of the data product, answered from the cache when possible and otherwise
+     * with a version-only query, without rendering the response.
+     */
+    public long getVersion(UUID id) {
+        CachedResponse cached = cache.getIfPresent(id);
+        if (cached != null) {
+            return cached.version();
+        }
+        try (ReplicaRoutingDataSource.PrimaryPin pin = ReplicaRoutingDataSource.pinToPrimary()) {
+            return dataProductService.getDataProductVersion(id);
+        }
+    }
+
+    public void invalidate(UUID id) {
+        cache.invalidate(id);
+    }
+
+    @TransactionalEventListener
+    public void onDataProductChanged(DataProductChangedEvent event) {
+        if (event.type() != DataProductChangedEvent.ChangeType.CREATED) {
+            cache.invalidate(event.id());
+        }
+    }
+
+    // Caffeine loads on the calling thread, which the pin is bound to
+    private CachedResponse load(UUID id) {
+        DataProduct dataProduct;
+        try (ReplicaRoutingDataSource.PrimaryPin pin = ReplicaRoutingDataSource.pinToPrimary()) {
+            dataProduct = dataProductService.getDataProductById(id);
+        }
+        try {
+            return new CachedResponse(dataProduct.getVersion(),
+                    objectMapper.writeValueAsBytes(dataProductMapper.toResponse(dataProduct)));
+        } catch (JsonProcessingException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    public record CachedResponse(long version, byte[] body) {
+    }
+}
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.dataproduct.api.changes;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.entity.DataProductOutboxEvent;
+
+import java.util.List;
+
+/**
+ * Changes after a cursor in sequence order. nextSince is the cursor to resume from: the last
+ * entry's sequence, or the requested one when nothing new has been committed.
+ */
+public record DataProductChangeBatch(List<Entry> entries, long nextSince, boolean hasMore) {
+
+    /**
+     * dataProduct is the current state, null when the data product no longer exists.
+     */
+    public record Entry(DataProductOutboxEvent event, DataProduct dataProduct) {
+    }
+
+    public static DataProductChangeBatch empty(long since) {
+        return new DataProductChangeBatch(List.of(), since, false);
+    }
+}
\ No newline at end of file
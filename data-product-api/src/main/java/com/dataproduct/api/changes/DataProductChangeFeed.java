@@ -0,0 +1,98 @@
+package com.dataproduct.api.changes;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.entity.DataProductOutboxEvent;
+import com.dataproduct.api.entity.DataProductOutboxState;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.repository.DataProductOutboxRepository;
+import com.dataproduct.api.repository.DataProductRepository;
+import com.dataproduct.commons.config.ReplicaRoutingDataSource;
+import com.dataproduct.commons.exception.DataProductChangesExpiredException;
+import jakarta.persistence.EntityManager;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Reads the outbox after a cursor and joins each change with the data product's current state.
+ * Consumers apply entries idempotently, so serving current rather than historical state is what
+ * allows the retention job to compact superseded rows.
+ */
+@Component
+public class DataProductChangeFeed {
+
+    private final DataProductOutboxRepository dataProductOutboxRepository;
+    private final DataProductRepository dataProductRepository;
+    private final EntityManager entityManager;
+
+    @Autowired
+    public DataProductChangeFeed(DataProductOutboxRepository dataProductOutboxRepository,
+                                 DataProductRepository dataProductRepository, EntityManager entityManager) {
+        this.dataProductOutboxRepository = dataProductOutboxRepository;
+        this.dataProductRepository = dataProductRepository;
+        this.entityManager = entityManager;
+    }
+
+    @Transactional(readOnly = true)
+    public DataProductChangeBatch read(long since, int limit) {
+        try (ReplicaRoutingDataSource.PrimaryPin pin = ReplicaRoutingDataSource.pinToPrimary()) {
+            return readFromPrimary(since, limit);
+        }
+    }
+
+    // Readers are woken by commits on the primary, which a replica may not have applied yet
+    private DataProductChangeBatch readFromPrimary(long since, int limit) {
+        List<DataProductOutboxEvent> events = dataProductOutboxRepository.findBySequenceGreaterThanOrderBySequence(
+                since, PageRequest.of(0, limit + 1));
+        // Checked after the read: a prune committed in between is then seen and rejected, not skipped over
+        checkRetainedOnPrimary(since);
+        boolean hasMore = events.size() > limit;
+        if (hasMore) {
+            events = events.subList(0, limit);
+        }
+        if (events.isEmpty()) {
+            return DataProductChangeBatch.empty(since);
+        }
+
+        List<UUID> liveIds = events.stream()
+                .filter(event -> event.getChangeType() != DataProductChangedEvent.ChangeType.DELETED)
+                .map(DataProductOutboxEvent::getDataProductId)
+                .distinct()
+                .toList();
+        Map<UUID, DataProduct> dataProducts = dataProductRepository.findAllById(liveIds).stream()
+                .collect(Collectors.toMap(DataProduct::getId, Function.identity()));
+
+        List<DataProductChangeBatch.Entry> entries = new ArrayList<>(events.size());
+        for (DataProductOutboxEvent event : events) {
+            entries.add(new DataProductChangeBatch.Entry(event, dataProducts.get(event.getDataProductId())));
+        }
+        return new DataProductChangeBatch(entries, events.get(events.size() - 1).getSequence(), hasMore);
+    }
+
+    /**
+     * Rejects a cursor the retention job has pruned past: changes the consumer has not seen may be
+     * gone, so it has to resync from the list endpoint and resume from the current sequence.
+     */
+    @Transactional(readOnly = true)
+    public void checkRetained(long since) {
+        try (ReplicaRoutingDataSource.PrimaryPin pin = ReplicaRoutingDataSource.pinToPrimary()) {
+            checkRetainedOnPrimary(since);
+        }
+    }
+
+    private void checkRetainedOnPrimary(long since) {
+        DataProductOutboxState state = entityManager.find(DataProductOutboxState.class, DataProductOutboxState.ID);
+        if (state != null && since < state.getPrunedThrough()) {
+            throw new DataProductChangesExpiredException(
+                    "Changes after sequence " + since + " are no longer retained", state.getLastSequence());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,194 @@
+package com.dataproduct.api.changes;
+
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.commons.exception.DataProductChangesExpiredException;
+import jakarta.annotation.PreDestroy;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Serves the change feed as long polls and SSE streams. Nothing waits on a request thread: long
+ * polls park a future and SSE connections an emitter, and each commit wakes them to re-read the
+ * outbox on the application task executor. The commit counter closes the window between a
+ * reader's last empty read and its registration.
+ */
+@Component
+public class DataProductChangeNotifier {
+
+    static final int STREAM_BATCH_SIZE = 500;
+
+    private final DataProductChangeFeed dataProductChangeFeed;
+    private final DataProductMapper dataProductMapper;
+    private final Executor executor;
+    private final AtomicLong commits = new AtomicLong();
+    private final Set<Waiter> waiters = ConcurrentHashMap.newKeySet();
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    @Autowired
+    public DataProductChangeNotifier(DataProductChangeFeed dataProductChangeFeed, DataProductMapper dataProductMapper,
+                                     @Qualifier("applicationTaskExecutor") Executor executor) {
+        this.dataProductChangeFeed = dataProductChangeFeed;
+        this.dataProductMapper = dataProductMapper;
+        this.executor = executor;
+    }
+
+    /**
+     * Changes after since, waiting up to wait for the first one to be committed. Completes with an
+     * empty batch when the wait runs out.
+     */
+    public CompletableFuture<DataProductChangeBatch> poll(long since, int limit, Duration wait) {
+        long commitsBeforeRead = commits.get();
+        DataProductChangeBatch batch = dataProductChangeFeed.read(since, limit);
+        if (!batch.entries().isEmpty() || wait.isZero()) {
+            return CompletableFuture.completedFuture(batch);
+        }
+
+        Waiter waiter = new Waiter(since, limit, new CompletableFuture<>());
+        waiter.result.completeOnTimeout(batch, wait.toMillis(), TimeUnit.MILLISECONDS)
+                .whenComplete((result, error) -> waiters.remove(waiter));
+        register(waiter, commitsBeforeRead);
+        return waiter.result;
+    }
+
+    /**
+     * Streams changes after since, then every change as it commits, until the client disconnects.
+     */
+    public SseEmitter subscribe(long since) {
+        dataProductChangeFeed.checkRetained(since);
+
+        Subscriber subscriber = new Subscriber(new SseEmitter(), since);
+        subscriber.emitter.onCompletion(subscriber::close);
+        subscriber.emitter.onTimeout(subscriber::close);
+        subscriber.emitter.onError(error -> subscriber.close());
+        subscribers.add(subscriber);
+        subscriber.signal();
+        return subscriber.emitter;
+    }
+
+    @TransactionalEventListener
+    public void onDataProductChanged(DataProductChangedEvent event) {
+        commits.incrementAndGet();
+        for (Waiter waiter : waiters) {
+            if (waiters.remove(waiter)) {
+                executor.execute(() -> deliver(waiter));
+            }
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.signal();
+        }
+    }
+
+    @PreDestroy
+    public void close() {
+        for (Subscriber subscriber : subscribers) {
+            subscriber.emitter.complete();
+        }
+    }
+
+    private void deliver(Waiter waiter) {
+        if (waiter.result.isDone()) {
+            return;
+        }
+        long commitsBeforeRead = commits.get();
+        try {
+            DataProductChangeBatch batch = dataProductChangeFeed.read(waiter.since, waiter.limit);
+            if (!batch.entries().isEmpty()) {
+                waiter.result.complete(batch);
+                return;
+            }
+        } catch (RuntimeException e) {
+            waiter.result.completeExceptionally(e);
+            return;
+        }
+        register(waiter, commitsBeforeRead);
+    }
+
+    private void register(Waiter waiter, long commitsBeforeRead) {
+        waiters.add(waiter);
+        if (commits.get() != commitsBeforeRead && waiters.remove(waiter)) {
+            executor.execute(() -> deliver(waiter));
+        }
+    }
+
+    private record Waiter(long since, int limit, CompletableFuture<DataProductChangeBatch> result) {
+    }
+
+    private final class Subscriber {
+        private final SseEmitter emitter;
+        private final ReentrantLock sendLock = new ReentrantLock();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+        private volatile boolean closed;
+        private long lastSequence;
+
+        Subscriber(SseEmitter emitter, long since) {
+            this.emitter = emitter;
+            this.lastSequence = since;
+        }
+
+        // At most one drain queued behind the running one, however many commits arrive meanwhile
+        void signal() {
+            if (!closed && scheduled.compareAndSet(false, true)) {
+                executor.execute(this::drain);
+            }
+        }
+
+        void close() {
+            closed = true;
+            subscribers.remove(this);
+        }
+
+        private void drain() {
+            scheduled.set(false);
+            sendLock.lock();
+            try {
+                DataProductChangeBatch batch;
+                do {
+                    if (closed) {
+                        return;
+                    }
+                    batch = dataProductChangeFeed.read(lastSequence, STREAM_BATCH_SIZE);
+                    for (DataProductChangeBatch.Entry entry : batch.entries()) {
+                        emitter.send(SseEmitter.event()
+                                .id(String.valueOf(entry.event().getSequence()))
+                                .name(entry.event().getChangeType().name())
+                                .data(dataProductMapper.toChange(entry), MediaType.APPLICATION_JSON));
+                        lastSequence = entry.event().getSequence();
+                    }
+                } while (batch.hasMore());
+            } catch (DataProductChangesExpiredException e) {
+                sendExpired(e);
+            } catch (IOException | RuntimeException e) {
+                close();
+                emitter.completeWithError(e);
+            } finally {
+                sendLock.unlock();
+            }
+        }
+
+        private void sendExpired(DataProductChangesExpiredException e) {
+            close();
+            try {
+                emitter.send(SseEmitter.event().name("EXPIRED").data(e.getLatestSequence()));
+                emitter.complete();
+            } catch (IOException sendFailure) {
+                emitter.completeWithError(sendFailure);
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,100 @@
+package com.dataproduct.api.changes;
+
+import com.dataproduct.api.entity.DataProductOutboxEvent;
+import com.dataproduct.api.entity.DataProductOutboxState;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.repository.DataProductOutboxRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.LockModeType;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Writes outbox rows inside the caller's transaction. The rows are only written just before it
+ * commits, after the caller's own changes have been flushed: that is when the state row gets
+ * locked, and it stays locked until the commit, so sequence numbers follow commit order.
+ * <p>
+ * Every writing transaction still queues on that one row for its outbox INSERTs and its commit,
+ * which caps catalog writes at roughly one commit per commit latency, a few thousand per second
+ * on local disks and less with synchronous replication. Writers therefore keep transactions
+ * short: the batch endpoint takes at most 1000 items, and imports and retention commit per chunk.
+ */
+@Component
+public class DataProductOutbox {
+
+    private final EntityManager entityManager;
+    private final DataProductOutboxRepository dataProductOutboxRepository;
+
+    @Autowired
+    public DataProductOutbox(EntityManager entityManager, DataProductOutboxRepository dataProductOutboxRepository) {
+        this.entityManager = entityManager;
+        this.dataProductOutboxRepository = dataProductOutboxRepository;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(DataProductChangedEvent event) {
+        pendingEvents().add(event);
+    }
+
+    private List<DataProductChangedEvent> pendingEvents() {
+        @SuppressWarnings("unchecked")
+        List<DataProductChangedEvent> pending =
+                (List<DataProductChangedEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<DataProductChangedEvent> events = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, events);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    write(events);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DataProductOutbox.this);
+                }
+            });
+            pending = events;
+        }
+        return pending;
+    }
+
+    // Flushing through the repository translates a constraint violation in the caller's changes as
+    // the commit would have, and keeps that work from running under the lock
+    private void write(List<DataProductChangedEvent> events) {
+        dataProductOutboxRepository.flush();
+        DataProductOutboxState state = lockState();
+        LocalDateTime changedAt = LocalDateTime.now();
+        for (DataProductChangedEvent event : events) {
+            entityManager.persist(new DataProductOutboxEvent(
+                    state.nextSequence(), event.id(), event.type(), changedAt));
+        }
+        dataProductOutboxRepository.flush();
+    }
+
+    /**
+     * The state row, locked for the rest of the transaction. Later calls in the same transaction
+     * find it already locked in the persistence context and issue no SQL.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public DataProductOutboxState lockState() {
+        DataProductOutboxState state = entityManager.find(
+                DataProductOutboxState.class, DataProductOutboxState.ID, LockModeType.PESSIMISTIC_WRITE);
+        if (state == null) {
+            // Flyway inserts the row; schemas generated by Hibernate (tests) start without it. Flushed
+            // so that locking it again later in the transaction finds the row
+            state = new DataProductOutboxState(DataProductOutboxState.ID);
+            entityManager.persist(state);
+            entityManager.flush();
+        }
+        return state;
+    }
+}
\ No newline at end of file
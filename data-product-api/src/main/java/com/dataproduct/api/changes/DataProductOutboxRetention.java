@@ -0,0 +1,62 @@
+package com.dataproduct.api.changes;
+
+import com.dataproduct.api.entity.DataProductOutboxState;
+import com.dataproduct.api.repository.DataProductOutboxRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+/**
+ * Keeps the outbox bounded: rows superseded by a later change to the same data product are
+ * compacted away, and everything older than the retention period is pruned. Pruning raises the
+ * state's prunedThrough, so cursors behind it are rejected instead of silently skipping changes.
+ */
+@Component
+public class DataProductOutboxRetention {
+
+    private final DataProductOutboxRepository dataProductOutboxRepository;
+    private final DataProductOutbox dataProductOutbox;
+    private final Duration retention;
+
+    @Autowired
+    public DataProductOutboxRetention(DataProductOutboxRepository dataProductOutboxRepository,
+                                      DataProductOutbox dataProductOutbox,
+                                      @Value("${dataproduct.changes.retention:P7D}") Duration retention) {
+        this.dataProductOutboxRepository = dataProductOutboxRepository;
+        this.dataProductOutbox = dataProductOutbox;
+        this.retention = retention;
+    }
+
+    @Scheduled(initialDelayString = "${dataproduct.changes.compaction-interval:PT1H}",
+               fixedDelayString = "${dataproduct.changes.compaction-interval:PT1H}")
+    @Transactional
+    public void compact() {
+        dataProductOutboxRepository.deleteSuperseded();
+        pruneBefore(LocalDateTime.now().minus(retention));
+    }
+
+    /**
+     * Removes every change recorded before the cutoff and returns the highest removed sequence,
+     * or 0 when there was nothing to remove.
+     */
+    @Transactional
+    public long pruneBefore(LocalDateTime cutoff) {
+        Long through = dataProductOutboxRepository.findLastSequenceBefore(cutoff).orElse(null);
+        if (through == null) {
+            return 0;
+        }
+        // prunedThrough moves in the same commit as the delete; the state row is locked after the
+        // delete so writers only wait for the commit
+        dataProductOutboxRepository.deleteThrough(through);
+        DataProductOutboxState state = dataProductOutbox.lockState();
+        if (through > state.getPrunedThrough()) {
+            state.setPrunedThrough(through);
+        }
+        return through;
+    }
+}
\ No newline at end of file
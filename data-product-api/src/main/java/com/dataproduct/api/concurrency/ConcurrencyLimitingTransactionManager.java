@@ -0,0 +1,96 @@
+package com.dataproduct.api.concurrency;
+
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Admits at most a fixed number of outermost transactions at a time, one permit per pooled
+ * connection. Callers beyond that wait on a fair semaphore, which parks virtual threads without
+ * pinning them, before Hibernate opens a session or asks the pool for a connection; if no permit
+ * frees up within the timeout they fail fast with CannotCreateTransactionException. Transactions
+ * that join an existing one don't take another permit.
+ */
+class ConcurrencyLimitingTransactionManager implements PlatformTransactionManager {
+
+    private final PlatformTransactionManager delegate;
+    private final Semaphore permits;
+    private final long acquireTimeoutMillis;
+    // The outermost transaction that holds this thread's permit
+    private final ThreadLocal<TransactionStatus> permitHolder = new ThreadLocal<>();
+
+    ConcurrencyLimitingTransactionManager(PlatformTransactionManager delegate, int maxConcurrentTransactions,
+                                          long acquireTimeoutMillis) {
+        this.delegate = delegate;
+        this.permits = new Semaphore(maxConcurrentTransactions, true);
+        this.acquireTimeoutMillis = acquireTimeoutMillis;
+    }
+
+    @Override
+    public TransactionStatus getTransaction(TransactionDefinition definition) throws TransactionException {
+        if (permitHolder.get() != null || TransactionSynchronizationManager.isActualTransactionActive()) {
+            return delegate.getTransaction(definition);
+        }
+        acquire();
+        TransactionStatus status;
+        try {
+            status = delegate.getTransaction(definition);
+        } catch (RuntimeException | Error e) {
+            permits.release();
+            throw e;
+        }
+        if (status.isNewTransaction()) {
+            permitHolder.set(status);
+        } else {
+            permits.release();
+        }
+        return status;
+    }
+
+    @Override
+    public void commit(TransactionStatus status) throws TransactionException {
+        try {
+            delegate.commit(status);
+        } finally {
+            releaseIfHolder(status);
+        }
+    }
+
+    @Override
+    public void rollback(TransactionStatus status) throws TransactionException {
+        try {
+            delegate.rollback(status);
+        } finally {
+            releaseIfHolder(status);
+        }
+    }
+
+    int availablePermits() {
+        return permits.availablePermits();
+    }
+
+    private void acquire() {
+        try {
+            if (!permits.tryAcquire(acquireTimeoutMillis, TimeUnit.MILLISECONDS)) {
+                throw new CannotCreateTransactionException(
+                        "Database is saturated: no connection permit within " + acquireTimeoutMillis + "ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CannotCreateTransactionException("Interrupted while waiting for a connection permit", e);
+        }
+    }
+
+    private void releaseIfHolder(TransactionStatus status) {
+        if (permitHolder.get() == status) {
+            permitHolder.remove();
+            permits.release();
+        }
+    }
+}
\ No newline at end of file
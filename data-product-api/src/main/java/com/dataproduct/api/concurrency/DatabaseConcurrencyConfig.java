@@ -0,0 +1,37 @@
+package com.dataproduct.api.concurrency;
+
+import com.zaxxer.hikari.HikariDataSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.boot.autoconfigure.transaction.TransactionManagerCustomizers;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionManager;
+
+/**
+ * Virtual-thread mode (spring.threads.virtual.enabled=true) runs Tomcat requests, @Async work and
+ * @Scheduled jobs on virtual threads, so request concurrency is no longer capped by the Tomcat
+ * pool. This replaces Boot's JPA transaction manager with one that admits only as many
+ * transactions as the Hikari pool has connections; OpenInViewEnvironmentPostProcessor makes sure
+ * each connection is returned when its transaction ends.
+ */
+@Configuration
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class DatabaseConcurrencyConfig {
+
+    @Bean
+    public PlatformTransactionManager transactionManager(
+            EntityManagerFactory entityManagerFactory,
+            HikariDataSource dataSource,
+            ObjectProvider<TransactionManagerCustomizers> transactionManagerCustomizers) {
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory);
+        transactionManagerCustomizers.ifAvailable(
+                customizers -> customizers.customize((TransactionManager) transactionManager));
+        return new ConcurrencyLimitingTransactionManager(
+                transactionManager, dataSource.getMaximumPoolSize(), dataSource.getConnectionTimeout());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.dataproduct.api.concurrency;
+
+import org.apache.commons.logging.Log;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.env.EnvironmentPostProcessor;
+import org.springframework.boot.logging.DeferredLogFactory;
+import org.springframework.core.env.ConfigurableEnvironment;
+import org.springframework.core.env.MapPropertySource;
+
+import java.util.Map;
+
+/**
+ * Turns off open-in-view in virtual-thread mode. Hibernate holds a session's connection until the
+ * session closes, so with open-in-view the connection outlives the transaction and stays checked
+ * out until the request ends, after DatabaseConcurrencyConfig has already handed its permit to the
+ * next transaction. Without it the session, and the connection, close at commit or rollback.
+ */
+public class OpenInViewEnvironmentPostProcessor implements EnvironmentPostProcessor {
+
+    static final String OPEN_IN_VIEW = "spring.jpa.open-in-view";
+
+    private final Log log;
+
+    public OpenInViewEnvironmentPostProcessor(DeferredLogFactory logFactory) {
+        this.log = logFactory.getLog(OpenInViewEnvironmentPostProcessor.class);
+    }
+
+    @Override
+    public void postProcessEnvironment(ConfigurableEnvironment environment, SpringApplication application) {
+        if (!environment.getProperty("spring.threads.virtual.enabled", Boolean.class, false)) {
+            return;
+        }
+        if (environment.getProperty(OPEN_IN_VIEW, Boolean.class, false)) {
+            log.warn(OPEN_IN_VIEW + "=true is ignored with virtual threads; connections must be released at commit");
+        }
+        environment.getPropertySources().addFirst(
+                new MapPropertySource("virtualThreadsOpenInView", Map.of(OPEN_IN_VIEW, false)));
+    }
+}
\ No newline at end of file
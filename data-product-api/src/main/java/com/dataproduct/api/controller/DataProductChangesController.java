@@ -0,0 +1,78 @@
+package com.dataproduct.api.controller;
+
+import com.dataproduct.api.changes.DataProductChangeNotifier;
+import com.dataproduct.api.generated.model.DataProductChangesResponse;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.commons.exception.InvalidRequestException;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * The change feed endpoint of the "Data Product Streaming" tag, implemented by hand because the
+ * generated interface can return neither a future nor an SseEmitter.
+ */
+@RestController
+@Timed(value = "dataproduct.api.requests", histogram = true)
+public class DataProductChangesController {
+
+    static final int MAX_LIMIT = 1000;
+    static final int MAX_WAIT_SECONDS = 60;
+
+    private final DataProductChangeNotifier dataProductChangeNotifier;
+    private final DataProductMapper dataProductMapper;
+
+    @Autowired
+    public DataProductChangesController(DataProductChangeNotifier dataProductChangeNotifier,
+                                        DataProductMapper dataProductMapper) {
+        this.dataProductChangeNotifier = dataProductChangeNotifier;
+        this.dataProductMapper = dataProductMapper;
+    }
+
+    @GetMapping("/api/v1/data-products/changes")
+    public CompletableFuture<ResponseEntity<DataProductChangesResponse>> getDataProductChanges(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestParam(value = "limit", defaultValue = "100") int limit,
+            @RequestParam(value = "wait", defaultValue = "0") int wait) {
+        checkSince(since);
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new InvalidRequestException("limit must be between 1 and " + MAX_LIMIT);
+        }
+        if (wait < 0 || wait > MAX_WAIT_SECONDS) {
+            throw new InvalidRequestException("wait must be between 0 and " + MAX_WAIT_SECONDS + " seconds");
+        }
+
+        return dataProductChangeNotifier.poll(since, limit, Duration.ofSeconds(wait))
+                .thenApply(batch -> ResponseEntity.ok(dataProductMapper.toChangesResponse(batch)));
+    }
+
+    @GetMapping(value = "/api/v1/data-products/changes", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamDataProductChanges(
+            @RequestParam(value = "since", defaultValue = "0") long since,
+            @RequestHeader(value = "Last-Event-ID", required = false) String lastEventId) {
+        if (lastEventId != null) {
+            try {
+                since = Long.parseLong(lastEventId);
+            } catch (NumberFormatException e) {
+                throw new InvalidRequestException("Invalid Last-Event-ID: " + lastEventId);
+            }
+        }
+        checkSince(since);
+        return dataProductChangeNotifier.subscribe(since);
+    }
+
+    private static void checkSince(long since) {
+        if (since < 0) {
+            throw new InvalidRequestException("since must not be negative");
+        }
+    }
+}
\ No newline at end of file
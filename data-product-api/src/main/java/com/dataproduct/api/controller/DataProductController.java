@@ -1,69 +1,227 @@
 package com.dataproduct.api.controller;
 
+import com.dataproduct.api.autocomplete.DataProductAutocompleteIndex;
+import com.dataproduct.api.cache.DataProductResponseCache;
 import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.facets.DataProductFacetCounter;
 import com.dataproduct.api.generated.DataProductsApi;
 import com.dataproduct.api.generated.model.*;
+import com.dataproduct.api.mapper.DataProductListPage;
 import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.api.mapper.DataProductPatchReader;
+import com.dataproduct.api.mapper.DataProductProjectionPage;
+import com.dataproduct.api.repository.DataProductField;
+import com.dataproduct.api.repository.DataProductFilter;
+import com.dataproduct.api.repository.DataProductPatch;
+import com.dataproduct.api.repository.DataProductProjection;
+import com.dataproduct.api.repository.DataProductSort;
+import com.dataproduct.api.service.DataProductBatchResult;
+import com.dataproduct.api.service.DataProductCursor;
+import com.dataproduct.api.service.DataProductCursorPage;
 import com.dataproduct.api.service.DataProductService;
+import com.dataproduct.api.service.DataProductTagFilter;
+import com.dataproduct.commons.exception.InvalidRequestException;
+import io.micrometer.core.annotation.Timed;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 @RestController
+@Timed(value = "dataproduct.api.requests", histogram = true)
 public class DataProductController implements DataProductsApi {
 
     private final DataProductService dataProductService;
     private final DataProductMapper dataProductMapper;
+    private final DataProductResponseCache dataProductResponseCache;
+    private final DataProductAutocompleteIndex dataProductAutocompleteIndex;
+    private final DataProductFacetCounter dataProductFacetCounter;
+    private final DataProductPatchReader dataProductPatchReader;
 
     @Autowired
-    public DataProductController(DataProductService dataProductService, DataProductMapper dataProductMapper) {
+    public DataProductController(DataProductService dataProductService, DataProductMapper dataProductMapper,
+                                 DataProductResponseCache dataProductResponseCache,
+                                 DataProductAutocompleteIndex dataProductAutocompleteIndex,
+                                 DataProductFacetCounter dataProductFacetCounter,
+                                 DataProductPatchReader dataProductPatchReader) {
         this.dataProductService = dataProductService;
         this.dataProductMapper = dataProductMapper;
+        this.dataProductResponseCache = dataProductResponseCache;
+        this.dataProductAutocompleteIndex = dataProductAutocompleteIndex;
+        this.dataProductFacetCounter = dataProductFacetCounter;
+        this.dataProductPatchReader = dataProductPatchReader;
     }
 
     @Override
-    public ResponseEntity<DataProductPageResponse> getAllDataProducts(
-            Integer page, Integer size, String portfolio, SensitivityCategory sensitivityCategory) {
-        
-        Pageable pageable = PageRequest.of(page != null ? page : 0, size != null ? size : 20);
-        DataProduct.SensitivityCategory entitySensitivity = sensitivityCategory != null ? 
+    public ResponseEntity<?> getAllDataProducts(
+            Integer page, Integer size, String portfolio, SensitivityCategory sensitivityCategory,
+            String after, Integer limit, List<String> tags, TagMatch tagMatch, List<String> fields, String sort,
+            String owner, String source, String dataFormat, Boolean isActive, OffsetDateTime createdFrom,
+            OffsetDateTime createdTo) {
+
+        DataProduct.SensitivityCategory entitySensitivity = sensitivityCategory != null ?
+            DataProduct.SensitivityCategory.valueOf(sensitivityCategory.name()) : null;
+        DataProductFilter filter = new DataProductFilter(portfolio, entitySensitivity, owner, source, dataFormat,
+                isActive, toUtc(createdFrom), toUtc(createdTo));
+        DataProductTagFilter tagFilter = DataProductTagFilter.of(tags, tagMatch == TagMatch.ALL);
+        DataProductSort dataProductSort = DataProductSort.fromParameter(sort);
+        if ((after != null || limit != null) && dataProductSort != DataProductSort.CREATED_AT) {
+            throw new InvalidRequestException("Cursor pages are ordered by createdAt; sort=" + sort
+                    + " needs page and size");
+        }
+
+        // Sparse fieldset: only the requested columns are selected, into untracked projections
+        if (fields != null && !fields.isEmpty()) {
+            return getDataProductProjections(page, size, filter, after, limit, tagFilter,
+                    DataProductField.fromParameters(fields), dataProductSort);
+        }
+
+        // Cursor mode: keyset seek on (createdAt, id), no OFFSET and no COUNT query
+        if (after != null || limit != null) {
+            DataProductCursor cursor = after != null ? DataProductCursor.decode(after) : null;
+            DataProductCursorPage<DataProduct> cursorPage = dataProductService.getDataProductsAfter(
+                    filter, tagFilter, cursor, limit != null ? limit : 20);
+            return listPage(DataProductListPage.ofCursor(cursorPage));
+        }
+
+        Pageable pageable = PageRequest.of(page != null ? page : 0, size != null ? size : 20,
+                dataProductSort.getSort());
+        Page<DataProduct> dataProducts = dataProductService.getAllDataProducts(filter, tagFilter, pageable);
+        return listPage(DataProductListPage.of(dataProducts));
+    }
+
+    private ResponseEntity<?> getDataProductProjections(
+            Integer page, Integer size, DataProductFilter filter, String after, Integer limit,
+            DataProductTagFilter tagFilter, Set<DataProductField> fields, DataProductSort sort) {
+        if (after != null || limit != null) {
+            DataProductCursor cursor = after != null ? DataProductCursor.decode(after) : null;
+            DataProductCursorPage<DataProductProjection> cursorPage = dataProductService.getDataProductProjectionsAfter(
+                    filter, tagFilter, fields, cursor, limit != null ? limit : 20);
+            return listPage(DataProductProjectionPage.ofCursor(cursorPage, fields));
+        }
+
+        Pageable pageable = PageRequest.of(page != null ? page : 0, size != null ? size : 20, sort.getSort());
+        Page<DataProductProjection> projections = dataProductService.getDataProductProjections(
+                filter, tagFilter, fields, pageable);
+        return listPage(DataProductProjectionPage.of(projections, fields));
+    }
+
+    // Timestamps are stored as UTC local date-times, see DataProductMapper
+    private static LocalDateTime toUtc(OffsetDateTime value) {
+        return value != null ? value.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime() : null;
+    }
+
+    @Override
+    public ResponseEntity<?> searchDataProducts(
+            String q, Integer page, Integer size, String portfolio, SensitivityCategory sensitivityCategory) {
+
+        DataProduct.SensitivityCategory entitySensitivity = sensitivityCategory != null ?
             DataProduct.SensitivityCategory.valueOf(sensitivityCategory.name()) : null;
-        
-        Page<DataProduct> dataProducts = dataProductService.getAllDataProducts(portfolio, entitySensitivity, pageable);
-        DataProductPageResponse response = dataProductMapper.toPageResponse(dataProducts);
-        
+
+        Pageable pageable = PageRequest.of(page != null ? page : 0, size != null ? size : 20);
+        Page<DataProduct> dataProducts = dataProductService.searchDataProducts(q, portfolio, entitySensitivity, pageable);
+        return listPage(DataProductListPage.of(dataProducts));
+    }
+
+    @Override
+    public ResponseEntity<AutocompleteResponse> autocompleteDataProducts(String prefix, AutocompleteField field,
+                                                                         Integer limit) {
+        AutocompleteField resolvedField = field != null ? field : AutocompleteField.NAME;
+        List<String> suggestions = dataProductAutocompleteIndex.suggest(
+                DataProductAutocompleteIndex.Field.valueOf(resolvedField.name()), prefix, limit != null ? limit : 10);
+
+        AutocompleteResponse response = new AutocompleteResponse();
+        response.setField(resolvedField);
+        response.setSuggestions(suggestions);
         return ResponseEntity.ok(response);
     }
 
     @Override
-    public ResponseEntity<DataProductResponse> getDataProductById(String id) {
-        UUID uuid = UUID.fromString(id);
-        DataProduct dataProduct = dataProductService.getDataProductById(uuid);
-        DataProductResponse response = dataProductMapper.toResponse(dataProduct);
+    public ResponseEntity<FacetsResponse> getDataProductFacets(Integer limit) {
+        int resolvedLimit = limit != null ? limit : 100;
+        FacetsResponse response = dataProductMapper.toFacetsResponse(
+                dataProductFacetCounter.facets(resolvedLimit), resolvedLimit);
         return ResponseEntity.ok(response);
     }
 
+    @Override
+    public ResponseEntity<?> getDataProductById(String id, String ifNoneMatch) {
+        UUID uuid = UUID.fromString(id);
+
+        // Revalidation only needs the version, so unchanged resources never reach the mapper or Jackson
+        if (ifNoneMatch != null) {
+            long version = dataProductResponseCache.getVersion(uuid);
+            if (!EntityTags.noneMatchSatisfied(ifNoneMatch, version)) {
+                return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                        .eTag(EntityTags.of(version))
+                        .cacheControl(CacheControl.noCache())
+                        .build();
+            }
+        }
+
+        DataProductResponseCache.CachedResponse cached = dataProductResponseCache.get(uuid);
+        return preSerialized(cached.body(), EntityTags.of(cached.version()));
+    }
+
     @Override
     public ResponseEntity<DataProductResponse> createDataProduct(CreateDataProductRequest request) {
         DataProduct dataProduct = dataProductMapper.toEntity(request);
         DataProduct savedDataProduct = dataProductService.createDataProduct(dataProduct);
         DataProductResponse response = dataProductMapper.toResponse(savedDataProduct);
-        return new ResponseEntity<>(response, HttpStatus.CREATED);
+        return ResponseEntity.status(HttpStatus.CREATED)
+                .eTag(EntityTags.of(savedDataProduct.getVersion()))
+                .body(response);
+    }
+
+    @Override
+    public ResponseEntity<BatchCreateDataProductsResponse> batchCreateDataProducts(
+            List<CreateDataProductRequest> requests, Boolean upsert) {
+        List<DataProduct> dataProducts = requests.stream()
+                .map(dataProductMapper::toEntity)
+                .collect(Collectors.toList());
+        List<DataProductBatchResult> results = dataProductService.createDataProducts(
+                dataProducts, Boolean.TRUE.equals(upsert));
+        return ResponseEntity.ok(dataProductMapper.toBatchResponse(results));
     }
 
     @Override
-    public ResponseEntity<DataProductResponse> updateDataProduct(String id, UpdateDataProductRequest request) {
+    public ResponseEntity<DataProductResponse> updateDataProduct(String id, UpdateDataProductRequest request,
+                                                                 String ifMatch) {
         UUID uuid = UUID.fromString(id);
+        Long expectedVersion = ifMatch != null ? EntityTags.expectedVersion(ifMatch) : null;
         DataProduct updateData = dataProductMapper.toEntity(request);
-        DataProduct updatedDataProduct = dataProductService.updateDataProduct(uuid, updateData);
+        DataProduct updatedDataProduct = dataProductService.updateDataProduct(uuid, updateData, expectedVersion);
         DataProductResponse response = dataProductMapper.toResponse(updatedDataProduct);
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(updatedDataProduct.getVersion()))
+                .body(response);
+    }
+
+    @Override
+    public ResponseEntity<DataProductResponse> patchDataProduct(String id, Map<String, Object> requestBody,
+                                                                String ifMatch) {
+        UUID uuid = UUID.fromString(id);
+        Long expectedVersion = ifMatch != null ? EntityTags.expectedVersion(ifMatch) : null;
+        DataProductPatch patch = dataProductPatchReader.read(requestBody);
+        DataProduct patchedDataProduct = dataProductService.patchDataProduct(uuid, patch, expectedVersion);
+        DataProductResponse response = dataProductMapper.toResponse(patchedDataProduct);
+        return ResponseEntity.ok()
+                .eTag(EntityTags.of(patchedDataProduct.getVersion()))
+                .body(response);
     }
 
     @Override
@@ -72,4 +230,22 @@ public class DataProductController implements DataProductsApi {
         dataProductService.deleteDataProduct(uuid);
         return ResponseEntity.noContent().build();
     }
+
+    // The cached bytes are already the JSON of a DataProductResponse; returning them as the body
+    // lets ByteArrayHttpMessageConverter write them as-is instead of going through Jackson again.
+    private static ResponseEntity<byte[]> preSerialized(byte[] body, String eTag) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .eTag(eTag)
+                .cacheControl(CacheControl.noCache())
+                .body(body);
+    }
+
+    // List pages skip DataProductPageResponse: DataProductListPageHttpMessageConverter streams the
+    // rows to the response in the same JSON the generated model would produce.
+    private static ResponseEntity<Object> listPage(Object page) {
+        return ResponseEntity.ok()
+                .contentType(MediaType.APPLICATION_JSON)
+                .body(page);
+    }
 }
\ No newline at end of file
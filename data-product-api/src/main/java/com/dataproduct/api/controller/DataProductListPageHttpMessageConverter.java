@@ -0,0 +1,53 @@
+package com.dataproduct.api.controller;
+
+import com.dataproduct.api.mapper.DataProductListPage;
+import com.dataproduct.api.mapper.DataProductPageJsonWriter;
+import com.dataproduct.api.mapper.DataProductProjectionPage;
+import org.springframework.http.HttpInputMessage;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.AbstractHttpMessageConverter;
+import org.springframework.http.converter.HttpMessageNotReadableException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+
+/**
+ * Writes {@link DataProductListPage} and {@link DataProductProjectionPage} bodies to the response
+ * stream with the {@link DataProductPageJsonWriter}. As an HttpMessageConverter bean it is
+ * registered ahead of the Jackson converter, which would otherwise serialize the records' own fields.
+ */
+@Component
+public class DataProductListPageHttpMessageConverter extends AbstractHttpMessageConverter<Object> {
+
+    private final DataProductPageJsonWriter dataProductPageJsonWriter;
+
+    public DataProductListPageHttpMessageConverter(DataProductPageJsonWriter dataProductPageJsonWriter) {
+        super(MediaType.APPLICATION_JSON);
+        this.dataProductPageJsonWriter = dataProductPageJsonWriter;
+    }
+
+    @Override
+    protected boolean supports(Class<?> clazz) {
+        return DataProductListPage.class == clazz || DataProductProjectionPage.class == clazz;
+    }
+
+    @Override
+    protected boolean canRead(MediaType mediaType) {
+        return false;
+    }
+
+    @Override
+    protected Object readInternal(Class<?> clazz, HttpInputMessage inputMessage) {
+        throw new HttpMessageNotReadableException("List pages are write-only", inputMessage);
+    }
+
+    @Override
+    protected void writeInternal(Object page, HttpOutputMessage outputMessage) throws IOException {
+        if (page instanceof DataProductProjectionPage projectionPage) {
+            dataProductPageJsonWriter.write(projectionPage, outputMessage.getBody());
+        } else {
+            dataProductPageJsonWriter.write((DataProductListPage) page, outputMessage.getBody());
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,92 @@
+package com.dataproduct.api.controller;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.export.CsvDataProductWriter;
+import com.dataproduct.api.export.DataProductRowWriter;
+import com.dataproduct.api.export.ExportFormat;
+import com.dataproduct.api.export.NdjsonDataProductWriter;
+import com.dataproduct.api.generated.model.ImportDataProductsResponse;
+import com.dataproduct.api.generated.model.SensitivityCategory;
+import com.dataproduct.api.imports.DataProductImportReport;
+import com.dataproduct.api.imports.DataProductImporter;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.api.service.DataProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.annotation.Timed;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+
+/**
+ * Endpoints under the "Data Product Streaming" tag of the OpenAPI spec. They are implemented by
+ * hand because the generated interface cannot return a StreamingResponseBody.
+ */
+@RestController
+@Timed(value = "dataproduct.api.requests", histogram = true)
+public class DataProductStreamingController {
+
+    private final DataProductService dataProductService;
+    private final DataProductMapper dataProductMapper;
+    private final ObjectMapper objectMapper;
+    private final DataProductImporter dataProductImporter;
+
+    @Autowired
+    public DataProductStreamingController(DataProductService dataProductService, DataProductMapper dataProductMapper,
+                                          ObjectMapper objectMapper, DataProductImporter dataProductImporter) {
+        this.dataProductService = dataProductService;
+        this.dataProductMapper = dataProductMapper;
+        this.objectMapper = objectMapper;
+        this.dataProductImporter = dataProductImporter;
+    }
+
+    @GetMapping("/api/v1/data-products/export")
+    public ResponseEntity<StreamingResponseBody> exportDataProducts(
+            @RequestParam(value = "format", defaultValue = "ndjson") String format,
+            @RequestParam(value = "portfolio", required = false) String portfolio,
+            @RequestParam(value = "sensitivityCategory", required = false) SensitivityCategory sensitivityCategory) {
+
+        ExportFormat exportFormat = ExportFormat.fromParameter(format);
+        DataProduct.SensitivityCategory entitySensitivity = sensitivityCategory != null ?
+            DataProduct.SensitivityCategory.valueOf(sensitivityCategory.name()) : null;
+
+        StreamingResponseBody body = outputStream -> {
+            try (DataProductRowWriter writer = openWriter(exportFormat, outputStream)) {
+                dataProductService.exportDataProducts(portfolio, entitySensitivity, writer::write);
+            }
+        };
+
+        return ResponseEntity.ok()
+                .contentType(exportFormat.getMediaType())
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                        .filename("data-products." + exportFormat.getFileExtension())
+                        .build()
+                        .toString())
+                .body(body);
+    }
+
+    @PostMapping(value = "/api/v1/data-products/import", consumes = MediaType.APPLICATION_NDJSON_VALUE)
+    public ResponseEntity<ImportDataProductsResponse> importDataProducts(
+            InputStream body,
+            @RequestParam(value = "upsert", defaultValue = "false") boolean upsert) throws IOException {
+        DataProductImportReport report = dataProductImporter.importDataProducts(body, upsert);
+        return ResponseEntity.ok(dataProductMapper.toImportResponse(report));
+    }
+
+    private DataProductRowWriter openWriter(ExportFormat format, OutputStream outputStream) throws IOException {
+        return switch (format) {
+            case NDJSON -> new NdjsonDataProductWriter(outputStream, objectMapper, dataProductMapper);
+            case CSV -> new CsvDataProductWriter(outputStream);
+        };
+    }
+}
\ No newline at end of file
@@ -0,0 +1,53 @@
+package com.dataproduct.api.controller;
+
+/**
+ * Strong entity tags derived from DataProduct.version, e.g. {@code "3"}.
+ */
+final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-None-Match uses weak comparison, so both {@code "3"} and {@code W/"3"} match version 3.
+     */
+    static boolean noneMatchSatisfied(String ifNoneMatch, long version) {
+        String current = of(version);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (candidate.equals(ANY) || candidate.equals(current)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Version an If-Match header refers to, or null for {@code *}. Weak or malformed tags can never
+     * match strongly, so they are mapped to -1, which no stored version equals.
+     */
+    static Long expectedVersion(String ifMatch) {
+        String tag = ifMatch.trim();
+        if (tag.equals(ANY)) {
+            return null;
+        }
+        if (tag.length() < 3 || tag.charAt(0) != '"' || tag.charAt(tag.length() - 1) != '"') {
+            return -1L;
+        }
+        try {
+            return Long.parseLong(tag.substring(1, tag.length() - 1));
+        } catch (NumberFormatException e) {
+            return -1L;
+        }
+    }
+}
\ No newline at end of file
@@ -1,6 +1,9 @@
 package com.dataproduct.api.entity;
 
 import jakarta.persistence.*;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.annotations.SQLRestriction;
+import org.hibernate.type.SqlTypes;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -10,17 +13,20 @@ import java.util.List;
 import java.util.UUID;
 
 @Entity
-@Table(name = "data_products", uniqueConstraints = {
-    @UniqueConstraint(columnNames = "name")
-})
+// Constraints and indexes live in the Flyway migrations only. Names are unique among live rows, a
+// partial unique index (V7 migration) that JPA cannot declare; the create-drop schema of the H2
+// test profile has no name constraint, so soft-deleted names can be reused there as well
+@Table(name = "data_products")
 @EntityListeners(AuditingEntityListener.class)
+// Soft-deleted rows are invisible to every JPA query until DataProductRetention purges them
+@SQLRestriction("deleted_at IS NULL")
 public class DataProduct {
 
     @Id
     @GeneratedValue(strategy = GenerationType.UUID)
     private UUID id;
 
-    @Column(nullable = false, unique = true)
+    @Column(nullable = false)
     private String name;
 
     @Column(length = 1000)
@@ -40,9 +46,10 @@ public class DataProduct {
 
     private String owner;
 
-    @ElementCollection
-    @CollectionTable(name = "data_product_tags", joinColumns = @JoinColumn(name = "data_product_id"))
-    @Column(name = "tag")
+    // Stored inline as a varchar[] column (GIN indexed, see V5 and V10): loaded with the row, filtered with
+    // containment operators, and compared by value on update instead of rewriting a collection table
+    @JdbcTypeCode(SqlTypes.ARRAY)
+    @Column(name = "tags")
     private List<String> tags;
 
     @Column(nullable = false)
@@ -58,6 +65,12 @@ public class DataProduct {
     @Column(nullable = false)
     private LocalDateTime updatedAt;
 
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
+    private LocalDateTime deletedAt;
+
     // Constructors
     public DataProduct() {}
 
@@ -101,6 +114,12 @@ public class DataProduct {
     public LocalDateTime getUpdatedAt() { return updatedAt; }
     public void setUpdatedAt(LocalDateTime updatedAt) { this.updatedAt = updatedAt; }
 
+    public Long getVersion() { return version; }
+    public void setVersion(Long version) { this.version = version; }
+
+    public LocalDateTime getDeletedAt() { return deletedAt; }
+    public void setDeletedAt(LocalDateTime deletedAt) { this.deletedAt = deletedAt; }
+
     public enum SensitivityCategory {
         PUBLIC, INTERNAL, CONFIDENTIAL, RESTRICTED
     }
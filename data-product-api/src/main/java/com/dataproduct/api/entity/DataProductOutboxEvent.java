@@ -0,0 +1,54 @@
+package com.dataproduct.api.entity;
+
+import com.dataproduct.api.event.DataProductChangedEvent;
+import jakarta.persistence.*;
+
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+/**
+ * One committed change to a data product, written in the same transaction as the change itself.
+ * Sequence numbers are handed out under the {@link DataProductOutboxState} row lock, so they are
+ * assigned in commit order and a reader never sees a gap fill in behind its cursor.
+ */
+@Entity
+@Table(name = "data_product_outbox", indexes = {
+    @Index(name = "idx_data_product_outbox_data_product_id", columnList = "data_product_id"),
+    @Index(name = "idx_data_product_outbox_changed_at", columnList = "changed_at")
+})
+public class DataProductOutboxEvent {
+
+    @Id
+    @Column(name = "sequence_number")
+    private Long sequence;
+
+    @Column(name = "data_product_id", nullable = false)
+    private UUID dataProductId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 16)
+    private DataProductChangedEvent.ChangeType changeType;
+
+    @Column(nullable = false)
+    private LocalDateTime changedAt;
+
+    // Constructors
+    protected DataProductOutboxEvent() {}
+
+    public DataProductOutboxEvent(Long sequence, UUID dataProductId, DataProductChangedEvent.ChangeType changeType,
+                                  LocalDateTime changedAt) {
+        this.sequence = sequence;
+        this.dataProductId = dataProductId;
+        this.changeType = changeType;
+        this.changedAt = changedAt;
+    }
+
+    // Getters
+    public Long getSequence() { return sequence; }
+
+    public UUID getDataProductId() { return dataProductId; }
+
+    public DataProductChangedEvent.ChangeType getChangeType() { return changeType; }
+
+    public LocalDateTime getChangedAt() { return changedAt; }
+}
\ No newline at end of file
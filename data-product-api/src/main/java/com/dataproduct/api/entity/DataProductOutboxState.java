@@ -0,0 +1,45 @@
+package com.dataproduct.api.entity;
+
+import jakarta.persistence.*;
+
+/**
+ * Single-row bookkeeping for the outbox. Writers lock it to take the next sequence number, which
+ * serializes catalog writes from that point to commit; prunedThrough is the highest sequence the
+ * retention job has removed, below which a change feed cursor can no longer be resumed.
+ */
+@Entity
+@Table(name = "data_product_outbox_state")
+public class DataProductOutboxState {
+
+    public static final int ID = 1;
+
+    @Id
+    private Integer id;
+
+    @Column(nullable = false)
+    private Long lastSequence;
+
+    @Column(nullable = false)
+    private Long prunedThrough;
+
+    // Constructors
+    protected DataProductOutboxState() {}
+
+    public DataProductOutboxState(int id) {
+        this.id = id;
+        this.lastSequence = 0L;
+        this.prunedThrough = 0L;
+    }
+
+    public long nextSequence() {
+        return ++lastSequence;
+    }
+
+    // Getters and Setters
+    public Integer getId() { return id; }
+
+    public Long getLastSequence() { return lastSequence; }
+
+    public Long getPrunedThrough() { return prunedThrough; }
+    public void setPrunedThrough(Long prunedThrough) { this.prunedThrough = prunedThrough; }
+}
\ No newline at end of file
@@ -0,0 +1,49 @@
+package com.dataproduct.api.event;
+
+import com.dataproduct.api.entity.DataProduct;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Published by DataProductService inside the write transaction. Listeners that maintain
+ * derived state (caches, indexes, facet counters) should use @TransactionalEventListener so
+ * they only react to committed changes. The remaining fields carry the state after the change
+ * so in-memory indexes don't need to read it back; they are null for DELETED.
+ */
+public record DataProductChangedEvent(
+        UUID id,
+        ChangeType type,
+        String name,
+        String owner,
+        String portfolio,
+        DataProduct.SensitivityCategory sensitivityCategory,
+        String dataFormat,
+        Boolean isActive,
+        List<String> tags) {
+
+    public enum ChangeType {
+        CREATED, UPDATED, DELETED
+    }
+
+    public static DataProductChangedEvent created(DataProduct dataProduct) {
+        return of(ChangeType.CREATED, dataProduct);
+    }
+
+    public static DataProductChangedEvent updated(DataProduct dataProduct) {
+        return of(ChangeType.UPDATED, dataProduct);
+    }
+
+    public static DataProductChangedEvent deleted(UUID id) {
+        return new DataProductChangedEvent(id, ChangeType.DELETED, null, null, null, null, null, null, null);
+    }
+
+    private static DataProductChangedEvent of(ChangeType type, DataProduct dataProduct) {
+        // Copied so later changes to the managed entity's list don't leak into the event
+        List<String> tags = dataProduct.getTags() != null ? new ArrayList<>(dataProduct.getTags()) : List.of();
+        return new DataProductChangedEvent(dataProduct.getId(), type, dataProduct.getName(), dataProduct.getOwner(),
+                dataProduct.getPortfolio(), dataProduct.getSensitivityCategory(), dataProduct.getDataFormat(),
+                dataProduct.getIsActive(), tags);
+    }
+}
\ No newline at end of file
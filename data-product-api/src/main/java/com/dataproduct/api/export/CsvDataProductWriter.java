@@ -0,0 +1,75 @@
+package com.dataproduct.api.export;
+
+import com.dataproduct.api.entity.DataProduct;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+/**
+ * RFC 4180 CSV with a header row. Tags are joined with ';' into a single column.
+ */
+public class CsvDataProductWriter implements DataProductRowWriter {
+
+    static final String HEADER = "id,name,description,portfolio,source,sensitivityCategory,dataFormat,owner,"
+            + "tags,isActive,retentionPeriodDays,createdAt,updatedAt";
+
+    private static final char SEPARATOR = ',';
+    private static final String TAG_SEPARATOR = ";";
+
+    private final Writer writer;
+
+    public CsvDataProductWriter(OutputStream outputStream) throws IOException {
+        this.writer = new BufferedWriter(new OutputStreamWriter(outputStream, StandardCharsets.UTF_8));
+        writer.write(HEADER);
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void write(DataProduct dataProduct) throws IOException {
+        writeField(dataProduct.getId().toString());
+        writeField(dataProduct.getName());
+        writeField(dataProduct.getDescription());
+        writeField(dataProduct.getPortfolio());
+        writeField(dataProduct.getSource());
+        writeField(dataProduct.getSensitivityCategory().name());
+        writeField(dataProduct.getDataFormat());
+        writeField(dataProduct.getOwner());
+        writeField(dataProduct.getTags() != null ? String.join(TAG_SEPARATOR, dataProduct.getTags()) : null);
+        writeField(String.valueOf(dataProduct.getIsActive()));
+        writeField(dataProduct.getRetentionPeriodDays() != null ? dataProduct.getRetentionPeriodDays().toString() : null);
+        writeField(timestamp(dataProduct.getCreatedAt()));
+        writer.write(timestamp(dataProduct.getUpdatedAt()));
+        writer.write("\r\n");
+    }
+
+    @Override
+    public void close() throws IOException {
+        writer.flush();
+    }
+
+    private void writeField(String value) throws IOException {
+        if (value != null) {
+            writer.write(escape(value));
+        }
+        writer.write(SEPARATOR);
+    }
+
+    static String escape(String value) {
+        boolean needsQuoting = false;
+        for (int i = 0; i < value.length() && !needsQuoting; i++) {
+            char c = value.charAt(i);
+            needsQuoting = c == SEPARATOR || c == '"' || c == '\n' || c == '\r';
+        }
+        return needsQuoting ? '"' + value.replace("\"", "\"\"") + '"' : value;
+    }
+
+    private static String timestamp(LocalDateTime value) {
+        return value.atOffset(ZoneOffset.UTC).toString();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.dataproduct.api.export;
+
+import com.dataproduct.api.entity.DataProduct;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+/**
+ * Writes data products one at a time to an export stream. Implementations buffer internally and
+ * flush on close; they never close the underlying stream.
+ */
+public interface DataProductRowWriter extends Closeable {
+
+    void write(DataProduct dataProduct) throws IOException;
+}
\ No newline at end of file
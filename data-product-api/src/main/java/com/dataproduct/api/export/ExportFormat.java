@@ -0,0 +1,32 @@
+package com.dataproduct.api.export;
+
+import com.dataproduct.commons.exception.InvalidRequestException;
+import org.springframework.http.MediaType;
+
+import java.util.Locale;
+
+public enum ExportFormat {
+
+    NDJSON(MediaType.APPLICATION_NDJSON, "ndjson"),
+    CSV(MediaType.parseMediaType("text/csv;charset=UTF-8"), "csv");
+
+    private final MediaType mediaType;
+    private final String fileExtension;
+
+    ExportFormat(MediaType mediaType, String fileExtension) {
+        this.mediaType = mediaType;
+        this.fileExtension = fileExtension;
+    }
+
+    public MediaType getMediaType() { return mediaType; }
+
+    public String getFileExtension() { return fileExtension; }
+
+    public static ExportFormat fromParameter(String format) {
+        try {
+            return valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new InvalidRequestException("Unsupported export format: " + format);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,43 @@
+package com.dataproduct.api.export;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.dataproduct.api.generated.model.DataProductResponse;
+
+import java.io.IOException;
+import java.io.OutputStream;
+
+/**
+ * One DataProductResponse per line, rendered exactly as the detail endpoint renders it.
+ */
+public class NdjsonDataProductWriter implements DataProductRowWriter {
+
+    private final DataProductMapper dataProductMapper;
+    private final ObjectWriter objectWriter;
+    private final JsonGenerator generator;
+
+    public NdjsonDataProductWriter(OutputStream outputStream, ObjectMapper objectMapper,
+                                   DataProductMapper dataProductMapper) throws IOException {
+        this.dataProductMapper = dataProductMapper;
+        this.objectWriter = objectMapper.writerFor(DataProductResponse.class)
+                .without(SerializationFeature.FLUSH_AFTER_WRITE_VALUE);
+        this.generator = objectMapper.getFactory().createGenerator(outputStream)
+                .disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET)
+                .setRootValueSeparator(null);
+    }
+
+    @Override
+    public void write(DataProduct dataProduct) throws IOException {
+        objectWriter.writeValue(generator, dataProductMapper.toResponse(dataProduct));
+        generator.writeRaw('\n');
+    }
+
+    @Override
+    public void close() throws IOException {
+        generator.close();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,191 @@
+package com.dataproduct.api.facets;
+
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.facets.DataProductFacets.Facet;
+import com.dataproduct.api.facets.DataProductFacets.ValueCount;
+import com.dataproduct.api.repository.DataProductFacetValues;
+import com.dataproduct.api.repository.DataProductRepository;
+import com.dataproduct.commons.config.ReplicaRoutingDataSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Per-value counters behind GET /api/v1/data-products/facets. Each committed
+ * DataProductChangedEvent moves the product's counts from its previous values to its new ones,
+ * so reads never run GROUP BY. Counters are loaded once the application is ready and reconciled
+ * against the database on a fixed delay, which corrects drift from writes made by other
+ * instances or outside the service.
+ */
+@Component
+public class DataProductFacetCounter {
+
+    private static final Comparator<ValueCount> BY_COUNT_THEN_VALUE =
+            Comparator.comparingLong(ValueCount::count).reversed().thenComparing(ValueCount::value);
+
+    private static final class Snapshot {
+        // Previous values per product, so an update can be applied as a delta
+        private final Map<UUID, DataProductFacetValues> entries = new HashMap<>();
+        private final Map<Facet, Map<String, Long>> counts = new EnumMap<>(Facet.class);
+        // The same counts kept in response order, so a read copies only the values it returns
+        private final Map<Facet, NavigableSet<ValueCount>> ordered = new EnumMap<>(Facet.class);
+
+        Snapshot() {
+            for (Facet facet : Facet.values()) {
+                counts.put(facet, new HashMap<>());
+                ordered.put(facet, new TreeSet<>(BY_COUNT_THEN_VALUE));
+            }
+        }
+
+        void put(DataProductFacetValues values) {
+            DataProductFacetValues previous = entries.put(values.id(), values);
+            if (previous != null) {
+                adjust(previous, -1);
+            }
+            adjust(values, 1);
+        }
+
+        void remove(UUID id) {
+            DataProductFacetValues previous = entries.remove(id);
+            if (previous != null) {
+                adjust(previous, -1);
+            }
+        }
+
+        void apply(DataProductChangedEvent event) {
+            if (event.type() == DataProductChangedEvent.ChangeType.DELETED) {
+                remove(event.id());
+            } else {
+                put(new DataProductFacetValues(event.id(), event.portfolio(), event.sensitivityCategory(),
+                        event.dataFormat(), event.isActive(), event.tags()));
+            }
+        }
+
+        DataProductFacets view(int limit) {
+            Map<Facet, List<ValueCount>> top = new EnumMap<>(Facet.class);
+            ordered.forEach((facet, values) -> {
+                List<ValueCount> first = new ArrayList<>(Math.min(limit, values.size()));
+                for (ValueCount value : values) {
+                    if (first.size() == limit) {
+                        break;
+                    }
+                    first.add(value);
+                }
+                top.put(facet, first);
+            });
+            return new DataProductFacets(entries.size(), top);
+        }
+
+        private void adjust(DataProductFacetValues values, long delta) {
+            increment(Facet.PORTFOLIO, values.portfolio(), delta);
+            increment(Facet.SENSITIVITY_CATEGORY,
+                    values.sensitivityCategory() != null ? values.sensitivityCategory().name() : null, delta);
+            increment(Facet.DATA_FORMAT, values.dataFormat(), delta);
+            increment(Facet.IS_ACTIVE, values.isActive() != null ? values.isActive().toString() : null, delta);
+            if (values.tags() != null) {
+                // A tag repeated on one product counts it once
+                for (String tag : new LinkedHashSet<>(values.tags())) {
+                    increment(Facet.TAG, tag, delta);
+                }
+            }
+        }
+
+        // O(log V): the value's entry is moved within the ordered set rather than the set re-sorted
+        private void increment(Facet facet, String value, long delta) {
+            if (value == null) {
+                return;
+            }
+            Map<String, Long> facetCounts = counts.get(facet);
+            NavigableSet<ValueCount> facetOrder = ordered.get(facet);
+            Long count = facetCounts.get(value);
+            if (count != null) {
+                facetOrder.remove(new ValueCount(value, count));
+            }
+            long updated = (count != null ? count : 0) + delta;
+            if (updated > 0) {
+                facetCounts.put(value, updated);
+                facetOrder.add(new ValueCount(value, updated));
+            } else {
+                facetCounts.remove(value);
+            }
+        }
+    }
+
+    private final DataProductRepository dataProductRepository;
+    private final Object writeLock = new Object();
+
+    private Snapshot snapshot = new Snapshot();
+    private List<DataProductChangedEvent> changesDuringReconcile;
+
+    @Autowired
+    public DataProductFacetCounter(DataProductRepository dataProductRepository) {
+        this.dataProductRepository = dataProductRepository;
+    }
+
+    /**
+     * The first limit values of each facet. Takes time proportional to limit, not to the number
+     * of distinct values.
+     */
+    public DataProductFacets facets(int limit) {
+        synchronized (writeLock) {
+            return snapshot.view(limit);
+        }
+    }
+
+    @TransactionalEventListener
+    public void onDataProductChanged(DataProductChangedEvent event) {
+        synchronized (writeLock) {
+            snapshot.apply(event);
+            if (changesDuringReconcile != null) {
+                changesDuringReconcile.add(event);
+            }
+        }
+    }
+
+    /**
+     * Recounts from the database without blocking readers or event listeners, then swaps the
+     * result in after replaying the events that arrived meanwhile. Replays are idempotent, so an
+     * event already reflected in the loaded rows does no harm.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(initialDelayString = "${dataproduct.facets.reconcile-interval:PT10M}",
+               fixedDelayString = "${dataproduct.facets.reconcile-interval:PT10M}")
+    @Transactional(readOnly = true)
+    public void reconcile() {
+        synchronized (writeLock) {
+            changesDuringReconcile = new ArrayList<>();
+        }
+        Snapshot fresh = new Snapshot();
+        // Only events from here on are replayed, so the rows must not lag behind them on a replica
+        try (ReplicaRoutingDataSource.PrimaryPin pin = ReplicaRoutingDataSource.pinToPrimary();
+             Stream<DataProductFacetValues> rows = dataProductRepository.streamFacetValues()) {
+            rows.forEach(fresh::put);
+        } catch (RuntimeException e) {
+            synchronized (writeLock) {
+                changesDuringReconcile = null;
+            }
+            throw e;
+        }
+        synchronized (writeLock) {
+            changesDuringReconcile.forEach(fresh::apply);
+            changesDuringReconcile = null;
+            snapshot = fresh;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,22 @@
+package com.dataproduct.api.facets;
+
+import java.util.List;
+import java.util.Map;
+
+/**
+ * View of the facet counters, holding the first values of each facet up to the limit it was read
+ * with. Values are ordered by count, highest first, then by value.
+ */
+public record DataProductFacets(long total, Map<Facet, List<ValueCount>> counts) {
+
+    public enum Facet {
+        PORTFOLIO, SENSITIVITY_CATEGORY, DATA_FORMAT, IS_ACTIVE, TAG
+    }
+
+    public record ValueCount(String value, long count) {}
+
+    public List<ValueCount> top(Facet facet, int limit) {
+        List<ValueCount> values = counts.getOrDefault(facet, List.of());
+        return values.size() > limit ? values.subList(0, limit) : values;
+    }
+}
\ No newline at end of file
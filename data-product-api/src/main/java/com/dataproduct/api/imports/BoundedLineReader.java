@@ -0,0 +1,77 @@
+package com.dataproduct.api.imports;
+
+import java.io.IOException;
+import java.io.Reader;
+
+/**
+ * Reads '\n'-terminated lines without ever holding more than maxLineLength characters of one
+ * line. Overlong lines are skipped to their end and reported as such, so a single huge or
+ * unterminated line cannot exhaust the heap.
+ */
+class BoundedLineReader {
+
+    record Line(String text, boolean tooLong) {}
+
+    private final Reader reader;
+    private final int maxLineLength;
+    private final char[] buffer = new char[8192];
+    private final StringBuilder line = new StringBuilder();
+    private int position;
+    private int limit;
+
+    BoundedLineReader(Reader reader, int maxLineLength) {
+        this.reader = reader;
+        this.maxLineLength = maxLineLength;
+    }
+
+    /**
+     * Returns the next line without its terminator, or null at end of input.
+     */
+    Line readLine() throws IOException {
+        line.setLength(0);
+        boolean tooLong = false;
+        boolean sawAny = false;
+        while (true) {
+            if (position == limit) {
+                limit = reader.read(buffer);
+                position = 0;
+                if (limit <= 0) {
+                    limit = 0;
+                    return sawAny ? toLine(tooLong) : null;
+                }
+            }
+            sawAny = true;
+            int start = position;
+            while (position < limit && buffer[position] != '\n') {
+                position++;
+            }
+            if (!tooLong) {
+                int length = position - start;
+                if (line.length() + length > maxLineLength + 1) {
+                    tooLong = true;
+                    line.setLength(0);
+                } else {
+                    line.append(buffer, start, length);
+                }
+            }
+            if (position < limit) {
+                position++;
+                return toLine(tooLong);
+            }
+        }
+    }
+
+    private Line toLine(boolean tooLong) {
+        if (tooLong) {
+            return new Line(null, true);
+        }
+        int length = line.length();
+        if (length > 0 && line.charAt(length - 1) == '\r') {
+            line.setLength(--length);
+        }
+        if (length > maxLineLength) {
+            return new Line(null, true);
+        }
+        return new Line(line.toString(), false);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.dataproduct.api.imports;
+
+import java.util.List;
+
+public record DataProductImportReport(
+        long linesRead,
+        long created,
+        long updated,
+        long rejected,
+        List<RejectedLine> errors,
+        boolean errorsTruncated) {
+
+    public record RejectedLine(long line, String message) {}
+}
\ No newline at end of file
@@ -0,0 +1,171 @@
+package com.dataproduct.api.imports;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.generated.model.CreateDataProductRequest;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.api.service.DataProductBatchResult;
+import com.dataproduct.api.service.DataProductService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Imports NDJSON through DataProductService.createDataProducts, one transaction per chunk.
+ * The body is pulled synchronously and the next chunk is not read until the previous one has
+ * committed, so a slow database throttles the uploader through TCP flow control instead of
+ * buffering the upload. Memory is bounded by chunk size, line length and the error report cap.
+ */
+@Component
+public class DataProductImporter {
+
+    private final DataProductService dataProductService;
+    private final DataProductMapper dataProductMapper;
+    private final ObjectReader requestReader;
+    private final Validator validator;
+    private final EntityManager entityManager;
+    private final int chunkSize;
+    private final int maxLineLength;
+    private final int maxReportedErrors;
+
+    @Autowired
+    public DataProductImporter(DataProductService dataProductService, DataProductMapper dataProductMapper,
+                               ObjectMapper objectMapper, Validator validator, EntityManager entityManager,
+                               @Value("${dataproduct.import.chunk-size:500}") int chunkSize,
+                               @Value("${dataproduct.import.max-line-length:1048576}") int maxLineLength,
+                               @Value("${dataproduct.import.max-reported-errors:1000}") int maxReportedErrors) {
+        this.dataProductService = dataProductService;
+        this.dataProductMapper = dataProductMapper;
+        this.requestReader = objectMapper.readerFor(CreateDataProductRequest.class);
+        this.validator = validator;
+        this.entityManager = entityManager;
+        this.chunkSize = chunkSize;
+        this.maxLineLength = maxLineLength;
+        this.maxReportedErrors = maxReportedErrors;
+    }
+
+    public DataProductImportReport importDataProducts(InputStream input, boolean upsert) throws IOException {
+        BoundedLineReader lines = new BoundedLineReader(
+                new InputStreamReader(input, StandardCharsets.UTF_8), maxLineLength);
+        Progress progress = new Progress();
+        List<DataProduct> chunk = new ArrayList<>(chunkSize);
+        List<Long> chunkLines = new ArrayList<>(chunkSize);
+
+        long lineNumber = 0;
+        BoundedLineReader.Line line;
+        while ((line = lines.readLine()) != null) {
+            lineNumber++;
+            if (line.tooLong()) {
+                progress.linesRead++;
+                progress.reject(lineNumber, "Line exceeds " + maxLineLength + " characters");
+                continue;
+            }
+            if (line.text().isBlank()) {
+                continue;
+            }
+            progress.linesRead++;
+            DataProduct dataProduct = parse(line.text(), lineNumber, progress);
+            if (dataProduct != null) {
+                chunk.add(dataProduct);
+                chunkLines.add(lineNumber);
+                if (chunk.size() == chunkSize) {
+                    commit(chunk, chunkLines, upsert, progress);
+                }
+            }
+        }
+        if (!chunk.isEmpty()) {
+            commit(chunk, chunkLines, upsert, progress);
+        }
+        return progress.toReport();
+    }
+
+    private DataProduct parse(String text, long lineNumber, Progress progress) {
+        CreateDataProductRequest request;
+        try {
+            request = requestReader.readValue(text);
+        } catch (JsonProcessingException e) {
+            progress.reject(lineNumber, "Malformed JSON: " + e.getOriginalMessage());
+            return null;
+        }
+        if (request == null) {
+            progress.reject(lineNumber, "Expected a JSON object");
+            return null;
+        }
+
+        Set<ConstraintViolation<CreateDataProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            progress.reject(lineNumber, violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+            return null;
+        }
+        return dataProductMapper.toEntity(request);
+    }
+
+    private void commit(List<DataProduct> chunk, List<Long> chunkLines, boolean upsert, Progress progress) {
+        try {
+            for (DataProductBatchResult result : dataProductService.createDataProducts(chunk, upsert)) {
+                switch (result.outcome()) {
+                    case CREATED -> progress.created++;
+                    case UPDATED -> progress.updated++;
+                    case CONFLICT -> progress.reject(chunkLines.get(result.index()), result.message());
+                }
+            }
+            // Each chunk normally commits on its own; when called inside an outer transaction, flush
+            // so the clear() below doesn't discard the chunk's pending inserts
+            if (entityManager.isJoinedToTransaction()) {
+                entityManager.flush();
+            }
+        } catch (DataAccessException | TransactionException | PersistenceException e) {
+            // Only this chunk rolled back (e.g. a name inserted concurrently); earlier chunks stay committed
+            String message = "Chunk rolled back: " + NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+            for (Long chunkLine : chunkLines) {
+                progress.reject(chunkLine, message);
+            }
+        } finally {
+            chunk.clear();
+            chunkLines.clear();
+            // Committed entities are no longer needed; don't let them pile up in an open-in-view session
+            entityManager.clear();
+        }
+    }
+
+    private class Progress {
+        private long linesRead;
+        private long created;
+        private long updated;
+        private long rejected;
+        private final List<DataProductImportReport.RejectedLine> errors = new ArrayList<>();
+
+        void reject(long lineNumber, String message) {
+            rejected++;
+            if (errors.size() < maxReportedErrors) {
+                errors.add(new DataProductImportReport.RejectedLine(lineNumber, message));
+            }
+        }
+
+        DataProductImportReport toReport() {
+            return new DataProductImportReport(linesRead, created, updated, rejected,
+                    List.copyOf(errors), rejected > errors.size());
+        }
+    }
+}
\ No newline at end of file
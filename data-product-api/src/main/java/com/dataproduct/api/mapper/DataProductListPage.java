@@ -0,0 +1,33 @@
+package com.dataproduct.api.mapper;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.service.DataProductCursor;
+import com.dataproduct.api.service.DataProductCursorPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+
+/**
+ * A list response still in entity form: the fields of DataProductPageResponse with the content
+ * left as DataProduct rows, to be rendered by {@link DataProductPageJsonWriter}.
+ */
+public record DataProductListPage(List<DataProduct> content, Integer page, int size, Integer totalElements,
+                                  Integer totalPages, boolean first, boolean last, String nextCursor) {
+
+    public static DataProductListPage of(Page<DataProduct> page) {
+        return new DataProductListPage(page.getContent(), page.getNumber(), page.getSize(),
+                (int) page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast(), null);
+    }
+
+    public static DataProductListPage ofCursor(DataProductCursorPage<DataProduct> cursorPage) {
+        Slice<DataProduct> slice = cursorPage.slice();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            DataProduct lastRow = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = DataProductCursor.of(lastRow).encode();
+        }
+        return new DataProductListPage(slice.getContent(), null, slice.getSize(), null, null,
+                cursorPage.first(), !slice.hasNext(), nextCursor);
+    }
+}
\ No newline at end of file
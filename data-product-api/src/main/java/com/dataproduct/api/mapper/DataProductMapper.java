@@ -1,8 +1,17 @@
 package com.dataproduct.api.mapper;
 
+import com.dataproduct.api.changes.DataProductChangeBatch;
 import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.entity.DataProductOutboxEvent;
+import com.dataproduct.api.facets.DataProductFacets;
 import com.dataproduct.api.generated.model.*;
+import com.dataproduct.api.imports.DataProductImportReport;
+import com.dataproduct.api.metrics.RequestTiming;
+import com.dataproduct.api.service.DataProductBatchResult;
+import com.dataproduct.api.service.DataProductCursor;
+import com.dataproduct.api.service.DataProductCursorPage;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Component;
 
 import java.time.OffsetDateTime;
@@ -14,6 +23,7 @@ import java.util.stream.Collectors;
 public class DataProductMapper {
 
     public DataProductResponse toResponse(DataProduct entity) {
+        long mappingStart = RequestTiming.mappingStart();
         DataProductResponse response = new DataProductResponse();
         response.setId(entity.getId().toString());
         response.setName(entity.getName());
@@ -28,6 +38,7 @@ public class DataProductMapper {
         response.setRetentionPeriodDays(entity.getRetentionPeriodDays());
         response.setCreatedAt(entity.getCreatedAt().atOffset(ZoneOffset.UTC));
         response.setUpdatedAt(entity.getUpdatedAt().atOffset(ZoneOffset.UTC));
+        RequestTiming.mappingEnd(mappingStart);
         return response;
     }
 
@@ -79,4 +90,113 @@ public class DataProductMapper {
         
         return response;
     }
+
+    public DataProductPageResponse toCursorPageResponse(DataProductCursorPage<DataProduct> cursorPage) {
+        DataProductPageResponse response = new DataProductPageResponse();
+        Slice<DataProduct> slice = cursorPage.slice();
+
+        List<DataProductResponse> content = slice.getContent().stream()
+                .map(this::toResponse)
+                .collect(Collectors.toList());
+
+        response.setContent(content);
+        response.setSize(slice.getSize());
+        response.setFirst(cursorPage.first());
+        response.setLast(!slice.hasNext());
+        if (slice.hasNext()) {
+            DataProduct lastRow = slice.getContent().get(slice.getNumberOfElements() - 1);
+            response.setNextCursor(DataProductCursor.of(lastRow).encode());
+        }
+
+        return response;
+    }
+
+    public BatchCreateDataProductsResponse toBatchResponse(List<DataProductBatchResult> results) {
+        BatchCreateDataProductsResponse response = new BatchCreateDataProductsResponse();
+        int created = 0;
+        int updated = 0;
+        int conflicts = 0;
+
+        for (DataProductBatchResult result : results) {
+            BatchCreateResult item = new BatchCreateResult();
+            item.setIndex(result.index());
+            item.setStatus(BatchCreateResult.StatusEnum.valueOf(result.outcome().name()));
+            item.setMessage(result.message());
+            if (result.dataProduct() != null) {
+                item.setId(result.dataProduct().getId().toString());
+            }
+            switch (result.outcome()) {
+                case CREATED -> created++;
+                case UPDATED -> updated++;
+                case CONFLICT -> conflicts++;
+            }
+            response.addResultsItem(item);
+        }
+
+        response.setCreated(created);
+        response.setUpdated(updated);
+        response.setConflicts(conflicts);
+        return response;
+    }
+
+    public ImportDataProductsResponse toImportResponse(DataProductImportReport report) {
+        ImportDataProductsResponse response = new ImportDataProductsResponse();
+        response.setLinesRead(report.linesRead());
+        response.setCreated(report.created());
+        response.setUpdated(report.updated());
+        response.setRejected(report.rejected());
+        for (DataProductImportReport.RejectedLine rejectedLine : report.errors()) {
+            ImportError error = new ImportError();
+            error.setLine(rejectedLine.line());
+            error.setMessage(rejectedLine.message());
+            response.addErrorsItem(error);
+        }
+        response.setErrorsTruncated(report.errorsTruncated());
+        return response;
+    }
+
+    public FacetsResponse toFacetsResponse(DataProductFacets facets, int limit) {
+        FacetsResponse response = new FacetsResponse();
+        response.setTotal(facets.total());
+        response.setPortfolio(toFacetValueCounts(facets.top(DataProductFacets.Facet.PORTFOLIO, limit)));
+        response.setSensitivityCategory(toFacetValueCounts(facets.top(DataProductFacets.Facet.SENSITIVITY_CATEGORY, limit)));
+        response.setDataFormat(toFacetValueCounts(facets.top(DataProductFacets.Facet.DATA_FORMAT, limit)));
+        response.setIsActive(toFacetValueCounts(facets.top(DataProductFacets.Facet.IS_ACTIVE, limit)));
+        response.setTags(toFacetValueCounts(facets.top(DataProductFacets.Facet.TAG, limit)));
+        return response;
+    }
+
+    public DataProductChangesResponse toChangesResponse(DataProductChangeBatch batch) {
+        DataProductChangesResponse response = new DataProductChangesResponse();
+        response.setChanges(batch.entries().stream()
+                .map(this::toChange)
+                .collect(Collectors.toList()));
+        response.setNextSince(batch.nextSince());
+        response.setHasMore(batch.hasMore());
+        return response;
+    }
+
+    public DataProductChange toChange(DataProductChangeBatch.Entry entry) {
+        DataProductOutboxEvent event = entry.event();
+        DataProductChange change = new DataProductChange();
+        change.setSequence(event.getSequence());
+        change.setId(event.getDataProductId().toString());
+        change.setType(DataProductChangeType.valueOf(event.getChangeType().name()));
+        change.setChangedAt(event.getChangedAt().atOffset(ZoneOffset.UTC));
+        if (entry.dataProduct() != null) {
+            change.setDataProduct(toResponse(entry.dataProduct()));
+        }
+        return change;
+    }
+
+    private List<FacetValueCount> toFacetValueCounts(List<DataProductFacets.ValueCount> valueCounts) {
+        return valueCounts.stream()
+                .map(valueCount -> {
+                    FacetValueCount facetValueCount = new FacetValueCount();
+                    facetValueCount.setValue(valueCount.value());
+                    facetValueCount.setCount(valueCount.count());
+                    return facetValueCount;
+                })
+                .collect(Collectors.toList());
+    }
 }
\ No newline at end of file
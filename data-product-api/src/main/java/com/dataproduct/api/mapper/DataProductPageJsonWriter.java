@@ -0,0 +1,274 @@
+package com.dataproduct.api.mapper;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.repository.DataProductField;
+import com.dataproduct.api.repository.DataProductProjection;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.io.SerializedString;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * Streams list pages straight from entities to JSON, producing the same bytes as serializing
+ * {@link DataProductMapper#toPageResponse} / {@link DataProductMapper#toCursorPageResponse} with the
+ * application ObjectMapper, without the per-row DataProductResponse, OffsetDateTime and tag list
+ * copies. Field order follows the generated DataProductPageResponse and DataProductResponse.
+ */
+@Component
+public class DataProductPageJsonWriter {
+
+    private static final SerializedString CONTENT = new SerializedString("content");
+    private static final SerializedString PAGE = new SerializedString("page");
+    private static final SerializedString SIZE = new SerializedString("size");
+    private static final SerializedString TOTAL_ELEMENTS = new SerializedString("totalElements");
+    private static final SerializedString TOTAL_PAGES = new SerializedString("totalPages");
+    private static final SerializedString FIRST = new SerializedString("first");
+    private static final SerializedString LAST = new SerializedString("last");
+    private static final SerializedString NEXT_CURSOR = new SerializedString("nextCursor");
+
+    private static final SerializedString ID = new SerializedString("id");
+    private static final SerializedString NAME = new SerializedString("name");
+    private static final SerializedString DESCRIPTION = new SerializedString("description");
+    private static final SerializedString PORTFOLIO = new SerializedString("portfolio");
+    private static final SerializedString SOURCE = new SerializedString("source");
+    private static final SerializedString SENSITIVITY_CATEGORY = new SerializedString("sensitivityCategory");
+    private static final SerializedString DATA_FORMAT = new SerializedString("dataFormat");
+    private static final SerializedString OWNER = new SerializedString("owner");
+    private static final SerializedString TAGS = new SerializedString("tags");
+    private static final SerializedString IS_ACTIVE = new SerializedString("isActive");
+    private static final SerializedString RETENTION_PERIOD_DAYS = new SerializedString("retentionPeriodDays");
+    private static final SerializedString CREATED_AT = new SerializedString("createdAt");
+    private static final SerializedString UPDATED_AT = new SerializedString("updatedAt");
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+
+    private final JsonFactory jsonFactory;
+
+    public DataProductPageJsonWriter(ObjectMapper objectMapper) {
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    public void write(DataProductListPage page, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            generator.writeStartObject();
+            writeContent(generator, page.content());
+            writePaging(generator, page.page(), page.size(), page.totalElements(), page.totalPages(),
+                    page.first(), page.last(), page.nextCursor());
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes only the page's selected fields of each row, in the order of the full response.
+     */
+    public void write(DataProductProjectionPage page, OutputStream outputStream) throws IOException {
+        try (JsonGenerator generator = createGenerator(outputStream)) {
+            generator.writeStartObject();
+            writeProjections(generator, page.content(), page.fields());
+            writePaging(generator, page.page(), page.size(), page.totalElements(), page.totalPages(),
+                    page.first(), page.last(), page.nextCursor());
+            generator.writeEndObject();
+        }
+    }
+
+    private JsonGenerator createGenerator(OutputStream outputStream) throws IOException {
+        return jsonFactory.createGenerator(outputStream).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static void writePaging(JsonGenerator generator, Integer page, int size, Integer totalElements,
+                                    Integer totalPages, boolean first, boolean last, String nextCursor)
+            throws IOException {
+        generator.writeFieldName(PAGE);
+        writeNumberOrNull(generator, page);
+        generator.writeFieldName(SIZE);
+        generator.writeNumber(size);
+        generator.writeFieldName(TOTAL_ELEMENTS);
+        writeNumberOrNull(generator, totalElements);
+        generator.writeFieldName(TOTAL_PAGES);
+        writeNumberOrNull(generator, totalPages);
+        generator.writeFieldName(FIRST);
+        generator.writeBoolean(first);
+        generator.writeFieldName(LAST);
+        generator.writeBoolean(last);
+        writeStringField(generator, NEXT_CURSOR, nextCursor);
+    }
+
+    private static void writeContent(JsonGenerator generator, List<DataProduct> dataProducts) throws IOException {
+        // Scratch space for ids and timestamps, which are written from chars instead of Strings
+        char[] buffer = new char[40];
+        generator.writeFieldName(CONTENT);
+        generator.writeStartArray();
+        for (DataProduct dataProduct : dataProducts) {
+            generator.writeStartObject();
+            generator.writeFieldName(ID);
+            generator.writeString(buffer, 0, formatUuid(dataProduct.getId(), buffer));
+            writeStringField(generator, NAME, dataProduct.getName());
+            writeStringField(generator, DESCRIPTION, dataProduct.getDescription());
+            writeStringField(generator, PORTFOLIO, dataProduct.getPortfolio());
+            writeStringField(generator, SOURCE, dataProduct.getSource());
+            writeStringField(generator, SENSITIVITY_CATEGORY, dataProduct.getSensitivityCategory().name());
+            writeStringField(generator, DATA_FORMAT, dataProduct.getDataFormat());
+            writeStringField(generator, OWNER, dataProduct.getOwner());
+            writeTagsField(generator, dataProduct.getTags());
+            generator.writeFieldName(IS_ACTIVE);
+            writeBooleanOrNull(generator, dataProduct.getIsActive());
+            generator.writeFieldName(RETENTION_PERIOD_DAYS);
+            writeNumberOrNull(generator, dataProduct.getRetentionPeriodDays());
+            writeTimestampField(generator, CREATED_AT, dataProduct.getCreatedAt(), buffer);
+            writeTimestampField(generator, UPDATED_AT, dataProduct.getUpdatedAt(), buffer);
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeProjections(JsonGenerator generator, List<DataProductProjection> rows,
+                                         Set<DataProductField> fields) throws IOException {
+        char[] buffer = new char[40];
+        generator.writeFieldName(CONTENT);
+        generator.writeStartArray();
+        for (DataProductProjection row : rows) {
+            generator.writeStartObject();
+            for (DataProductField field : fields) {
+                switch (field) {
+                    case ID -> {
+                        generator.writeFieldName(ID);
+                        generator.writeString(buffer, 0, formatUuid(row.id(), buffer));
+                    }
+                    case NAME -> writeStringField(generator, NAME, row.name());
+                    case DESCRIPTION -> writeStringField(generator, DESCRIPTION, row.description());
+                    case PORTFOLIO -> writeStringField(generator, PORTFOLIO, row.portfolio());
+                    case SOURCE -> writeStringField(generator, SOURCE, row.source());
+                    case SENSITIVITY_CATEGORY -> writeStringField(generator, SENSITIVITY_CATEGORY,
+                            row.sensitivityCategory() != null ? row.sensitivityCategory().name() : null);
+                    case DATA_FORMAT -> writeStringField(generator, DATA_FORMAT, row.dataFormat());
+                    case OWNER -> writeStringField(generator, OWNER, row.owner());
+                    case TAGS -> writeTagsField(generator, row.tags());
+                    case IS_ACTIVE -> {
+                        generator.writeFieldName(IS_ACTIVE);
+                        writeBooleanOrNull(generator, row.isActive());
+                    }
+                    case RETENTION_PERIOD_DAYS -> {
+                        generator.writeFieldName(RETENTION_PERIOD_DAYS);
+                        writeNumberOrNull(generator, row.retentionPeriodDays());
+                    }
+                    case CREATED_AT -> writeTimestampField(generator, CREATED_AT, row.createdAt(), buffer);
+                    case UPDATED_AT -> writeTimestampField(generator, UPDATED_AT, row.updatedAt(), buffer);
+                }
+            }
+            generator.writeEndObject();
+        }
+        generator.writeEndArray();
+    }
+
+    private static void writeTagsField(JsonGenerator generator, List<String> tags) throws IOException {
+        generator.writeFieldName(TAGS);
+        if (tags != null) {
+            generator.writeStartArray();
+            for (String tag : tags) {
+                generator.writeString(tag);
+            }
+            generator.writeEndArray();
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private static void writeBooleanOrNull(JsonGenerator generator, Boolean value) throws IOException {
+        if (value != null) {
+            generator.writeBoolean(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private static void writeStringField(JsonGenerator generator, SerializedString name, String value)
+            throws IOException {
+        generator.writeFieldName(name);
+        if (value != null) {
+            generator.writeString(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    private static void writeNumberOrNull(JsonGenerator generator, Integer value) throws IOException {
+        if (value != null) {
+            generator.writeNumber(value);
+        } else {
+            generator.writeNull();
+        }
+    }
+
+    // Same text as Jackson's OffsetDateTimeSerializer for value.atOffset(UTC), i.e. ISO_OFFSET_DATE_TIME
+    private static void writeTimestampField(JsonGenerator generator, SerializedString name, LocalDateTime value,
+                                            char[] buffer) throws IOException {
+        generator.writeFieldName(name);
+        if (value.getYear() < 0 || value.getYear() > 9999) {
+            generator.writeString(DateTimeFormatter.ISO_OFFSET_DATE_TIME.format(value.atOffset(ZoneOffset.UTC)));
+            return;
+        }
+        int length = 0;
+        length = formatDigits(buffer, length, value.getYear(), 4);
+        buffer[length++] = '-';
+        length = formatDigits(buffer, length, value.getMonthValue(), 2);
+        buffer[length++] = '-';
+        length = formatDigits(buffer, length, value.getDayOfMonth(), 2);
+        buffer[length++] = 'T';
+        length = formatDigits(buffer, length, value.getHour(), 2);
+        buffer[length++] = ':';
+        length = formatDigits(buffer, length, value.getMinute(), 2);
+        buffer[length++] = ':';
+        length = formatDigits(buffer, length, value.getSecond(), 2);
+        int nano = value.getNano();
+        if (nano != 0) {
+            // Shortest fraction that keeps every non-zero digit, as appendFraction(NANO_OF_SECOND, 0, 9, true)
+            int digits = 9;
+            while (nano % 10 == 0) {
+                nano /= 10;
+                digits--;
+            }
+            buffer[length++] = '.';
+            length = formatDigits(buffer, length, nano, digits);
+        }
+        buffer[length++] = 'Z';
+        generator.writeString(buffer, 0, length);
+    }
+
+    private static int formatDigits(char[] buffer, int offset, int value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = (char) ('0' + value % 10);
+            value /= 10;
+        }
+        return offset + width;
+    }
+
+    private static int formatUuid(UUID id, char[] buffer) {
+        formatHex(buffer, 0, id.getMostSignificantBits() >>> 32, 8);
+        buffer[8] = '-';
+        formatHex(buffer, 9, id.getMostSignificantBits() >>> 16, 4);
+        buffer[13] = '-';
+        formatHex(buffer, 14, id.getMostSignificantBits(), 4);
+        buffer[18] = '-';
+        formatHex(buffer, 19, id.getLeastSignificantBits() >>> 48, 4);
+        buffer[23] = '-';
+        formatHex(buffer, 24, id.getLeastSignificantBits(), 12);
+        return 36;
+    }
+
+    private static void formatHex(char[] buffer, int offset, long value, int width) {
+        for (int i = offset + width - 1; i >= offset; i--) {
+            buffer[i] = HEX_DIGITS[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+package com.dataproduct.api.mapper;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.generated.model.UpdateDataProductRequest;
+import com.dataproduct.api.repository.DataProductField;
+import com.dataproduct.api.repository.DataProductPatch;
+import com.dataproduct.commons.exception.InvalidRequestException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+/**
+ * Turns a JSON Merge Patch body into a DataProductPatch. The body is bound to an
+ * UpdateDataProductRequest to check types and the spec's constraints; the body's own keys decide
+ * which fields the patch sets, since the bound request cannot tell an absent property from null.
+ */
+@Component
+public class DataProductPatchReader {
+
+    private final ObjectMapper objectMapper;
+    private final Validator validator;
+
+    @Autowired
+    public DataProductPatchReader(ObjectMapper objectMapper, Validator validator) {
+        this.objectMapper = objectMapper;
+        this.validator = validator;
+    }
+
+    public DataProductPatch read(Map<String, Object> body) {
+        UpdateDataProductRequest request;
+        try {
+            request = objectMapper.convertValue(body, UpdateDataProductRequest.class);
+        } catch (IllegalArgumentException e) {
+            String reason = e.getCause() instanceof JsonProcessingException cause ? cause.getOriginalMessage() : e.getMessage();
+            throw new InvalidRequestException("Malformed patch: " + reason, e);
+        }
+
+        Set<ConstraintViolation<UpdateDataProductRequest>> violations = validator.validate(request);
+        if (!violations.isEmpty()) {
+            throw new InvalidRequestException(violations.stream()
+                    .map(violation -> violation.getPropertyPath() + ": " + violation.getMessage())
+                    .sorted()
+                    .collect(Collectors.joining("; ")));
+        }
+
+        DataProductPatch patch = new DataProductPatch();
+        for (String property : body.keySet()) {
+            DataProductField field = DataProductField.fromProperty(property);
+            patch.set(field, valueOf(field, request));
+        }
+        return patch;
+    }
+
+    private static Object valueOf(DataProductField field, UpdateDataProductRequest request) {
+        return switch (field) {
+            case NAME -> request.getName();
+            case DESCRIPTION -> request.getDescription();
+            case PORTFOLIO -> request.getPortfolio();
+            case SOURCE -> request.getSource();
+            case SENSITIVITY_CATEGORY -> request.getSensitivityCategory() != null ?
+                    DataProduct.SensitivityCategory.valueOf(request.getSensitivityCategory().name()) : null;
+            case DATA_FORMAT -> request.getDataFormat();
+            case OWNER -> request.getOwner();
+            case TAGS -> request.getTags();
+            case IS_ACTIVE -> request.getIsActive();
+            case RETENTION_PERIOD_DAYS -> request.getRetentionPeriodDays();
+            // Rejected by DataProductPatch.set
+            case ID, CREATED_AT, UPDATED_AT -> null;
+        };
+    }
+}
\ No newline at end of file
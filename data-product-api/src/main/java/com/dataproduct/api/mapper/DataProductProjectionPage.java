@@ -0,0 +1,37 @@
+package com.dataproduct.api.mapper;
+
+import com.dataproduct.api.repository.DataProductField;
+import com.dataproduct.api.repository.DataProductProjection;
+import com.dataproduct.api.service.DataProductCursor;
+import com.dataproduct.api.service.DataProductCursorPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Slice;
+
+import java.util.List;
+import java.util.Set;
+
+/**
+ * A sparse-fieldset list response: the fields of DataProductPageResponse with each row limited to
+ * the requested fields, to be rendered by {@link DataProductPageJsonWriter}.
+ */
+public record DataProductProjectionPage(List<DataProductProjection> content, Set<DataProductField> fields,
+                                        Integer page, int size, Integer totalElements, Integer totalPages,
+                                        boolean first, boolean last, String nextCursor) {
+
+    public static DataProductProjectionPage of(Page<DataProductProjection> page, Set<DataProductField> fields) {
+        return new DataProductProjectionPage(page.getContent(), fields, page.getNumber(), page.getSize(),
+                (int) page.getTotalElements(), page.getTotalPages(), page.isFirst(), page.isLast(), null);
+    }
+
+    public static DataProductProjectionPage ofCursor(DataProductCursorPage<DataProductProjection> cursorPage,
+                                                     Set<DataProductField> fields) {
+        Slice<DataProductProjection> slice = cursorPage.slice();
+        String nextCursor = null;
+        if (slice.hasNext()) {
+            DataProductProjection lastRow = slice.getContent().get(slice.getNumberOfElements() - 1);
+            nextCursor = new DataProductCursor(lastRow.createdAt(), lastRow.id()).encode();
+        }
+        return new DataProductProjectionPage(slice.getContent(), fields, null, slice.getSize(), null, null,
+                cursorPage.first(), !slice.hasNext(), nextCursor);
+    }
+}
\ No newline at end of file
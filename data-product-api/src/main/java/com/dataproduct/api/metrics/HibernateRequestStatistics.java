@@ -0,0 +1,125 @@
+package com.dataproduct.api.metrics;
+
+import org.hibernate.BaseSessionEventListener;
+import org.hibernate.boot.Metadata;
+import org.hibernate.boot.spi.BootstrapContext;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.InitializeCollectionEventListener;
+import org.hibernate.event.spi.PostLoadEventListener;
+import org.hibernate.integrator.spi.Integrator;
+import org.hibernate.service.spi.SessionFactoryServiceRegistry;
+
+/**
+ * Feeds the JDBC time and the statement, entity load and collection fetch counts of Hibernate
+ * sessions into the current {@link RequestTiming}. Hibernate's own Statistics are global, so they
+ * cannot be attributed to a request.
+ */
+public final class HibernateRequestStatistics {
+
+    private HibernateRequestStatistics() {
+    }
+
+    /**
+     * Registered per session through hibernate.session.events.auto; batches count once. The session
+     * is bound to the RequestTiming of the thread that opens it, which with open-in-view is the
+     * request thread. With replica routing the DataSource hands out a lazy proxy, so the pool
+     * checkout happens on the first statement and is counted as JDBC time.
+     */
+    public static class StatementListener extends BaseSessionEventListener {
+
+        private final RequestTiming timing = RequestTiming.current();
+        private long connectionStart;
+        private long jdbcStart;
+
+        @Override
+        public void jdbcConnectionAcquisitionStart() {
+            if (timing != null) {
+                connectionStart = System.nanoTime();
+            }
+        }
+
+        @Override
+        public void jdbcConnectionAcquisitionEnd() {
+            if (timing != null) {
+                timing.connectionNanos += System.nanoTime() - connectionStart;
+            }
+        }
+
+        @Override
+        public void jdbcPrepareStatementStart() {
+            jdbcStart();
+        }
+
+        @Override
+        public void jdbcPrepareStatementEnd() {
+            jdbcEnd();
+        }
+
+        @Override
+        public void jdbcExecuteStatementStart() {
+            jdbcStart();
+        }
+
+        @Override
+        public void jdbcExecuteStatementEnd() {
+            if (timing != null) {
+                jdbcEnd();
+                timing.statements++;
+            }
+        }
+
+        @Override
+        public void jdbcExecuteBatchStart() {
+            jdbcExecuteStatementStart();
+        }
+
+        @Override
+        public void jdbcExecuteBatchEnd() {
+            jdbcExecuteStatementEnd();
+        }
+
+        private void jdbcStart() {
+            if (timing != null) {
+                jdbcStart = System.nanoTime();
+            }
+        }
+
+        private void jdbcEnd() {
+            if (timing != null) {
+                timing.jdbcNanos += System.nanoTime() - jdbcStart;
+            }
+        }
+    }
+
+    /**
+     * Appends load and collection initialization listeners; Hibernate's defaults still do the work.
+     */
+    static class EventIntegrator implements Integrator {
+
+        @Override
+        public void integrate(Metadata metadata, BootstrapContext bootstrapContext,
+                              SessionFactoryImplementor sessionFactory) {
+            EventListenerRegistry listeners = sessionFactory.getServiceRegistry()
+                    .getService(EventListenerRegistry.class);
+            listeners.appendListeners(EventType.POST_LOAD, (PostLoadEventListener) event -> {
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) {
+                    timing.entityLoads++;
+                }
+            });
+            listeners.appendListeners(EventType.INIT_COLLECTION, (InitializeCollectionEventListener) event -> {
+                RequestTiming timing = RequestTiming.current();
+                if (timing != null) {
+                    timing.collectionFetches++;
+                }
+            });
+        }
+
+        @Override
+        public void disintegrate(SessionFactoryImplementor sessionFactory,
+                                 SessionFactoryServiceRegistry serviceRegistry) {
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,47 @@
+package com.dataproduct.api.metrics;
+
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.jpa.boot.spi.IntegratorProvider;
+import org.hibernate.jpa.boot.spi.JpaSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+import java.util.List;
+
+/**
+ * Timers for the @Timed controller and service, and per-request phase timing (RequestTimingFilter).
+ * Repository invocations (spring.data.repository.invocations), HTTP requests and the Hikari pools
+ * are instrumented by Spring Boot; application.yml turns on their percentile histograms.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    @Bean
+    public HibernatePropertiesCustomizer hibernateRequestStatisticsCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.AUTO_SESSION_EVENTS_LISTENER,
+                    HibernateRequestStatistics.StatementListener.class.getName());
+            properties.put(JpaSettings.INTEGRATOR_PROVIDER,
+                    (IntegratorProvider) () -> List.of(new HibernateRequestStatistics.EventIntegrator()));
+        };
+    }
+
+    @Bean
+    public RequestTimingFilter requestTimingFilter(
+            MeterRegistry meterRegistry,
+            @Value("${dataproduct.request-timing.server-timing-header:true}") boolean serverTimingHeader,
+            @Value("${dataproduct.request-timing.slow-threshold:1s}") Duration slowThreshold,
+            @Value("${dataproduct.request-timing.slow-log-sample-rate:0.1}") double slowLogSampleRate) {
+        return new RequestTimingFilter(meterRegistry, serverTimingHeader, slowThreshold, slowLogSampleRate);
+    }
+}
\ No newline at end of file
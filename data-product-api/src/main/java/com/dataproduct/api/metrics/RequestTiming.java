@@ -0,0 +1,120 @@
+package com.dataproduct.api.metrics;
+
+/**
+ * Request-scoped accumulator of where a request's time went: connection acquisition, JDBC
+ * statements, entity to response mapping and writing the body, plus Hibernate's statement, entity
+ * load and collection fetch counts. It is held in a thread local between begin and end, so work
+ * that leaves the request's thread is not seen. Recording is a field update; on threads that are
+ * not tracking, such as scheduled jobs, nothing is recorded.
+ */
+public final class RequestTiming {
+
+    private static final ThreadLocal<RequestTiming> CURRENT = new ThreadLocal<>();
+
+    private final long startNanos = System.nanoTime();
+    private long bodyStartNanos;
+    private long endNanos;
+
+    long connectionNanos;
+    long jdbcNanos;
+    long mappingNanos;
+    long statements;
+    long entityLoads;
+    long collectionFetches;
+
+    private RequestTiming() {
+    }
+
+    public static RequestTiming begin() {
+        RequestTiming timing = new RequestTiming();
+        CURRENT.set(timing);
+        return timing;
+    }
+
+    public static RequestTiming current() {
+        return CURRENT.get();
+    }
+
+    public void end() {
+        endNanos = System.nanoTime();
+        if (bodyStartNanos == 0) {
+            bodyStartNanos = endNanos;
+        }
+        if (CURRENT.get() == this) {
+            CURRENT.remove();
+        }
+    }
+
+    /**
+     * Start of a mapping section, or 0 when the current thread is not tracking.
+     */
+    public static long mappingStart() {
+        return CURRENT.get() != null ? System.nanoTime() : 0;
+    }
+
+    public static void mappingEnd(long mappingStart) {
+        RequestTiming timing = CURRENT.get();
+        if (mappingStart != 0 && timing != null) {
+            timing.mappingNanos += System.nanoTime() - mappingStart;
+        }
+    }
+
+    /**
+     * Marks the point where the handler is done and the response starts being written; the first
+     * call wins.
+     */
+    void markBodyStart() {
+        if (bodyStartNanos == 0) {
+            bodyStartNanos = System.nanoTime();
+        }
+    }
+
+    /** From the start of the request until the body starts being written. */
+    public long applicationNanos() {
+        return (bodyStartNanos != 0 ? bodyStartNanos : System.nanoTime()) - startNanos;
+    }
+
+    /** Writing the body, which for list pages includes mapping entities to JSON. */
+    public long bodyNanos() { return endNanos != 0 ? endNanos - bodyStartNanos : 0; }
+
+    public long totalNanos() {
+        return (endNanos != 0 ? endNanos : System.nanoTime()) - startNanos;
+    }
+
+    public long connectionNanos() { return connectionNanos; }
+
+    public long jdbcNanos() { return jdbcNanos; }
+
+    public long mappingNanos() { return mappingNanos; }
+
+    public long statements() { return statements; }
+
+    public long entityLoads() { return entityLoads; }
+
+    public long collectionFetches() { return collectionFetches; }
+
+    /**
+     * The Server-Timing header value for the phases known before the body is written, e.g.
+     * {@code db-conn;dur=0.042, db;dur=1.318;desc="3 statements", map;dur=0.011, app;dur=2.205}.
+     */
+    public String serverTiming() {
+        StringBuilder header = new StringBuilder(96);
+        appendMillis(header.append("db-conn;dur="), connectionNanos);
+        appendMillis(header.append(", db;dur="), jdbcNanos);
+        header.append(";desc=\"").append(statements).append(statements == 1 ? " statement\"" : " statements\"");
+        appendMillis(header.append(", map;dur="), mappingNanos);
+        appendMillis(header.append(", app;dur="), applicationNanos());
+        return header.toString();
+    }
+
+    // Milliseconds with microsecond precision, without String.format on the request path
+    static StringBuilder appendMillis(StringBuilder builder, long nanos) {
+        long micros = Math.max(nanos, 0) / 1_000;
+        long fraction = micros % 1_000;
+        builder.append(micros / 1_000).append('.');
+        if (fraction < 100) {
+            builder.append(fraction < 10 ? "00" : "0");
+        }
+        return builder.append(fraction);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,206 @@
+package com.dataproduct.api.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Meter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.Ordered;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Tracks a {@link RequestTiming} for each request and reports it three ways:
+ * <ul>
+ *   <li>a Server-Timing header, added just before the response is committed, with the phases
+ *   known by then; writing the body comes later and is only in the log line</li>
+ *   <li>a key=value log line for requests slower than the threshold, for a sample of them</li>
+ *   <li>dataproduct.hibernate.* summaries tagged with the handler method</li>
+ * </ul>
+ * Work done after an async request has left the servlet thread (change feed long polls,
+ * exports) is not included, and async requests are not logged.
+ */
+public class RequestTimingFilter extends OncePerRequestFilter implements Ordered {
+
+    private static final Logger log = LoggerFactory.getLogger(RequestTimingFilter.class);
+
+    // OncePerRequestFilter would concatenate this on every request
+    private static final String ALREADY_FILTERED_ATTRIBUTE = RequestTimingFilter.class.getName()
+            + ALREADY_FILTERED_SUFFIX;
+
+    private final Meter.MeterProvider<DistributionSummary> statements;
+    private final Meter.MeterProvider<DistributionSummary> entityLoads;
+    private final Meter.MeterProvider<DistributionSummary> collectionFetches;
+    // Resolved once per handler method; the registry lookup builds an id and hashes its tags
+    private final Map<String, OperationSummaries> summaries = new ConcurrentHashMap<>();
+    private final boolean serverTimingHeader;
+    private final long slowThresholdNanos;
+    private final double slowLogSampleRate;
+
+    public RequestTimingFilter(MeterRegistry meterRegistry, boolean serverTimingHeader,
+                               Duration slowThreshold, double slowLogSampleRate) {
+        this.statements = summary("dataproduct.hibernate.statements", "JDBC statements executed per request",
+                meterRegistry);
+        this.entityLoads = summary("dataproduct.hibernate.entity.loads", "Entities loaded per request",
+                meterRegistry);
+        this.collectionFetches = summary("dataproduct.hibernate.collection.fetches",
+                "Collections initialized per request", meterRegistry);
+        this.serverTimingHeader = serverTimingHeader;
+        this.slowThresholdNanos = slowThreshold.toNanos();
+        this.slowLogSampleRate = slowLogSampleRate;
+    }
+
+    // Just inside Spring Boot's observation filter, so the timing covers the other filters too
+    @Override
+    public int getOrder() {
+        return Ordered.HIGHEST_PRECEDENCE + 2;
+    }
+
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return ALREADY_FILTERED_ATTRIBUTE;
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        RequestTiming timing = RequestTiming.begin();
+        ServerTimingResponse timedResponse = new ServerTimingResponse(response, timing);
+        try {
+            filterChain.doFilter(request, timedResponse);
+        } finally {
+            timedResponse.bodyStarting();
+            timing.end();
+            String operation = operation(request);
+            OperationSummaries operationSummaries = summaries.get(operation);
+            if (operationSummaries == null) {
+                operationSummaries = summaries.computeIfAbsent(operation, this::summaries);
+            }
+            operationSummaries.statements().record(timing.statements());
+            operationSummaries.entityLoads().record(timing.entityLoads());
+            operationSummaries.collectionFetches().record(timing.collectionFetches());
+            if (timing.totalNanos() >= slowThresholdNanos && !request.isAsyncStarted()
+                    && ThreadLocalRandom.current().nextDouble() < slowLogSampleRate) {
+                logSlowRequest(request, response, operation, timing);
+            }
+        }
+    }
+
+    private static Meter.MeterProvider<DistributionSummary> summary(String name, String description,
+                                                                   MeterRegistry meterRegistry) {
+        return DistributionSummary.builder(name)
+                .description(description)
+                .publishPercentileHistogram()
+                .withRegistry(meterRegistry);
+    }
+
+    private OperationSummaries summaries(String operation) {
+        return new OperationSummaries(statements.withTag("operation", operation),
+                entityLoads.withTag("operation", operation), collectionFetches.withTag("operation", operation));
+    }
+
+    private record OperationSummaries(DistributionSummary statements, DistributionSummary entityLoads,
+                                      DistributionSummary collectionFetches) {
+    }
+
+    // The handler method stands in for the path, which may carry ids or personal data
+    private static void logSlowRequest(HttpServletRequest request, HttpServletResponse response, String operation,
+                                       RequestTiming timing) {
+        StringBuilder line = new StringBuilder(256)
+                .append("slow_request method=").append(request.getMethod())
+                .append(" operation=").append(operation)
+                .append(" status=").append(response.getStatus());
+        RequestTiming.appendMillis(line.append(" total_ms="), timing.totalNanos());
+        RequestTiming.appendMillis(line.append(" db_conn_ms="), timing.connectionNanos());
+        RequestTiming.appendMillis(line.append(" db_ms="), timing.jdbcNanos());
+        line.append(" statements=").append(timing.statements())
+                .append(" entity_loads=").append(timing.entityLoads())
+                .append(" collection_fetches=").append(timing.collectionFetches());
+        RequestTiming.appendMillis(line.append(" map_ms="), timing.mappingNanos());
+        RequestTiming.appendMillis(line.append(" app_ms="), timing.applicationNanos());
+        RequestTiming.appendMillis(line.append(" body_ms="), timing.bodyNanos());
+        log.warn(line.toString());
+    }
+
+    // Bounded by the number of handler methods; unmapped paths share "none"
+    private static String operation(HttpServletRequest request) {
+        Object handler = request.getAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE);
+        return handler instanceof HandlerMethod handlerMethod ? handlerMethod.getMethod().getName() : "none";
+    }
+
+    /**
+     * Notices the first access to the body, a flush or an error, which is when Spring MVC has
+     * finished the handler and is about to commit the headers.
+     */
+    private final class ServerTimingResponse extends HttpServletResponseWrapper {
+
+        private final RequestTiming timing;
+        private boolean bodyStarted;
+
+        ServerTimingResponse(HttpServletResponse response, RequestTiming timing) {
+            super(response);
+            this.timing = timing;
+        }
+
+        void bodyStarting() {
+            if (bodyStarted) {
+                return;
+            }
+            bodyStarted = true;
+            timing.markBodyStart();
+            if (serverTimingHeader && !isCommitted()) {
+                setHeader("Server-Timing", timing.serverTiming());
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            bodyStarting();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            bodyStarting();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            bodyStarting();
+            super.flushBuffer();
+        }
+
+        @Override
+        public void sendError(int sc, String msg) throws IOException {
+            bodyStarting();
+            super.sendError(sc, msg);
+        }
+
+        @Override
+        public void sendError(int sc) throws IOException {
+            bodyStarting();
+            super.sendError(sc);
+        }
+
+        @Override
+        public void sendRedirect(String location) throws IOException {
+            bodyStarting();
+            super.sendRedirect(location);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,15 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+
+import java.util.List;
+import java.util.UUID;
+
+public record DataProductFacetValues(
+        UUID id,
+        String portfolio,
+        DataProduct.SensitivityCategory sensitivityCategory,
+        String dataFormat,
+        Boolean isActive,
+        List<String> tags) {
+}
\ No newline at end of file
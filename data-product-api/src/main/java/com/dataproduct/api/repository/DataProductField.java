@@ -0,0 +1,61 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.commons.exception.InvalidRequestException;
+
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Fields of DataProductResponse that a sparse fieldset can select or a merge patch can set, in
+ * response order. Each is named after both the JSON property and the entity attribute it is read
+ * from, and knows its column for the statements built outside JPQL.
+ */
+public enum DataProductField {
+
+    ID("id", "id"),
+    NAME("name", "name"),
+    DESCRIPTION("description", "description"),
+    PORTFOLIO("portfolio", "portfolio"),
+    SOURCE("source", "source"),
+    SENSITIVITY_CATEGORY("sensitivityCategory", "sensitivity_category"),
+    DATA_FORMAT("dataFormat", "data_format"),
+    OWNER("owner", "owner"),
+    TAGS("tags", "tags"),
+    IS_ACTIVE("isActive", "is_active"),
+    RETENTION_PERIOD_DAYS("retentionPeriodDays", "retention_period_days"),
+    CREATED_AT("createdAt", "created_at"),
+    UPDATED_AT("updatedAt", "updated_at");
+
+    private final String attribute;
+    private final String column;
+
+    DataProductField(String attribute, String column) {
+        this.attribute = attribute;
+        this.column = column;
+    }
+
+    public String getAttribute() { return attribute; }
+
+    public String getColumn() { return column; }
+
+    /**
+     * Resolves a fields parameter; id is always included so rows stay addressable.
+     */
+    public static Set<DataProductField> fromParameters(List<String> names) {
+        Set<DataProductField> fields = EnumSet.of(ID);
+        for (String name : names) {
+            fields.add(fromProperty(name.trim()));
+        }
+        return fields;
+    }
+
+    public static DataProductField fromProperty(String name) {
+        for (DataProductField field : values()) {
+            if (field.attribute.equals(name)) {
+                return field;
+            }
+        }
+        throw new InvalidRequestException("Unsupported field: " + name);
+    }
+}
\ No newline at end of file
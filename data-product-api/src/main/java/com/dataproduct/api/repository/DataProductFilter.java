@@ -0,0 +1,26 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+
+import java.time.LocalDateTime;
+
+/**
+ * Optional list filters; null fields are not applied. createdFrom is inclusive, createdTo
+ * exclusive. Tags are passed separately, see DataProductFilterRepository.
+ */
+public record DataProductFilter(
+        String portfolio,
+        DataProduct.SensitivityCategory sensitivityCategory,
+        String owner,
+        String source,
+        String dataFormat,
+        Boolean isActive,
+        LocalDateTime createdFrom,
+        LocalDateTime createdTo) {
+
+    public static final DataProductFilter NONE = new DataProductFilter(null, null, null, null, null, null, null, null);
+
+    public static DataProductFilter of(String portfolio, DataProduct.SensitivityCategory sensitivityCategory) {
+        return new DataProductFilter(portfolio, sensitivityCategory, null, null, null, null, null, null);
+    }
+}
\ No newline at end of file
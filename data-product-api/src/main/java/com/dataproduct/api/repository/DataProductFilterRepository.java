@@ -0,0 +1,77 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Filtered list queries. Null tag arguments mean "not filtered"; anyTags matches data products with
+ * at least one of the tags, allTags those with every one of them. The projection variants select only
+ * the requested columns and return untracked rows. Offset pages are ordered by the pageable's sort,
+ * which has to come from a DataProductSort; unsorted means creation order.
+ */
+public interface DataProductFilterRepository {
+
+    Page<DataProduct> findWithFilters(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            Pageable pageable);
+
+    Slice<DataProduct> findFirstSliceWithFilters(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            Pageable pageable);
+
+    Slice<DataProduct> findSliceWithFiltersAfter(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            LocalDateTime createdAt,
+            UUID id,
+            Pageable pageable);
+
+    /**
+     * Whether a matching row sits at or before the (createdAt, id) position, i.e. whether a slice
+     * read after that cursor has rows in front of it.
+     */
+    boolean existsWithFiltersAtOrBefore(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            LocalDateTime createdAt,
+            UUID id);
+
+    Page<DataProductProjection> findProjectionsWithFilters(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            Set<DataProductField> fields,
+            Pageable pageable);
+
+    /**
+     * Keyset slice of projections; a null createdAt and id start from the first row.
+     */
+    Slice<DataProductProjection> findProjectionSliceWithFilters(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            Set<DataProductField> fields,
+            LocalDateTime createdAt,
+            UUID id,
+            Pageable pageable);
+
+    /**
+     * Every matching data product in (createdAt, id) order, read from an open cursor and loaded
+     * read-only. Must be consumed inside a transaction.
+     */
+    Stream<DataProduct> streamWithFilters(DataProductFilter filter);
+}
\ No newline at end of file
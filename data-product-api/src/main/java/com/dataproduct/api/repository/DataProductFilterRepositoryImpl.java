@@ -0,0 +1,314 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TypedQuery;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.StringJoiner;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+/**
+ * Builds the WHERE clause from the filters actually supplied, always in the same predicate order,
+ * so each filter combination renders one query string. Hibernate caches the parsed plan per query
+ * string (hibernate.query.plan_cache_max_size) and the PostgreSQL driver keeps a server-side
+ * prepared statement per string and connection, so the database plans each shape with only the
+ * predicates it has. Tags are bound one parameter per tag, padded to a power of two to bound the
+ * number of shapes, so the tag predicates render as Postgres array operators (&& for any, one @>
+ * per tag for all) that the GIN index on tags serves. Offset pages are ordered by a
+ * DataProductSort, keyset slices by (createdAt, id). Projections are Tuple queries over the
+ * selected attributes, so they never enter the persistence context.
+ */
+class DataProductFilterRepositoryImpl implements DataProductFilterRepository {
+
+    private static final String ORDER_BY_KEYSET = " ORDER BY dp.createdAt, dp.id";
+    private static final String ORDER_BY_KEYSET_DESC = " ORDER BY dp.createdAt DESC, dp.id DESC";
+
+    // Rows per round trip on the export path
+    private static final int STREAM_FETCH_SIZE = 500;
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    DataProductFilterRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<DataProduct> findWithFilters(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            Pageable pageable) {
+        Where where = new Where(filter, anyTags, allTags);
+
+        TypedQuery<DataProduct> select = entityManager.createQuery(
+                "SELECT dp FROM DataProduct dp" + where.clause() + orderBy(pageable), DataProduct.class);
+        where.bind(select);
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(pageable.getPageSize());
+        List<DataProduct> content = select.getResultList();
+
+        TypedQuery<Long> count = entityManager.createQuery(
+                "SELECT COUNT(dp) FROM DataProduct dp" + where.clause(), Long.class);
+        where.bind(count);
+
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    @Override
+    public Slice<DataProduct> findFirstSliceWithFilters(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            Pageable pageable) {
+        return slice(new Where(filter, anyTags, allTags), pageable);
+    }
+
+    @Override
+    public Slice<DataProduct> findSliceWithFiltersAfter(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            LocalDateTime createdAt,
+            UUID id,
+            Pageable pageable) {
+        Where where = new Where(filter, anyTags, allTags);
+        where.after(createdAt, id);
+        return slice(where, pageable);
+    }
+
+    // One row read backwards from the cursor on the same index the slice seeks forwards on
+    @Override
+    public boolean existsWithFiltersAtOrBefore(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            LocalDateTime createdAt,
+            UUID id) {
+        Where where = new Where(filter, anyTags, allTags);
+        where.atOrBefore(createdAt, id);
+
+        TypedQuery<UUID> probe = entityManager.createQuery(
+                "SELECT dp.id FROM DataProduct dp" + where.clause() + ORDER_BY_KEYSET_DESC, UUID.class);
+        where.bind(probe);
+        probe.setMaxResults(1);
+        return !probe.getResultList().isEmpty();
+    }
+
+    @Override
+    public Page<DataProductProjection> findProjectionsWithFilters(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            Set<DataProductField> fields,
+            Pageable pageable) {
+        Where where = new Where(filter, anyTags, allTags);
+
+        TypedQuery<Tuple> select = entityManager.createQuery(
+                selectFields(fields) + " FROM DataProduct dp" + where.clause() + orderBy(pageable), Tuple.class);
+        where.bind(select);
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(pageable.getPageSize());
+        List<DataProductProjection> content = select.getResultList().stream()
+                .map(row -> toProjection(row, fields))
+                .toList();
+
+        TypedQuery<Long> count = entityManager.createQuery(
+                "SELECT COUNT(dp) FROM DataProduct dp" + where.clause(), Long.class);
+        where.bind(count);
+
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    @Override
+    public Slice<DataProductProjection> findProjectionSliceWithFilters(
+            DataProductFilter filter,
+            List<String> anyTags,
+            List<String> allTags,
+            Set<DataProductField> fields,
+            LocalDateTime createdAt,
+            UUID id,
+            Pageable pageable) {
+        Where where = new Where(filter, anyTags, allTags);
+        if (createdAt != null && id != null) {
+            where.after(createdAt, id);
+        }
+
+        TypedQuery<Tuple> select = entityManager.createQuery(
+                selectFields(fields) + " FROM DataProduct dp" + where.clause() + ORDER_BY_KEYSET, Tuple.class);
+        where.bind(select);
+        Slice<Tuple> rows = slice(select, pageable);
+        return rows.map(row -> toProjection(row, fields));
+    }
+
+    @Override
+    public Stream<DataProduct> streamWithFilters(DataProductFilter filter) {
+        Where where = new Where(filter, null, null);
+
+        // Rows are pulled in fetch-size chunks, without dirty-checking snapshots
+        TypedQuery<DataProduct> select = entityManager.createQuery(
+                "SELECT dp FROM DataProduct dp" + where.clause() + ORDER_BY_KEYSET, DataProduct.class);
+        where.bind(select);
+        select.setHint(HibernateHints.HINT_FETCH_SIZE, STREAM_FETCH_SIZE);
+        select.setHint(HibernateHints.HINT_READ_ONLY, true);
+        return select.getResultStream();
+    }
+
+    private Slice<DataProduct> slice(Where where, Pageable pageable) {
+        TypedQuery<DataProduct> select = entityManager.createQuery(
+                "SELECT dp FROM DataProduct dp" + where.clause() + ORDER_BY_KEYSET, DataProduct.class);
+        where.bind(select);
+        return slice(select, pageable);
+    }
+
+    // Offset pages follow the pageable's sort, which must be one of the index-backed DataProductSorts
+    private static String orderBy(Pageable pageable) {
+        return " ORDER BY " + DataProductSort.of(pageable.getSort()).orderBy();
+    }
+
+    // Reads one row past the page instead of counting
+    private static <T> Slice<T> slice(TypedQuery<T> select, Pageable pageable) {
+        select.setMaxResults(pageable.getPageSize() + 1);
+        List<T> rows = select.getResultList();
+
+        boolean hasNext = rows.size() > pageable.getPageSize();
+        List<T> content = hasNext ? rows.subList(0, pageable.getPageSize()) : rows;
+        return new SliceImpl<>(content, pageable, hasNext);
+    }
+
+    // id and createdAt are always selected: every row needs its id and the last one the cursor
+    private static String selectFields(Set<DataProductField> fields) {
+        StringJoiner select = new StringJoiner(", ", "SELECT ", "");
+        select.add("dp.id AS id").add("dp.createdAt AS createdAt");
+        for (DataProductField field : fields) {
+            if (field != DataProductField.ID && field != DataProductField.CREATED_AT) {
+                select.add("dp." + field.getAttribute() + " AS " + field.getAttribute());
+            }
+        }
+        return select.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static DataProductProjection toProjection(Tuple row, Set<DataProductField> fields) {
+        return new DataProductProjection(
+                row.get("id", UUID.class),
+                value(row, fields, DataProductField.NAME, String.class),
+                value(row, fields, DataProductField.DESCRIPTION, String.class),
+                value(row, fields, DataProductField.PORTFOLIO, String.class),
+                value(row, fields, DataProductField.SOURCE, String.class),
+                value(row, fields, DataProductField.SENSITIVITY_CATEGORY, DataProduct.SensitivityCategory.class),
+                value(row, fields, DataProductField.DATA_FORMAT, String.class),
+                value(row, fields, DataProductField.OWNER, String.class),
+                value(row, fields, DataProductField.TAGS, List.class),
+                value(row, fields, DataProductField.IS_ACTIVE, Boolean.class),
+                value(row, fields, DataProductField.RETENTION_PERIOD_DAYS, Integer.class),
+                row.get("createdAt", LocalDateTime.class),
+                value(row, fields, DataProductField.UPDATED_AT, LocalDateTime.class));
+    }
+
+    private static <T> T value(Tuple row, Set<DataProductField> fields, DataProductField field, Class<T> type) {
+        return fields.contains(field) ? row.get(field.getAttribute(), type) : null;
+    }
+
+    private static final class Where {
+        private final List<String> predicates = new ArrayList<>();
+        private final Map<String, Object> parameters = new HashMap<>();
+
+        Where(DataProductFilter filter, List<String> anyTags, List<String> allTags) {
+            equal("dp.portfolio", "portfolio", filter.portfolio());
+            equal("dp.sensitivityCategory", "sensitivityCategory", filter.sensitivityCategory());
+            equal("dp.owner", "owner", filter.owner());
+            equal("dp.source", "source", filter.source());
+            equal("dp.dataFormat", "dataFormat", filter.dataFormat());
+            equal("dp.isActive", "isActive", filter.isActive());
+            if (filter.createdFrom() != null) {
+                add("dp.createdAt >= :createdFrom");
+                parameters.put("createdFrom", filter.createdFrom());
+            }
+            if (filter.createdTo() != null) {
+                add("dp.createdAt < :createdTo");
+                parameters.put("createdTo", filter.createdTo());
+            }
+            if (anyTags != null && !anyTags.isEmpty()) {
+                add("array_overlaps(dp.tags, " + array("anyTag", padded(anyTags)) + ")");
+            }
+            if (allTags != null && !allTags.isEmpty()) {
+                List<String> tags = padded(allTags);
+                for (int i = 0; i < tags.size(); i++) {
+                    add("array_contains(dp.tags, :allTag" + i + ")");
+                    parameters.put("allTag" + i, tags.get(i));
+                }
+            }
+        }
+
+        private void equal(String attribute, String parameter, Object value) {
+            if (value != null) {
+                add(attribute + " = :" + parameter);
+                parameters.put(parameter, value);
+            }
+        }
+
+        void add(String predicate) {
+            predicates.add(predicate);
+        }
+
+        void after(LocalDateTime createdAt, UUID id) {
+            add("(dp.createdAt, dp.id) > (:createdAt, :id)");
+            parameters.put("createdAt", createdAt);
+            parameters.put("id", id);
+        }
+
+        void atOrBefore(LocalDateTime createdAt, UUID id) {
+            add("(dp.createdAt, dp.id) <= (:createdAt, :id)");
+            parameters.put("createdAt", createdAt);
+            parameters.put("id", id);
+        }
+
+        String clause() {
+            return predicates.isEmpty() ? "" : " WHERE " + String.join(" AND ", predicates);
+        }
+
+        void bind(TypedQuery<?> query) {
+            parameters.forEach(query::setParameter);
+        }
+
+        // Repeats the last tag up to the next power of two. A repeated tag does not change the match,
+        // and tag lists of similar length then share one query string
+        private static List<String> padded(List<String> tags) {
+            int size = Integer.highestOneBit(tags.size());
+            if (size == tags.size()) {
+                return tags;
+            }
+            List<String> padded = new ArrayList<>(tags);
+            while (padded.size() < size * 2) {
+                padded.add(tags.get(tags.size() - 1));
+            }
+            return padded;
+        }
+
+        private String array(String prefix, List<String> values) {
+            StringJoiner elements = new StringJoiner(", ", "array(", ")");
+            for (int i = 0; i < values.size(); i++) {
+                String name = prefix + i;
+                elements.add("cast(:" + name + " as String)");
+                parameters.put(name, values.get(i));
+            }
+            return elements.toString();
+        }
+    }
+}
\ No newline at end of file
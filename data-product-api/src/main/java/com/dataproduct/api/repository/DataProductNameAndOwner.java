@@ -0,0 +1,6 @@
+package com.dataproduct.api.repository;
+
+import java.util.UUID;
+
+public record DataProductNameAndOwner(UUID id, String name, String owner) {
+}
\ No newline at end of file
@@ -0,0 +1,34 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProductOutboxEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface DataProductOutboxRepository extends JpaRepository<DataProductOutboxEvent, Long> {
+
+    List<DataProductOutboxEvent> findBySequenceGreaterThanOrderBySequence(long sequence, Pageable pageable);
+
+    @Query("SELECT MAX(e.sequence) FROM DataProductOutboxEvent e WHERE e.changedAt < :cutoff")
+    Optional<Long> findLastSequenceBefore(@Param("cutoff") LocalDateTime cutoff);
+
+    // A reader at any cursor below a superseded row also reaches the later row, and the feed serves
+    // current state, so only the latest change per data product needs to be kept
+    @Modifying
+    @Query("DELETE FROM DataProductOutboxEvent e WHERE EXISTS (" +
+           "SELECT 1 FROM DataProductOutboxEvent later " +
+           "WHERE later.dataProductId = e.dataProductId AND later.sequence > e.sequence)")
+    int deleteSuperseded();
+
+    @Modifying
+    @Query("DELETE FROM DataProductOutboxEvent e WHERE e.sequence <= :sequence")
+    int deleteThrough(@Param("sequence") long sequence);
+}
\ No newline at end of file
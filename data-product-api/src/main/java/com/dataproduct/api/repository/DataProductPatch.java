@@ -0,0 +1,47 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.commons.exception.InvalidRequestException;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * The fields a merge patch sets, with their new values in entity types; a null value clears the
+ * column. Fields the patch does not mention are absent and keep their stored value.
+ */
+public final class DataProductPatch {
+
+    private static final Set<DataProductField> PATCHABLE = EnumSet.range(DataProductField.NAME,
+            DataProductField.RETENTION_PERIOD_DAYS);
+    private static final Set<DataProductField> REQUIRED = EnumSet.of(DataProductField.NAME,
+            DataProductField.PORTFOLIO, DataProductField.SOURCE, DataProductField.SENSITIVITY_CATEGORY,
+            DataProductField.IS_ACTIVE);
+
+    private final Map<DataProductField, Object> values = new EnumMap<>(DataProductField.class);
+
+    public DataProductPatch set(DataProductField field, Object value) {
+        if (!PATCHABLE.contains(field)) {
+            throw new InvalidRequestException("Field cannot be patched: " + field.getAttribute());
+        }
+        if (value == null && REQUIRED.contains(field)) {
+            throw new InvalidRequestException("Field cannot be cleared: " + field.getAttribute());
+        }
+        values.put(field, value);
+        return this;
+    }
+
+    public Map<DataProductField, Object> values() {
+        return Collections.unmodifiableMap(values);
+    }
+
+    public boolean isEmpty() {
+        return values.isEmpty();
+    }
+
+    public String name() {
+        return (String) values.get(DataProductField.NAME);
+    }
+}
\ No newline at end of file
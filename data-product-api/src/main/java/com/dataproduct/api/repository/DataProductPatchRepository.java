@@ -0,0 +1,23 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface DataProductPatchRepository {
+
+    /**
+     * Applies the patch in one UPDATE statement that returns the updated row, bumping version and
+     * updatedAt. Empty when no row has this id or, with expectedVersion, that version. The returned
+     * entity is detached. A name taken by another data product fails on the unique constraint.
+     * Where {@link #patchRecordsChange()} holds, the same statement appends the UPDATED change to
+     * the outbox.
+     */
+    Optional<DataProduct> patch(UUID id, DataProductPatch patch, Long expectedVersion);
+
+    /**
+     * Whether patch writes the outbox row itself, so the caller must not append the change again.
+     */
+    boolean patchRecordsChange();
+}
\ No newline at end of file
@@ -0,0 +1,170 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.entity.DataProductOutboxState;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.commons.exception.DataProductAlreadyExistsException;
+import jakarta.persistence.EntityManager;
+import org.hibernate.Session;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.auditing.DateTimeProvider;
+
+import java.sql.Array;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.StringJoiner;
+import java.util.UUID;
+
+/**
+ * Compiles a patch into a single statement over plain JDBC: only the supplied columns appear in
+ * the SET list, so the search_vector trigger (UPDATE OF name, description, tags) only fires when
+ * one of those changes. PostgreSQL returns the row with RETURNING, and data-modifying CTEs in the
+ * same statement take the next outbox sequence and insert the UPDATED change, so a PATCH is one
+ * statement and the commit. H2, used by the tests, selects the row from the statement's FINAL
+ * TABLE and leaves the change to DataProductOutbox.
+ */
+class DataProductPatchRepositoryImpl implements DataProductPatchRepository {
+
+    private static final String UNIQUE_VIOLATION = "23505";
+    private static final String COLUMNS = "id, name, description, portfolio, source, sensitivity_category, "
+            + "data_format, owner, tags, is_active, retention_period_days, created_at, updated_at, version";
+
+    private final EntityManager entityManager;
+    private final DateTimeProvider auditingDateTimeProvider;
+    private final boolean returning;
+
+    @Autowired
+    DataProductPatchRepositoryImpl(EntityManager entityManager, DateTimeProvider auditingDateTimeProvider) {
+        this.entityManager = entityManager;
+        this.auditingDateTimeProvider = auditingDateTimeProvider;
+        this.returning = entityManager.getEntityManagerFactory().unwrap(SessionFactoryImplementor.class)
+                .getJdbcServices().getDialect() instanceof PostgreSQLDialect;
+    }
+
+    @Override
+    public Optional<DataProduct> patch(UUID id, DataProductPatch patch, Long expectedVersion) {
+        StringJoiner set = new StringJoiner(", ");
+        for (DataProductField field : patch.values().keySet()) {
+            set.add(field.getColumn() + " = ?");
+        }
+        set.add("updated_at = ?");
+        set.add("version = version + 1");
+        String update = "UPDATE data_products SET " + set
+                + " WHERE id = ? AND deleted_at IS NULL" + (expectedVersion != null ? " AND version = ?" : "");
+        String sql = returning
+                ? recordingChange(update + " RETURNING " + COLUMNS)
+                : "SELECT " + COLUMNS + " FROM FINAL TABLE (" + update + ")";
+        LocalDateTime updatedAt = auditingDateTimeProvider.getNow()
+                .map(LocalDateTime::from)
+                .orElseGet(LocalDateTime::now);
+
+        // The statement bypasses the persistence context: pending changes have to reach the database
+        // first, and a copy of the row loaded earlier would be stale afterwards
+        entityManager.flush();
+        entityManager.detach(entityManager.getReference(DataProduct.class, id));
+
+        return entityManager.unwrap(Session.class).doReturningWork(connection -> {
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int index = 1;
+                for (Map.Entry<DataProductField, Object> entry : patch.values().entrySet()) {
+                    bind(connection, statement, index++, entry.getKey(), entry.getValue());
+                }
+                statement.setObject(index++, updatedAt);
+                statement.setObject(index++, id);
+                if (expectedVersion != null) {
+                    statement.setLong(index++, expectedVersion);
+                }
+                if (returning) {
+                    statement.setInt(index++, DataProductOutboxState.ID);
+                    statement.setString(index++, DataProductChangedEvent.ChangeType.UPDATED.name());
+                    statement.setObject(index, updatedAt);
+                }
+                try (ResultSet row = statement.executeQuery()) {
+                    return row.next() ? Optional.of(read(row)) : Optional.<DataProduct>empty();
+                }
+            } catch (SQLException e) {
+                if (UNIQUE_VIOLATION.equals(e.getSQLState())) {
+                    throw new DataProductAlreadyExistsException("Data product already exists with name: " + patch.name());
+                }
+                throw e;
+            }
+        });
+    }
+
+    @Override
+    public boolean patchRecordsChange() {
+        return returning;
+    }
+
+    // The state row is locked from here to commit, as DataProductOutbox locks it, so sequence
+    // numbers still follow commit order; no row updated means no sequence taken
+    private static String recordingChange(String updateReturning) {
+        return "WITH updated AS (" + updateReturning + "), "
+                + "next_sequence AS (UPDATE data_product_outbox_state SET last_sequence = last_sequence + 1 "
+                + "WHERE id = ? AND EXISTS (SELECT 1 FROM updated) RETURNING last_sequence), "
+                + "appended AS (INSERT INTO data_product_outbox "
+                + "(sequence_number, data_product_id, change_type, changed_at) "
+                + "SELECT next_sequence.last_sequence, updated.id, ?, ? FROM next_sequence, updated) "
+                + "SELECT " + COLUMNS + " FROM updated";
+    }
+
+    @SuppressWarnings("unchecked")
+    private static void bind(Connection connection, PreparedStatement statement, int index, DataProductField field,
+                             Object value) throws SQLException {
+        switch (field) {
+            case TAGS -> {
+                if (value != null) {
+                    statement.setArray(index, connection.createArrayOf("varchar", ((List<String>) value).toArray()));
+                } else {
+                    statement.setNull(index, Types.ARRAY);
+                }
+            }
+            case SENSITIVITY_CATEGORY -> statement.setString(index, ((DataProduct.SensitivityCategory) value).name());
+            case IS_ACTIVE -> statement.setBoolean(index, (Boolean) value);
+            case RETENTION_PERIOD_DAYS -> {
+                if (value != null) {
+                    statement.setInt(index, (Integer) value);
+                } else {
+                    statement.setNull(index, Types.INTEGER);
+                }
+            }
+            default -> statement.setString(index, (String) value);
+        }
+    }
+
+    private static DataProduct read(ResultSet row) throws SQLException {
+        DataProduct dataProduct = new DataProduct();
+        dataProduct.setId(row.getObject("id", UUID.class));
+        dataProduct.setName(row.getString("name"));
+        dataProduct.setDescription(row.getString("description"));
+        dataProduct.setPortfolio(row.getString("portfolio"));
+        dataProduct.setSource(row.getString("source"));
+        dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.valueOf(row.getString("sensitivity_category")));
+        dataProduct.setDataFormat(row.getString("data_format"));
+        dataProduct.setOwner(row.getString("owner"));
+        Array tags = row.getArray("tags");
+        if (tags != null) {
+            List<String> values = new ArrayList<>();
+            for (Object tag : (Object[]) tags.getArray()) {
+                values.add((String) tag);
+            }
+            dataProduct.setTags(values);
+        }
+        dataProduct.setIsActive(row.getBoolean("is_active"));
+        dataProduct.setRetentionPeriodDays(row.getObject("retention_period_days", Integer.class));
+        dataProduct.setCreatedAt(row.getObject("created_at", LocalDateTime.class));
+        dataProduct.setUpdatedAt(row.getObject("updated_at", LocalDateTime.class));
+        dataProduct.setVersion(row.getLong("version"));
+        return dataProduct;
+    }
+}
\ No newline at end of file
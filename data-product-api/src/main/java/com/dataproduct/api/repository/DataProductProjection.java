@@ -0,0 +1,27 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * A list row read as plain column values rather than a managed entity. Only the selected
+ * {@link DataProductField}s are populated; id and createdAt are always read for the keyset cursor.
+ */
+public record DataProductProjection(
+        UUID id,
+        String name,
+        String description,
+        String portfolio,
+        String source,
+        DataProduct.SensitivityCategory sensitivityCategory,
+        String dataFormat,
+        String owner,
+        List<String> tags,
+        Boolean isActive,
+        Integer retentionPeriodDays,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt) {
+}
\ No newline at end of file
@@ -4,28 +4,54 @@ import com.dataproduct.api.entity.DataProduct;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 @Repository
-public interface DataProductRepository extends JpaRepository<DataProduct, UUID> {
+public interface DataProductRepository extends JpaRepository<DataProduct, UUID>, DataProductFilterRepository,
+        DataProductPatchRepository, DataProductRetentionRepository {
 
     Optional<DataProduct> findByName(String name);
 
     boolean existsByName(String name);
 
-    @Query("SELECT dp FROM DataProduct dp WHERE " +
-           "(:portfolio IS NULL OR dp.portfolio = :portfolio) AND " +
-           "(:sensitivityCategory IS NULL OR dp.sensitivityCategory = :sensitivityCategory)")
-    Page<DataProduct> findWithFilters(
-        @Param("portfolio") String portfolio,
-        @Param("sensitivityCategory") DataProduct.SensitivityCategory sensitivityCategory,
-        Pageable pageable
-    );
+    List<DataProduct> findByNameIn(Collection<String> names);
+
+    @Query("SELECT dp.version FROM DataProduct dp WHERE dp.id = :id")
+    Optional<Long> findVersionById(@Param("id") UUID id);
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.dataproduct.api.repository.DataProductNameAndOwner(dp.id, dp.name, dp.owner) " +
+           "FROM DataProduct dp")
+    Stream<DataProductNameAndOwner> streamNamesAndOwners();
+
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "1000"))
+    @Query("SELECT new com.dataproduct.api.repository.DataProductFacetValues(" +
+           "dp.id, dp.portfolio, dp.sensitivityCategory, dp.dataFormat, dp.isActive, dp.tags) " +
+           "FROM DataProduct dp")
+    Stream<DataProductFacetValues> streamFacetValues();
 
     Page<DataProduct> findByIsActiveTrue(Pageable pageable);
+
+    // Bumping the version makes a concurrent PUT of a row loaded before the delete fail its version check
+    @Modifying
+    @Query("UPDATE DataProduct dp SET dp.deletedAt = :deletedAt, dp.updatedAt = :deletedAt, " +
+           "dp.version = dp.version + 1 WHERE dp.id IN :ids AND dp.deletedAt IS NULL")
+    int softDeleteByIdIn(@Param("ids") Collection<UUID> ids, @Param("deletedAt") LocalDateTime deletedAt);
+
+    @Modifying
+    @Query("DELETE FROM DataProduct dp WHERE dp.id IN :ids")
+    int deleteByIdIn(@Param("ids") Collection<UUID> ids);
 }
\ No newline at end of file
@@ -0,0 +1,23 @@
+package com.dataproduct.api.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+public interface DataProductRetentionRepository {
+
+    /**
+     * Locks up to limit live data products whose retention period ran out by the given time and
+     * returns their ids, oldest expiry first. Rows locked by another transaction are skipped.
+     */
+    List<UUID> lockExpiredIds(LocalDateTime expiredBy, int limit);
+
+    long countExpired(LocalDateTime expiredBy);
+
+    /**
+     * Deletes up to limit rows soft deleted before the cutoff, oldest first, and returns how many.
+     */
+    int purgeDeletedBefore(LocalDateTime deletedBefore, int limit);
+
+    long countDeletedBefore(LocalDateTime deletedBefore);
+}
\ No newline at end of file
@@ -0,0 +1,64 @@
+package com.dataproduct.api.repository;
+
+import jakarta.persistence.EntityManager;
+import org.hibernate.query.NativeQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Native SQL over data_products: soft-deleted rows are outside the entity's restriction, and the
+ * expiry has to be spelled exactly as in idx_data_products_expires_at (V7 migration) for
+ * PostgreSQL to seek on that index.
+ */
+class DataProductRetentionRepositoryImpl implements DataProductRetentionRepository {
+
+    private static final String EXPIRES_AT = "created_at + retention_period_days * INTERVAL '1' DAY";
+    private static final String EXPIRED = " FROM data_products "
+            + "WHERE deleted_at IS NULL AND retention_period_days IS NOT NULL AND " + EXPIRES_AT + " <= :expiredBy";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    DataProductRetentionRepositoryImpl(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public List<UUID> lockExpiredIds(LocalDateTime expiredBy, int limit) {
+        return entityManager.createNativeQuery(
+                        "SELECT id" + EXPIRED + " ORDER BY " + EXPIRES_AT + " LIMIT :limit FOR UPDATE SKIP LOCKED")
+                .unwrap(NativeQuery.class)
+                .addScalar("id", UUID.class)
+                .setParameter("expiredBy", expiredBy)
+                .setParameter("limit", limit)
+                .getResultList();
+    }
+
+    @Override
+    public long countExpired(LocalDateTime expiredBy) {
+        return ((Number) entityManager.createNativeQuery("SELECT count(*)" + EXPIRED)
+                .setParameter("expiredBy", expiredBy)
+                .getSingleResult()).longValue();
+    }
+
+    @Override
+    public int purgeDeletedBefore(LocalDateTime deletedBefore, int limit) {
+        return entityManager.createNativeQuery("DELETE FROM data_products WHERE id IN (SELECT id FROM data_products "
+                        + "WHERE deleted_at <= :deletedBefore ORDER BY deleted_at LIMIT :limit)")
+                .setParameter("deletedBefore", deletedBefore)
+                .setParameter("limit", limit)
+                .executeUpdate();
+    }
+
+    @Override
+    public long countDeletedBefore(LocalDateTime deletedBefore) {
+        return ((Number) entityManager.createNativeQuery(
+                        "SELECT count(*) FROM data_products WHERE deleted_at <= :deletedBefore")
+                .setParameter("deletedBefore", deletedBefore)
+                .getSingleResult()).longValue();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.commons.exception.InvalidRequestException;
+import org.springframework.data.domain.Sort;
+
+import java.util.stream.Collectors;
+
+/**
+ * Orderings the list endpoint accepts. Each is served by a btree index for every combination of
+ * the portfolio and sensitivityCategory filters (see the V8 migration) and for the owner and source
+ * filters (V9, V11), so a page is read in index order instead of sorting every match. Names are
+ * unique among live rows; creation time is tie-broken by id.
+ */
+public enum DataProductSort {
+
+    CREATED_AT("createdAt", Sort.by(Sort.Direction.ASC, "createdAt", "id")),
+    CREATED_AT_DESC("-createdAt", Sort.by(Sort.Direction.DESC, "createdAt", "id")),
+    NAME("name", Sort.by(Sort.Direction.ASC, "name")),
+    NAME_DESC("-name", Sort.by(Sort.Direction.DESC, "name"));
+
+    private final String parameter;
+    private final Sort sort;
+
+    DataProductSort(String parameter, Sort sort) {
+        this.parameter = parameter;
+        this.sort = sort;
+    }
+
+    public String getParameter() { return parameter; }
+
+    public Sort getSort() { return sort; }
+
+    /**
+     * The ORDER BY list for a query over DataProduct dp.
+     */
+    public String orderBy() {
+        return sort.stream()
+                .map(order -> "dp." + order.getProperty() + (order.isDescending() ? " DESC" : ""))
+                .collect(Collectors.joining(", "));
+    }
+
+    /**
+     * Resolves a sort parameter; null means creation order.
+     */
+    public static DataProductSort fromParameter(String parameter) {
+        if (parameter == null) {
+            return CREATED_AT;
+        }
+        for (DataProductSort sort : values()) {
+            if (sort.parameter.equals(parameter)) {
+                return sort;
+            }
+        }
+        throw new InvalidRequestException("Unsupported sort: " + parameter);
+    }
+
+    /**
+     * Resolves a pageable's sort; unsorted means creation order. Anything else was not built from
+     * this enum and is rejected, so no ordering without an index reaches the database.
+     */
+    public static DataProductSort of(Sort sort) {
+        if (sort.isUnsorted()) {
+            return CREATED_AT;
+        }
+        for (DataProductSort candidate : values()) {
+            if (candidate.sort.equals(sort)) {
+                return candidate;
+            }
+        }
+        throw new InvalidRequestException("Unsupported sort: " + sort);
+    }
+}
\ No newline at end of file
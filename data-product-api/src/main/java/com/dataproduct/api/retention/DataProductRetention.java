@@ -0,0 +1,165 @@
+package com.dataproduct.api.retention;
+
+import com.dataproduct.api.service.DataProductService;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.IntSupplier;
+
+/**
+ * Enforces DataProduct.retentionPeriodDays. A run first retires live data products whose
+ * retention period has run out (archive soft deletes them, purge removes the rows), then purges
+ * rows that have been soft deleted, by retention or through DELETE, for longer than purge-after.
+ * Work is done in chunks of chunk-size rows, each in its own transaction, so locks and pooled
+ * connections are only held briefly. Before each chunk the job yields while foreground traffic
+ * keeps the Hikari pool busy, and a run that exceeds max-duration stops and leaves the rest to the
+ * next one. A dry run changes nothing and only reports what is due.
+ */
+@Component
+public class DataProductRetention {
+
+    public enum Action {
+        ARCHIVE, PURGE
+    }
+
+    private final DataProductService dataProductService;
+    private final HikariDataSource dataSource;
+    private final Action action;
+    private final Duration purgeAfter;
+    private final int chunkSize;
+    private final Duration pause;
+    private final double maxPoolUsage;
+    private final Duration maxDuration;
+    private final boolean dryRun;
+
+    private final Counter archivedRows;
+    private final Counter purgedRows;
+    private final Counter throttled;
+    private final Timer runs;
+    private final AtomicLong pendingExpired = new AtomicLong();
+    private final AtomicLong pendingPurge = new AtomicLong();
+
+    @Autowired
+    public DataProductRetention(DataProductService dataProductService, HikariDataSource dataSource,
+                                MeterRegistry meterRegistry,
+                                @Value("${dataproduct.retention.action:archive}") Action action,
+                                @Value("${dataproduct.retention.purge-after:P30D}") Duration purgeAfter,
+                                @Value("${dataproduct.retention.chunk-size:500}") int chunkSize,
+                                @Value("${dataproduct.retention.pause:PT0.1S}") Duration pause,
+                                @Value("${dataproduct.retention.max-pool-usage:0.5}") double maxPoolUsage,
+                                @Value("${dataproduct.retention.max-duration:PT5M}") Duration maxDuration,
+                                @Value("${dataproduct.retention.dry-run:false}") boolean dryRun) {
+        this.dataProductService = dataProductService;
+        this.dataSource = dataSource;
+        this.action = action;
+        this.purgeAfter = purgeAfter;
+        this.chunkSize = chunkSize;
+        this.pause = pause;
+        this.maxPoolUsage = maxPoolUsage;
+        this.maxDuration = maxDuration;
+        this.dryRun = dryRun;
+        this.archivedRows = meterRegistry.counter("dataproduct.retention.rows", "action", "archived");
+        this.purgedRows = meterRegistry.counter("dataproduct.retention.rows", "action", "purged");
+        this.throttled = meterRegistry.counter("dataproduct.retention.throttled");
+        this.runs = Timer.builder("dataproduct.retention.runs")
+                .tag("dry.run", String.valueOf(dryRun))
+                .register(meterRegistry);
+        meterRegistry.gauge("dataproduct.retention.pending", Tags.of("phase", "expired"), pendingExpired);
+        meterRegistry.gauge("dataproduct.retention.pending", Tags.of("phase", "purge"), pendingPurge);
+    }
+
+    @Scheduled(initialDelayString = "${dataproduct.retention.interval:PT15M}",
+               fixedDelayString = "${dataproduct.retention.interval:PT15M}")
+    public void enforce() {
+        run(LocalDateTime.now());
+    }
+
+    public DataProductRetentionReport run(LocalDateTime now) {
+        return runs.record(() -> dryRun ? count(now) : retireAndPurge(now));
+    }
+
+    private DataProductRetentionReport count(LocalDateTime now) {
+        long expired = dataProductService.countExpiredDataProducts(now);
+        long purgeable = dataProductService.countDeletedDataProducts(now.minus(purgeAfter));
+        pendingExpired.set(expired);
+        pendingPurge.set(purgeable);
+        return new DataProductRetentionReport(0, 0, expired, purgeable, true, true);
+    }
+
+    private DataProductRetentionReport retireAndPurge(LocalDateTime now) {
+        long deadline = System.nanoTime() + maxDuration.toNanos();
+        boolean purge = action == Action.PURGE;
+
+        Phase retired = processInChunks(deadline, purge ? purgedRows : archivedRows,
+                () -> dataProductService.retireExpiredDataProducts(now, chunkSize, purge));
+        Phase purged = retired.completed
+                ? processInChunks(deadline, purgedRows,
+                        () -> dataProductService.purgeDeletedDataProducts(now.minus(purgeAfter), chunkSize))
+                : new Phase();
+
+        DataProductRetentionReport remaining = count(now);
+        return new DataProductRetentionReport(
+                purge ? 0 : retired.rows,
+                purged.rows + (purge ? retired.rows : 0),
+                remaining.pendingExpired(),
+                remaining.pendingPurge(),
+                false,
+                retired.completed && purged.completed);
+    }
+
+    // A short chunk means nothing more was due; rows skipped because they were locked wait for the next run
+    private Phase processInChunks(long deadline, Counter counter, IntSupplier chunk) {
+        Phase phase = new Phase();
+        try {
+            while (awaitCapacity(deadline)) {
+                int rows = chunk.getAsInt();
+                phase.rows += rows;
+                counter.increment(rows);
+                if (rows < chunkSize) {
+                    phase.completed = true;
+                    break;
+                }
+                Thread.sleep(pause.toMillis());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        return phase;
+    }
+
+    // Waits while threads are queued for a connection or more than max-pool-usage of the pool is in
+    // use; false once the deadline has passed
+    private boolean awaitCapacity(long deadline) throws InterruptedException {
+        while (System.nanoTime() < deadline) {
+            if (!poolBusy()) {
+                return true;
+            }
+            throttled.increment();
+            Thread.sleep(pause.toMillis());
+        }
+        return false;
+    }
+
+    private boolean poolBusy() {
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        // Null until the pool has started
+        return pool != null && (pool.getThreadsAwaitingConnection() > 0
+                || pool.getActiveConnections() >= maxPoolUsage * dataSource.getMaximumPoolSize());
+    }
+
+    private static final class Phase {
+        private long rows;
+        private boolean completed;
+    }
+}
\ No newline at end of file
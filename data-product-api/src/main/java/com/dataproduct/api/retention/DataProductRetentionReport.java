@@ -0,0 +1,14 @@
+package com.dataproduct.api.retention;
+
+/**
+ * Outcome of one retention run. The pending counts are what was still due when the run ended; in a
+ * dry run nothing is archived or purged, so they are what the run would have processed.
+ */
+public record DataProductRetentionReport(
+        long archived,
+        long purged,
+        long pendingExpired,
+        long pendingPurge,
+        boolean dryRun,
+        boolean completed) {
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.dataproduct.api.search;
+
+import com.dataproduct.api.entity.DataProduct;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+
+/**
+ * Ranked free-text search over name, description and tags. The implementation is chosen with
+ * dataproduct.search.engine: "postgres" (tsvector + GIN, the default) or "like" (portable
+ * substring matching, used by the H2 test profile).
+ */
+public interface DataProductSearchRepository {
+
+    Page<DataProduct> search(
+            String query,
+            String portfolio,
+            DataProduct.SensitivityCategory sensitivityCategory,
+            Pageable pageable);
+}
\ No newline at end of file
@@ -0,0 +1,72 @@
+package com.dataproduct.api.search;
+
+import com.dataproduct.api.entity.DataProduct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.TypedQuery;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Case-insensitive substring match on the whole query, for databases without full-text search.
+ * Name matches rank first; there is no index support, so this is only meant for tests and small
+ * catalogs.
+ */
+@Repository
+@ConditionalOnProperty(name = "dataproduct.search.engine", havingValue = "like")
+public class LikeDataProductSearchRepository implements DataProductSearchRepository {
+
+    private static final String WHERE =
+            "WHERE (LOWER(dp.name) LIKE :pattern ESCAPE '!' " +
+            "OR LOWER(dp.description) LIKE :pattern ESCAPE '!' " +
+            "OR LOWER(array_to_string(dp.tags, ' ')) LIKE :pattern ESCAPE '!') " +
+            "AND (:portfolio IS NULL OR dp.portfolio = :portfolio) " +
+            "AND (:sensitivityCategory IS NULL OR dp.sensitivityCategory = :sensitivityCategory) ";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public LikeDataProductSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public Page<DataProduct> search(
+            String query,
+            String portfolio,
+            DataProduct.SensitivityCategory sensitivityCategory,
+            Pageable pageable) {
+        String pattern = "%" + escape(query.trim().toLowerCase(Locale.ROOT)) + "%";
+
+        TypedQuery<DataProduct> select = entityManager.createQuery(
+                "SELECT dp FROM DataProduct dp " + WHERE +
+                "ORDER BY CASE WHEN LOWER(dp.name) LIKE :pattern ESCAPE '!' THEN 0 ELSE 1 END, dp.createdAt, dp.id",
+                DataProduct.class);
+        bind(select, pattern, portfolio, sensitivityCategory);
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(pageable.getPageSize());
+        List<DataProduct> content = select.getResultList();
+
+        TypedQuery<Long> count = entityManager.createQuery("SELECT COUNT(dp) FROM DataProduct dp " + WHERE, Long.class);
+        bind(count, pattern, portfolio, sensitivityCategory);
+
+        return new PageImpl<>(content, pageable, count.getSingleResult());
+    }
+
+    private static void bind(TypedQuery<?> typedQuery, String pattern, String portfolio,
+                             DataProduct.SensitivityCategory sensitivityCategory) {
+        typedQuery.setParameter("pattern", pattern);
+        typedQuery.setParameter("portfolio", portfolio);
+        typedQuery.setParameter("sensitivityCategory", sensitivityCategory);
+    }
+
+    private static String escape(String value) {
+        return value.replace("!", "!!").replace("%", "!%").replace("_", "!_");
+    }
+}
\ No newline at end of file
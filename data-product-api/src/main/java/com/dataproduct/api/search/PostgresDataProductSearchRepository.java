@@ -0,0 +1,65 @@
+package com.dataproduct.api.search;
+
+import com.dataproduct.api.entity.DataProduct;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Query;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Matches against the trigger-maintained search_vector column (GIN indexed, see V4 migration) and
+ * orders by ts_rank_cd, so weighting comes from the column: name, then tags, then description.
+ */
+@Repository
+@ConditionalOnProperty(name = "dataproduct.search.engine", havingValue = "postgres", matchIfMissing = true)
+public class PostgresDataProductSearchRepository implements DataProductSearchRepository {
+
+    private static final String FROM_WHERE =
+            "FROM data_products dp, websearch_to_tsquery('english', :query) query " +
+            "WHERE dp.search_vector @@ query AND dp.deleted_at IS NULL " +
+            "AND (CAST(:portfolio AS TEXT) IS NULL OR dp.portfolio = :portfolio) " +
+            "AND (CAST(:sensitivityCategory AS TEXT) IS NULL OR dp.sensitivity_category = :sensitivityCategory) ";
+
+    private final EntityManager entityManager;
+
+    @Autowired
+    public PostgresDataProductSearchRepository(EntityManager entityManager) {
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    @SuppressWarnings("unchecked")
+    public Page<DataProduct> search(
+            String query,
+            String portfolio,
+            DataProduct.SensitivityCategory sensitivityCategory,
+            Pageable pageable) {
+        Query select = entityManager.createNativeQuery(
+                "SELECT dp.* " + FROM_WHERE +
+                "ORDER BY ts_rank_cd(dp.search_vector, query) DESC, dp.created_at, dp.id",
+                DataProduct.class);
+        bind(select, query, portfolio, sensitivityCategory);
+        select.setFirstResult((int) pageable.getOffset());
+        select.setMaxResults(pageable.getPageSize());
+        List<DataProduct> content = select.getResultList();
+
+        Query count = entityManager.createNativeQuery("SELECT count(*) " + FROM_WHERE);
+        bind(count, query, portfolio, sensitivityCategory);
+        long total = ((Number) count.getSingleResult()).longValue();
+
+        return new PageImpl<>(content, pageable, total);
+    }
+
+    private static void bind(Query nativeQuery, String query, String portfolio,
+                             DataProduct.SensitivityCategory sensitivityCategory) {
+        nativeQuery.setParameter("query", query);
+        nativeQuery.setParameter("portfolio", portfolio);
+        nativeQuery.setParameter("sensitivityCategory", sensitivityCategory != null ? sensitivityCategory.name() : null);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,25 @@
+package com.dataproduct.api.service;
+
+import com.dataproduct.api.entity.DataProduct;
+
+/**
+ * Outcome of one item of a batch create, in request order. dataProduct is null for conflicts.
+ */
+public record DataProductBatchResult(int index, Outcome outcome, DataProduct dataProduct, String message) {
+
+    public enum Outcome {
+        CREATED, UPDATED, CONFLICT
+    }
+
+    static DataProductBatchResult created(int index, DataProduct dataProduct) {
+        return new DataProductBatchResult(index, Outcome.CREATED, dataProduct, null);
+    }
+
+    static DataProductBatchResult updated(int index, DataProduct dataProduct) {
+        return new DataProductBatchResult(index, Outcome.UPDATED, dataProduct, null);
+    }
+
+    static DataProductBatchResult conflict(int index, String message) {
+        return new DataProductBatchResult(index, Outcome.CONFLICT, null, message);
+    }
+}
\ No newline at end of file
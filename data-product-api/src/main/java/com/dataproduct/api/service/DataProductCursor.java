@@ -0,0 +1,43 @@
+package com.dataproduct.api.service;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.commons.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the (createdAt, id) ordering used by cursor pagination.
+ * Clients only ever see the encoded form, so the layout can change without breaking them.
+ */
+public record DataProductCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static DataProductCursor of(DataProduct dataProduct) {
+        return new DataProductCursor(dataProduct.getCreatedAt(), dataProduct.getId());
+    }
+
+    public static DataProductCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid cursor: " + cursor);
+            }
+            return new DataProductCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
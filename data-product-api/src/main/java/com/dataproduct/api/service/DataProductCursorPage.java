@@ -0,0 +1,10 @@
+package com.dataproduct.api.service;
+
+import org.springframework.data.domain.Slice;
+
+/**
+ * A cursor-mode page: the keyset slice and whether any matching row comes before it. The slice's
+ * own page number is always 0, so it cannot say whether a page read after a cursor is the first.
+ */
+public record DataProductCursorPage<T>(Slice<T> slice, boolean first) {
+}
\ No newline at end of file
@@ -1,34 +1,179 @@
 package com.dataproduct.api.service;
 
+import com.dataproduct.api.changes.DataProductOutbox;
 import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.repository.DataProductField;
+import com.dataproduct.api.repository.DataProductFilter;
+import com.dataproduct.api.repository.DataProductPatch;
+import com.dataproduct.api.repository.DataProductProjection;
 import com.dataproduct.api.repository.DataProductRepository;
+import com.dataproduct.api.search.DataProductSearchRepository;
 import com.dataproduct.commons.exception.DataProductAlreadyExistsException;
 import com.dataproduct.commons.exception.DataProductNotFoundException;
+import com.dataproduct.commons.exception.DataProductVersionConflictException;
+import com.dataproduct.commons.exception.InvalidRequestException;
+import io.micrometer.core.annotation.Timed;
+import jakarta.persistence.EntityManager;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 @Service
 @Transactional
+@Timed(value = "dataproduct.service.calls", histogram = true)
 public class DataProductService {
 
+    // Rows written between persistence context clears on the export path
+    static final int EXPORT_CHUNK_SIZE = 100;
+
     private final DataProductRepository dataProductRepository;
+    private final DataProductSearchRepository dataProductSearchRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final EntityManager entityManager;
+    private final DataProductOutbox dataProductOutbox;
+    private final DateTimeProvider auditingDateTimeProvider;
 
     @Autowired
-    public DataProductService(DataProductRepository dataProductRepository) {
+    public DataProductService(DataProductRepository dataProductRepository,
+                              DataProductSearchRepository dataProductSearchRepository,
+                              ApplicationEventPublisher eventPublisher, EntityManager entityManager,
+                              DataProductOutbox dataProductOutbox, DateTimeProvider auditingDateTimeProvider) {
         this.dataProductRepository = dataProductRepository;
+        this.dataProductSearchRepository = dataProductSearchRepository;
+        this.eventPublisher = eventPublisher;
+        this.entityManager = entityManager;
+        this.dataProductOutbox = dataProductOutbox;
+        this.auditingDateTimeProvider = auditingDateTimeProvider;
+    }
+
+    @FunctionalInterface
+    public interface DataProductSink {
+        void accept(DataProduct dataProduct) throws IOException;
     }
 
     @Transactional(readOnly = true)
     public Page<DataProduct> getAllDataProducts(
-            String portfolio, 
-            DataProduct.SensitivityCategory sensitivityCategory, 
+            DataProductFilter filter,
+            DataProductTagFilter tagFilter,
+            Pageable pageable) {
+        return dataProductRepository.findWithFilters(
+                filter, tagFilter.anyTags(), tagFilter.allTags(), pageable);
+    }
+
+    /**
+     * A keyset page after the cursor, or the first page when after is null. A page read after a
+     * cursor is still the first when no matching row remains at or before the cursor, e.g. because
+     * the rows in front of it were deleted; that costs one more single-row index probe.
+     */
+    @Transactional(readOnly = true)
+    public DataProductCursorPage<DataProduct> getDataProductsAfter(
+            DataProductFilter filter,
+            DataProductTagFilter tagFilter,
+            DataProductCursor after,
+            int limit) {
+        Pageable pageable = PageRequest.of(0, limit);
+        if (after == null) {
+            return new DataProductCursorPage<>(dataProductRepository.findFirstSliceWithFilters(
+                    filter, tagFilter.anyTags(), tagFilter.allTags(), pageable), true);
+        }
+        Slice<DataProduct> slice = dataProductRepository.findSliceWithFiltersAfter(
+                filter, tagFilter.anyTags(), tagFilter.allTags(),
+                after.createdAt(), after.id(), pageable);
+        return new DataProductCursorPage<>(slice, isFirstAfter(filter, tagFilter, after));
+    }
+
+    @Transactional(readOnly = true)
+    public Page<DataProductProjection> getDataProductProjections(
+            DataProductFilter filter,
+            DataProductTagFilter tagFilter,
+            Set<DataProductField> fields,
+            Pageable pageable) {
+        return dataProductRepository.findProjectionsWithFilters(
+                filter, tagFilter.anyTags(), tagFilter.allTags(), fields, pageable);
+    }
+
+    @Transactional(readOnly = true)
+    public DataProductCursorPage<DataProductProjection> getDataProductProjectionsAfter(
+            DataProductFilter filter,
+            DataProductTagFilter tagFilter,
+            Set<DataProductField> fields,
+            DataProductCursor after,
+            int limit) {
+        Slice<DataProductProjection> slice = dataProductRepository.findProjectionSliceWithFilters(
+                filter, tagFilter.anyTags(), tagFilter.allTags(), fields,
+                after != null ? after.createdAt() : null, after != null ? after.id() : null,
+                PageRequest.of(0, limit));
+        return new DataProductCursorPage<>(slice, after == null || isFirstAfter(filter, tagFilter, after));
+    }
+
+    private boolean isFirstAfter(DataProductFilter filter, DataProductTagFilter tagFilter, DataProductCursor after) {
+        return !dataProductRepository.existsWithFiltersAtOrBefore(
+                filter, tagFilter.anyTags(), tagFilter.allTags(), after.createdAt(), after.id());
+    }
+
+    @Transactional(readOnly = true)
+    public Page<DataProduct> searchDataProducts(
+            String query,
+            String portfolio,
+            DataProduct.SensitivityCategory sensitivityCategory,
             Pageable pageable) {
-        return dataProductRepository.findWithFilters(portfolio, sensitivityCategory, pageable);
+        if (query == null || query.isBlank()) {
+            throw new InvalidRequestException("Search query must not be blank");
+        }
+        return dataProductSearchRepository.search(query, portfolio, sensitivityCategory, pageable);
+    }
+
+    /**
+     * Streams every matching data product to the sink in (createdAt, id) order. The persistence
+     * context is cleared after each chunk, so memory stays flat regardless of catalog size.
+     * Returns the number of rows written.
+     */
+    @Transactional(readOnly = true)
+    public long exportDataProducts(
+            String portfolio,
+            DataProduct.SensitivityCategory sensitivityCategory,
+            DataProductSink sink) {
+        long count = 0;
+        List<DataProduct> chunk = new ArrayList<>(EXPORT_CHUNK_SIZE);
+        try (Stream<DataProduct> rows = dataProductRepository.streamWithFilters(
+                DataProductFilter.of(portfolio, sensitivityCategory))) {
+            Iterator<DataProduct> iterator = rows.iterator();
+            while (iterator.hasNext()) {
+                chunk.add(iterator.next());
+                if (chunk.size() == EXPORT_CHUNK_SIZE || !iterator.hasNext()) {
+                    for (DataProduct dataProduct : chunk) {
+                        sink.accept(dataProduct);
+                    }
+                    count += chunk.size();
+                    chunk.clear();
+                    entityManager.clear();
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
     }
 
     @Transactional(readOnly = true)
@@ -37,15 +182,29 @@ public class DataProductService {
                 .orElseThrow(() -> new DataProductNotFoundException("Data product not found with id: " + id));
     }
 
+    @Transactional(readOnly = true)
+    public long getDataProductVersion(UUID id) {
+        return dataProductRepository.findVersionById(id)
+                .orElseThrow(() -> new DataProductNotFoundException("Data product not found with id: " + id));
+    }
+
     public DataProduct createDataProduct(DataProduct dataProduct) {
         if (dataProductRepository.existsByName(dataProduct.getName())) {
             throw new DataProductAlreadyExistsException("Data product already exists with name: " + dataProduct.getName());
         }
-        return dataProductRepository.save(dataProduct);
+        DataProduct savedDataProduct = dataProductRepository.save(dataProduct);
+        recordChange(DataProductChangedEvent.created(savedDataProduct));
+        return savedDataProduct;
     }
 
     public DataProduct updateDataProduct(UUID id, DataProduct updateRequest) {
+        return updateDataProduct(id, updateRequest, null);
+    }
+
+    public DataProduct updateDataProduct(UUID id, DataProduct updateRequest, Long expectedVersion) {
         DataProduct existingDataProduct = getDataProductById(id);
+
+        checkVersion(existingDataProduct.getVersion(), id, expectedVersion);
         
         // Check if name is being changed and if new name already exists
         if (updateRequest.getName() != null && 
@@ -54,7 +213,156 @@ public class DataProductService {
             throw new DataProductAlreadyExistsException("Data product already exists with name: " + updateRequest.getName());
         }
 
-        // Update fields
+        applyChanges(existingDataProduct, updateRequest);
+
+        DataProduct savedDataProduct = dataProductRepository.save(existingDataProduct);
+        recordChange(DataProductChangedEvent.updated(savedDataProduct));
+        return savedDataProduct;
+    }
+
+    /**
+     * Applies a merge patch with a single UPDATE that returns the new row and, on PostgreSQL, also
+     * records the change in the outbox. The unique constraint on name stands in for the existsByName
+     * pre-check. Only when no row matches does a second query run, to tell a missing data product
+     * from a stale expected version.
+     */
+    public DataProduct patchDataProduct(UUID id, DataProductPatch patch, Long expectedVersion) {
+        if (patch.isEmpty()) {
+            DataProduct existingDataProduct = getDataProductById(id);
+            checkVersion(existingDataProduct.getVersion(), id, expectedVersion);
+            return existingDataProduct;
+        }
+
+        DataProduct patchedDataProduct = dataProductRepository.patch(id, patch, expectedVersion).orElse(null);
+        if (patchedDataProduct == null) {
+            // Throws not found when the row is missing; otherwise only the version can have failed to match
+            long currentVersion = getDataProductVersion(id);
+            throw new DataProductVersionConflictException("Data product " + id + " has been modified, current version is "
+                    + currentVersion);
+        }
+        DataProductChangedEvent event = DataProductChangedEvent.updated(patchedDataProduct);
+        if (dataProductRepository.patchRecordsChange()) {
+            eventPublisher.publishEvent(event);
+        } else {
+            recordChange(event);
+        }
+        return patchedDataProduct;
+    }
+
+    /**
+     * Creates a batch in one transaction. Name uniqueness is checked with a single IN query;
+     * new rows are flushed through Hibernate's JDBC batching (hibernate.jdbc.batch_size). With
+     * upsert, items whose name already exists update that data product instead of conflicting.
+     */
+    public List<DataProductBatchResult> createDataProducts(List<DataProduct> dataProducts, boolean upsert) {
+        Set<String> names = dataProducts.stream()
+                .map(DataProduct::getName)
+                .collect(Collectors.toSet());
+        Map<String, DataProduct> existingByName = dataProductRepository.findByNameIn(names).stream()
+                .collect(Collectors.toMap(DataProduct::getName, Function.identity()));
+
+        List<DataProductBatchResult> results = new ArrayList<>(dataProducts.size());
+        List<DataProduct> toInsert = new ArrayList<>();
+        Set<String> seenNames = new HashSet<>();
+        for (int i = 0; i < dataProducts.size(); i++) {
+            DataProduct dataProduct = dataProducts.get(i);
+            if (!seenNames.add(dataProduct.getName())) {
+                results.add(DataProductBatchResult.conflict(i, "Duplicate name in batch: " + dataProduct.getName()));
+                continue;
+            }
+            DataProduct existing = existingByName.get(dataProduct.getName());
+            if (existing == null) {
+                toInsert.add(dataProduct);
+                results.add(DataProductBatchResult.created(i, dataProduct));
+            } else if (upsert) {
+                applyChanges(existing, dataProduct);
+                results.add(DataProductBatchResult.updated(i, existing));
+            } else {
+                results.add(DataProductBatchResult.conflict(i, "Data product already exists with name: " + dataProduct.getName()));
+            }
+        }
+
+        dataProductRepository.saveAll(toInsert);
+
+        for (DataProductBatchResult result : results) {
+            if (result.outcome() == DataProductBatchResult.Outcome.CREATED) {
+                recordChange(DataProductChangedEvent.created(result.dataProduct()));
+            } else if (result.outcome() == DataProductBatchResult.Outcome.UPDATED) {
+                recordChange(DataProductChangedEvent.updated(result.dataProduct()));
+            }
+        }
+        return results;
+    }
+
+    /**
+     * Soft deletes with a single UPDATE; the row is purged later by DataProductRetention.
+     */
+    public void deleteDataProduct(UUID id) {
+        if (dataProductRepository.softDeleteByIdIn(List.of(id), now()) == 0) {
+            throw new DataProductNotFoundException("Data product not found with id: " + id);
+        }
+        recordChange(DataProductChangedEvent.deleted(id));
+    }
+
+    /**
+     * Retires up to limit data products whose retention period ran out by the given time, oldest
+     * expiry first: archived (soft deleted), or removed outright with purge. Rows locked by another
+     * transaction are skipped. Returns the number retired.
+     */
+    public int retireExpiredDataProducts(LocalDateTime expiredBy, int limit, boolean purge) {
+        List<UUID> ids = dataProductRepository.lockExpiredIds(expiredBy, limit);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        if (purge) {
+            dataProductRepository.deleteByIdIn(ids);
+        } else {
+            dataProductRepository.softDeleteByIdIn(ids, now());
+        }
+        for (UUID id : ids) {
+            recordChange(DataProductChangedEvent.deleted(id));
+        }
+        return ids.size();
+    }
+
+    /**
+     * Removes up to limit rows soft deleted before the cutoff. Their DELETED change was recorded
+     * when they were soft deleted.
+     */
+    public int purgeDeletedDataProducts(LocalDateTime deletedBefore, int limit) {
+        return dataProductRepository.purgeDeletedBefore(deletedBefore, limit);
+    }
+
+    @Transactional(readOnly = true)
+    public long countExpiredDataProducts(LocalDateTime expiredBy) {
+        return dataProductRepository.countExpired(expiredBy);
+    }
+
+    @Transactional(readOnly = true)
+    public long countDeletedDataProducts(LocalDateTime deletedBefore) {
+        return dataProductRepository.countDeletedBefore(deletedBefore);
+    }
+
+    private static void checkVersion(Long currentVersion, UUID id, Long expectedVersion) {
+        if (expectedVersion != null && !expectedVersion.equals(currentVersion)) {
+            throw new DataProductVersionConflictException("Data product " + id + " has been modified, current version is "
+                    + currentVersion);
+        }
+    }
+
+    private LocalDateTime now() {
+        return auditingDateTimeProvider.getNow()
+                .map(LocalDateTime::from)
+                .orElseGet(LocalDateTime::now);
+    }
+
+    // The outbox row commits or rolls back with the change itself
+    private void recordChange(DataProductChangedEvent event) {
+        dataProductOutbox.append(event);
+        eventPublisher.publishEvent(event);
+    }
+
+    private void applyChanges(DataProduct existingDataProduct, DataProduct updateRequest) {
         if (updateRequest.getName() != null) {
             existingDataProduct.setName(updateRequest.getName());
         }
@@ -85,14 +393,5 @@ public class DataProductService {
         if (updateRequest.getRetentionPeriodDays() != null) {
             existingDataProduct.setRetentionPeriodDays(updateRequest.getRetentionPeriodDays());
         }
-
-        return dataProductRepository.save(existingDataProduct);
-    }
-
-    public void deleteDataProduct(UUID id) {
-        if (!dataProductRepository.existsById(id)) {
-            throw new DataProductNotFoundException("Data product not found with id: " + id);
-        }
-        dataProductRepository.deleteById(id);
     }
 }
\ No newline at end of file
@@ -0,0 +1,24 @@
+package com.dataproduct.api.service;
+
+import java.util.List;
+
+/**
+ * Tag condition for list queries: data products carrying at least one of the tags, or with
+ * matchAll every one of them. An empty filter matches everything.
+ */
+public record DataProductTagFilter(List<String> tags, boolean matchAll) {
+
+    public static final DataProductTagFilter NONE = new DataProductTagFilter(List.of(), false);
+
+    public static DataProductTagFilter of(List<String> tags, boolean matchAll) {
+        return tags == null || tags.isEmpty() ? NONE : new DataProductTagFilter(List.copyOf(tags), matchAll);
+    }
+
+    List<String> anyTags() {
+        return !matchAll && !tags.isEmpty() ? tags : null;
+    }
+
+    List<String> allTags() {
+        return matchAll && !tags.isEmpty() ? tags : null;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,5 @@
+-- Test profile only: H2 has no partial indexes, so the live-name uniqueness of the V7 migration
+-- (uk_data_products_name_live, WHERE deleted_at IS NULL) is a unique index on a generated column
+-- that is null for soft-deleted rows. Hibernate runs this after create-drop; one statement per line.
+ALTER TABLE data_products ADD COLUMN live_name VARCHAR(255) GENERATED ALWAYS AS (CASE WHEN deleted_at IS NULL THEN name END);
+CREATE UNIQUE INDEX uk_data_products_name_live ON data_products (live_name);
\ No newline at end of file
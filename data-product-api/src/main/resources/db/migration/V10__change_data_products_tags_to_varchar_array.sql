@@ -0,0 +1,14 @@
+-- Hibernate binds List<String> as varchar[], and the tag filters render their right-hand side as
+-- cast(array[...] as varchar array). PostgreSQL has no && or @> between text[] and varchar[], so
+-- on a V5 schema every tag-filtered list query fails with "operator does not exist". varchar has
+-- the same representation as text: the values are unchanged, the GIN index is rebuilt as is, and
+-- data_products_search_vector still takes the column through the implicit varchar[] to text[] cast.
+
+-- A column named in an UPDATE OF trigger cannot change type
+DROP TRIGGER IF EXISTS trg_data_products_search_vector ON data_products;
+
+ALTER TABLE data_products ALTER COLUMN tags TYPE varchar[];
+
+CREATE TRIGGER trg_data_products_search_vector
+    BEFORE INSERT OR UPDATE OF name, description, tags ON data_products
+    FOR EACH ROW EXECUTE FUNCTION data_products_search_vector_trigger();
\ No newline at end of file
@@ -0,0 +1,8 @@
+-- Name orderings for the owner and source filters, completing V9 the way V8 covers portfolio and
+-- sensitivityCategory for both sort keys: GET /api/v1/data-products?owner=...&sort=-name reads the
+-- page backwards off (owner, name) instead of sorting every product of that owner.
+
+CREATE INDEX IF NOT EXISTS idx_data_products_owner_name
+    ON data_products (owner, name) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_data_products_source_name
+    ON data_products (source, name) WHERE deleted_at IS NULL;
\ No newline at end of file
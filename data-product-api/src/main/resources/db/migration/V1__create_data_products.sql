@@ -0,0 +1,26 @@
+-- Baseline: the schema as Hibernate first created it, before any versioned migration. Databases
+-- that already have it are baselined at this version by baseline-on-migrate and skip this script;
+-- an empty database gets it here, and V2 onwards build on it.
+
+CREATE TABLE IF NOT EXISTS data_products (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL,
+    description VARCHAR(1000),
+    portfolio VARCHAR(255) NOT NULL,
+    source VARCHAR(255) NOT NULL,
+    sensitivity_category VARCHAR(255) NOT NULL
+        CHECK (sensitivity_category IN ('PUBLIC', 'INTERNAL', 'CONFIDENTIAL', 'RESTRICTED')),
+    data_format VARCHAR(255),
+    owner VARCHAR(255),
+    is_active BOOLEAN NOT NULL,
+    retention_period_days INTEGER,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    CONSTRAINT uk_data_products_name UNIQUE (name)
+);
+
+-- Tags started out as an element collection; V5 moves them into data_products.tags
+CREATE TABLE IF NOT EXISTS data_product_tags (
+    data_product_id UUID NOT NULL REFERENCES data_products (id),
+    tag VARCHAR(255)
+);
\ No newline at end of file
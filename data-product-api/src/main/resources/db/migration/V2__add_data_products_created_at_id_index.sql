@@ -0,0 +1,2 @@
+-- Keyset pagination seeks on (created_at, id); see DataProductRepository.findSliceWithFiltersAfter
+CREATE INDEX IF NOT EXISTS idx_data_products_created_at_id ON data_products (created_at, id);
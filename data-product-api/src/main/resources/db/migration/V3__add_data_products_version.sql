@@ -0,0 +1,2 @@
+-- Optimistic locking column backing DataProduct.version and the ETag on GET/PUT /api/v1/data-products/{id}
+ALTER TABLE data_products ADD COLUMN IF NOT EXISTS version BIGINT NOT NULL DEFAULT 0;
\ No newline at end of file
@@ -0,0 +1,65 @@
+-- Full-text search for GET /api/v1/data-products/search.
+-- search_vector is maintained by triggers, not by the application: name (weight A), tags (B)
+-- and description (C). Tags live in data_product_tags, so changes there refresh the parent row.
+
+CREATE INDEX IF NOT EXISTS idx_data_product_tags_data_product_id ON data_product_tags (data_product_id);
+
+ALTER TABLE data_products ADD COLUMN IF NOT EXISTS search_vector tsvector;
+
+CREATE OR REPLACE FUNCTION data_products_search_vector(p_id UUID, p_name TEXT, p_description TEXT)
+RETURNS tsvector
+LANGUAGE sql STABLE AS $$
+    SELECT setweight(to_tsvector('english', coalesce(p_name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(
+               (SELECT string_agg(t.tag, ' ') FROM data_product_tags t WHERE t.data_product_id = p_id), '')), 'B')
+        || setweight(to_tsvector('english', coalesce(p_description, '')), 'C')
+$$;
+
+CREATE OR REPLACE FUNCTION data_products_search_vector_trigger()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := data_products_search_vector(NEW.id, NEW.name, NEW.description);
+    RETURN NEW;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_data_products_search_vector ON data_products;
+CREATE TRIGGER trg_data_products_search_vector
+    BEFORE INSERT OR UPDATE OF name, description ON data_products
+    FOR EACH ROW EXECUTE FUNCTION data_products_search_vector_trigger();
+
+-- Statement-level with transition tables, so a multi-row tag statement refreshes each product once
+CREATE OR REPLACE FUNCTION data_product_tags_search_vector_trigger()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    UPDATE data_products dp
+       SET search_vector = data_products_search_vector(dp.id, dp.name, dp.description)
+     WHERE dp.id IN (SELECT DISTINCT data_product_id FROM changed_tags);
+    RETURN NULL;
+END
+$$;
+
+DROP TRIGGER IF EXISTS trg_data_product_tags_search_vector_insert ON data_product_tags;
+CREATE TRIGGER trg_data_product_tags_search_vector_insert
+    AFTER INSERT ON data_product_tags
+    REFERENCING NEW TABLE AS changed_tags
+    FOR EACH STATEMENT EXECUTE FUNCTION data_product_tags_search_vector_trigger();
+
+DROP TRIGGER IF EXISTS trg_data_product_tags_search_vector_delete ON data_product_tags;
+CREATE TRIGGER trg_data_product_tags_search_vector_delete
+    AFTER DELETE ON data_product_tags
+    REFERENCING OLD TABLE AS changed_tags
+    FOR EACH STATEMENT EXECUTE FUNCTION data_product_tags_search_vector_trigger();
+
+DROP TRIGGER IF EXISTS trg_data_product_tags_search_vector_update ON data_product_tags;
+CREATE TRIGGER trg_data_product_tags_search_vector_update
+    AFTER UPDATE ON data_product_tags
+    REFERENCING NEW TABLE AS changed_tags
+    FOR EACH STATEMENT EXECUTE FUNCTION data_product_tags_search_vector_trigger();
+
+UPDATE data_products dp
+   SET search_vector = data_products_search_vector(dp.id, dp.name, dp.description);
+
+CREATE INDEX IF NOT EXISTS idx_data_products_search_vector ON data_products USING GIN (search_vector);
\ No newline at end of file
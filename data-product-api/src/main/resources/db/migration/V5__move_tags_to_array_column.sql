@@ -0,0 +1,52 @@
+-- Tags move from the data_product_tags collection table to an inline text[] column on data_products.
+-- Tag filters on GET /api/v1/data-products become containment queries (&& for ANY, @> for ALL)
+-- served by a GIN index, and updates no longer delete and re-insert every tag row.
+
+-- The search_vector maintenance from V4 reads data_product_tags; drop its tag-side triggers first
+DROP TRIGGER IF EXISTS trg_data_product_tags_search_vector_insert ON data_product_tags;
+DROP TRIGGER IF EXISTS trg_data_product_tags_search_vector_delete ON data_product_tags;
+DROP TRIGGER IF EXISTS trg_data_product_tags_search_vector_update ON data_product_tags;
+DROP FUNCTION IF EXISTS data_product_tags_search_vector_trigger();
+
+ALTER TABLE data_products ADD COLUMN IF NOT EXISTS tags text[];
+
+-- Tag order is not preserved. data_product_tags was an unordered collection with no order column
+-- or key, so the order the API returned came from the heap and could change after any rewrite of
+-- the table. The array keeps tags sorted instead, so every run of this migration gives the same result
+UPDATE data_products dp
+   SET tags = t.tags
+  FROM (SELECT data_product_id, array_agg(tag ORDER BY tag) AS tags
+          FROM data_product_tags
+         GROUP BY data_product_id) t
+ WHERE dp.id = t.data_product_id;
+
+DROP TRIGGER IF EXISTS trg_data_products_search_vector ON data_products;
+DROP FUNCTION IF EXISTS data_products_search_vector(UUID, TEXT, TEXT);
+
+CREATE OR REPLACE FUNCTION data_products_search_vector(p_name TEXT, p_tags TEXT[], p_description TEXT)
+RETURNS tsvector
+LANGUAGE sql IMMUTABLE AS $$
+    SELECT setweight(to_tsvector('english', coalesce(p_name, '')), 'A')
+        || setweight(to_tsvector('english', coalesce(array_to_string(p_tags, ' '), '')), 'B')
+        || setweight(to_tsvector('english', coalesce(p_description, '')), 'C')
+$$;
+
+CREATE OR REPLACE FUNCTION data_products_search_vector_trigger()
+RETURNS trigger
+LANGUAGE plpgsql AS $$
+BEGIN
+    NEW.search_vector := data_products_search_vector(NEW.name, NEW.tags, NEW.description);
+    RETURN NEW;
+END
+$$;
+
+CREATE TRIGGER trg_data_products_search_vector
+    BEFORE INSERT OR UPDATE OF name, description, tags ON data_products
+    FOR EACH ROW EXECUTE FUNCTION data_products_search_vector_trigger();
+
+UPDATE data_products
+   SET search_vector = data_products_search_vector(name, tags, description);
+
+DROP TABLE data_product_tags;
+
+CREATE INDEX IF NOT EXISTS idx_data_products_tags ON data_products USING GIN (tags);
\ No newline at end of file
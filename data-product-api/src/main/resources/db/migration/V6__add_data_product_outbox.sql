@@ -0,0 +1,24 @@
+-- Transactional outbox behind GET /api/v1/data-products/changes. Rows are written in the same
+-- transaction as the data product change; sequence numbers come from the single state row, which
+-- writers lock, so they are assigned in commit order.
+
+CREATE TABLE IF NOT EXISTS data_product_outbox (
+    sequence_number BIGINT PRIMARY KEY,
+    data_product_id UUID NOT NULL,
+    change_type VARCHAR(16) NOT NULL,
+    changed_at TIMESTAMP NOT NULL
+);
+
+-- Compaction looks up later rows per data product; retention scans by age
+CREATE INDEX IF NOT EXISTS idx_data_product_outbox_data_product_id ON data_product_outbox (data_product_id);
+CREATE INDEX IF NOT EXISTS idx_data_product_outbox_changed_at ON data_product_outbox (changed_at);
+
+CREATE TABLE IF NOT EXISTS data_product_outbox_state (
+    id INTEGER PRIMARY KEY,
+    last_sequence BIGINT NOT NULL,
+    pruned_through BIGINT NOT NULL
+);
+
+INSERT INTO data_product_outbox_state (id, last_sequence, pruned_through)
+VALUES (1, 0, 0)
+ON CONFLICT (id) DO NOTHING;
\ No newline at end of file
@@ -0,0 +1,36 @@
+-- Soft delete and retention, see DataProductRetention. DELETE /api/v1/data-products/{id} and
+-- retention archiving set deleted_at; the row is hidden from the API from then on and physically
+-- removed in chunks once dataproduct.retention.purge-after has passed.
+
+ALTER TABLE data_products ADD COLUMN IF NOT EXISTS deleted_at TIMESTAMP;
+
+-- A deleted data product must not hold on to its name until it is purged: names are unique among
+-- live rows only. The original constraint was created by Hibernate under a generated name.
+DO $$
+DECLARE
+    constraint_name TEXT;
+BEGIN
+    FOR constraint_name IN
+        SELECT c.conname
+          FROM pg_constraint c
+          JOIN pg_attribute a ON a.attrelid = c.conrelid AND a.attnum = ANY (c.conkey)
+         WHERE c.conrelid = 'data_products'::regclass
+           AND c.contype = 'u'
+           AND a.attname = 'name'
+           AND array_length(c.conkey, 1) = 1
+    LOOP
+        EXECUTE format('ALTER TABLE data_products DROP CONSTRAINT %I', constraint_name);
+    END LOOP;
+END
+$$;
+
+CREATE UNIQUE INDEX IF NOT EXISTS uk_data_products_name_live ON data_products (name) WHERE deleted_at IS NULL;
+
+-- Expiry is computed, not stored: the retention job seeks on exactly this expression, oldest first,
+-- over live rows that have a retention period
+CREATE INDEX IF NOT EXISTS idx_data_products_expires_at
+    ON data_products ((created_at + retention_period_days * INTERVAL '1' DAY))
+    WHERE deleted_at IS NULL AND retention_period_days IS NOT NULL;
+
+-- Purge seeks soft-deleted rows by age; live rows stay out of the index
+CREATE INDEX IF NOT EXISTS idx_data_products_deleted_at ON data_products (deleted_at) WHERE deleted_at IS NOT NULL;
\ No newline at end of file
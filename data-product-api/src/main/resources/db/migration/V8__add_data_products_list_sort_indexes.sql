@@ -0,0 +1,21 @@
+-- Index-backed orderings for GET /api/v1/data-products?sort=..., see DataProductSort. For each sort
+-- key there is an index per combination of the equality filters, with the filter columns first,
+-- so both the filter and the order come from one index scan: the page is read in order and the
+-- scan stops at the LIMIT. Descending sorts scan the same indexes backwards.
+--
+-- Unfiltered orderings use idx_data_products_created_at_id (V2) and uk_data_products_name_live (V7).
+-- The list queries only read live rows, so these indexes leave soft-deleted rows out.
+
+CREATE INDEX IF NOT EXISTS idx_data_products_portfolio_created_at_id
+    ON data_products (portfolio, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_data_products_sensitivity_created_at_id
+    ON data_products (sensitivity_category, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_data_products_portfolio_sensitivity_created_at_id
+    ON data_products (portfolio, sensitivity_category, created_at, id) WHERE deleted_at IS NULL;
+
+CREATE INDEX IF NOT EXISTS idx_data_products_portfolio_name
+    ON data_products (portfolio, name) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_data_products_sensitivity_name
+    ON data_products (sensitivity_category, name) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_data_products_portfolio_sensitivity_name
+    ON data_products (portfolio, sensitivity_category, name) WHERE deleted_at IS NULL;
\ No newline at end of file
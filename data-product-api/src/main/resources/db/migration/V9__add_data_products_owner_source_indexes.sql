@@ -0,0 +1,9 @@
+-- Equality filters on GET /api/v1/data-products?owner=...&source=..., see DataProductFilter. Like
+-- the V8 indexes, the filter column comes first and the default page order follows, so a filtered
+-- page is read in order. createdFrom/createdTo are range seeks on idx_data_products_created_at_id (V2);
+-- dataFormat and isActive have too few distinct values to be worth an index of their own.
+
+CREATE INDEX IF NOT EXISTS idx_data_products_owner_created_at_id
+    ON data_products (owner, created_at, id) WHERE deleted_at IS NULL;
+CREATE INDEX IF NOT EXISTS idx_data_products_source_created_at_id
+    ON data_products (source, created_at, id) WHERE deleted_at IS NULL;
\ No newline at end of file
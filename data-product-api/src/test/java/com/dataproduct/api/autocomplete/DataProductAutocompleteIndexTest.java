@@ -0,0 +1,84 @@
+package com.dataproduct.api.autocomplete;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.repository.DataProductNameAndOwner;
+import com.dataproduct.api.repository.DataProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataProductAutocompleteIndexTest {
+
+    @Mock
+    private DataProductRepository dataProductRepository;
+
+    @InjectMocks
+    private DataProductAutocompleteIndex index;
+
+    private UUID salesId;
+    private UUID supplyId;
+
+    @BeforeEach
+    void setUp() {
+        salesId = UUID.randomUUID();
+        supplyId = UUID.randomUUID();
+        when(dataProductRepository.streamNamesAndOwners()).thenReturn(Stream.of(
+                new DataProductNameAndOwner(salesId, "Sales Orders", "alice@company.com"),
+                new DataProductNameAndOwner(supplyId, "Supply Chain", "alice@company.com"),
+                new DataProductNameAndOwner(UUID.randomUUID(), "Marketing Leads", null)));
+        index.rebuild();
+    }
+
+    @Test
+    void suggest_ShouldMatchPrefixCaseInsensitivelyInOrder() {
+        // When
+        List<String> suggestions = index.suggest(DataProductAutocompleteIndex.Field.NAME, "s", 10);
+
+        // Then
+        assertEquals(List.of("Sales Orders", "Supply Chain"), suggestions);
+        assertEquals(List.of("Sales Orders"), index.suggest(DataProductAutocompleteIndex.Field.NAME, "SA", 10));
+        assertEquals(List.of("Sales Orders"), index.suggest(DataProductAutocompleteIndex.Field.NAME, "s", 1));
+    }
+
+    @Test
+    void suggest_ShouldReturnSharedOwnersOnceUntilLastReferenceRemoved() {
+        // When
+        index.onDataProductChanged(DataProductChangedEvent.deleted(salesId));
+
+        // Then
+        assertEquals(List.of("alice@company.com"), index.suggest(DataProductAutocompleteIndex.Field.OWNER, "al", 10));
+
+        index.onDataProductChanged(DataProductChangedEvent.deleted(supplyId));
+        assertTrue(index.suggest(DataProductAutocompleteIndex.Field.OWNER, "al", 10).isEmpty());
+    }
+
+    @Test
+    void onDataProductChanged_ShouldReplaceOldTermsOnUpdate() {
+        // Given
+        DataProduct renamed = new DataProduct();
+        renamed.setId(salesId);
+        renamed.setName("Revenue");
+        renamed.setOwner("bob@company.com");
+
+        // When
+        index.onDataProductChanged(DataProductChangedEvent.updated(renamed));
+
+        // Then
+        assertEquals(List.of("Supply Chain"), index.suggest(DataProductAutocompleteIndex.Field.NAME, "s", 10));
+        assertEquals(List.of("Revenue"), index.suggest(DataProductAutocompleteIndex.Field.NAME, "r", 10));
+        assertEquals(List.of("bob@company.com"), index.suggest(DataProductAutocompleteIndex.Field.OWNER, "b", 10));
+        verify(dataProductRepository, times(1)).streamNamesAndOwners();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,112 @@
+package com.dataproduct.api.cache;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.api.service.DataProductService;
+import com.dataproduct.commons.exception.DataProductNotFoundException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataProductResponseCacheTest {
+
+    @Mock
+    private DataProductService dataProductService;
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final MeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private DataProductResponseCache cache;
+    private DataProduct testDataProduct;
+    private UUID testId;
+
+    @BeforeEach
+    void setUp() {
+        cache = new DataProductResponseCache(dataProductService, new DataProductMapper(), objectMapper,
+                meterRegistry, 100, Duration.ofMinutes(5));
+
+        testId = UUID.randomUUID();
+        testDataProduct = new DataProduct();
+        testDataProduct.setId(testId);
+        testDataProduct.setName("Cached Product");
+        testDataProduct.setPortfolio("Test Portfolio");
+        testDataProduct.setSource("Test Source");
+        testDataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+        testDataProduct.setTags(List.of("cache"));
+        testDataProduct.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        testDataProduct.setUpdatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        testDataProduct.setVersion(2L);
+    }
+
+    @Test
+    void get_ShouldSerializeOnceAndServeHitsFromCache() throws Exception {
+        when(dataProductService.getDataProductById(testId)).thenReturn(testDataProduct);
+
+        DataProductResponseCache.CachedResponse first = cache.get(testId);
+        DataProductResponseCache.CachedResponse second = cache.get(testId);
+
+        assertSame(first, second);
+        assertEquals(2L, first.version());
+        JsonNode json = objectMapper.readTree(first.body());
+        assertEquals(testId.toString(), json.get("id").asText());
+        assertEquals("Cached Product", json.get("name").asText());
+        verify(dataProductService, times(1)).getDataProductById(testId);
+        assertEquals(1.0, meterRegistry.get("cache.gets")
+                .tag("cache", DataProductResponseCache.CACHE_NAME).tag("result", "hit")
+                .functionCounter().count());
+    }
+
+    @Test
+    void onDataProductChanged_ShouldEvictUpdatedAndDeletedEntries() {
+        when(dataProductService.getDataProductById(testId)).thenReturn(testDataProduct);
+        cache.get(testId);
+
+        cache.onDataProductChanged(DataProductChangedEvent.updated(testDataProduct));
+        cache.get(testId);
+        cache.onDataProductChanged(DataProductChangedEvent.deleted(testId));
+        cache.get(testId);
+
+        verify(dataProductService, times(3)).getDataProductById(testId);
+    }
+
+    @Test
+    void getVersion_ShouldUseCachedEntryOrVersionQuery() {
+        when(dataProductService.getDataProductVersion(testId)).thenReturn(2L);
+
+        assertEquals(2L, cache.getVersion(testId));
+        verify(dataProductService, never()).getDataProductById(testId);
+
+        when(dataProductService.getDataProductById(testId)).thenReturn(testDataProduct);
+        cache.get(testId);
+
+        assertEquals(2L, cache.getVersion(testId));
+        verify(dataProductService, times(1)).getDataProductVersion(testId);
+    }
+
+    @Test
+    void get_ShouldNotCacheMissingDataProducts() {
+        when(dataProductService.getDataProductById(testId))
+                .thenThrow(new DataProductNotFoundException("Data product not found with id: " + testId));
+
+        assertThrows(DataProductNotFoundException.class, () -> cache.get(testId));
+        assertThrows(DataProductNotFoundException.class, () -> cache.get(testId));
+        verify(dataProductService, times(2)).getDataProductById(testId);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,101 @@
+package com.dataproduct.api.concurrency;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.DefaultTransactionDefinition;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitingTransactionManagerTest {
+
+    @Mock
+    private PlatformTransactionManager delegate;
+
+    private ConcurrencyLimitingTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        transactionManager = new ConcurrencyLimitingTransactionManager(delegate, 1, 50);
+    }
+
+    @Test
+    void getTransaction_ShouldHoldPermitUntilCommit() {
+        // Given
+        TransactionStatus status = new SimpleTransactionStatus(true);
+        when(delegate.getTransaction(any())).thenReturn(status);
+
+        // When
+        TransactionStatus returned = transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+        // Then
+        assertSame(status, returned);
+        assertEquals(0, transactionManager.availablePermits());
+        transactionManager.commit(returned);
+        assertEquals(1, transactionManager.availablePermits());
+        verify(delegate).commit(status);
+    }
+
+    @Test
+    void getTransaction_ShouldFailFast_WhenNoPermitFreesUp() throws Exception {
+        // Given
+        when(delegate.getTransaction(any())).thenReturn(new SimpleTransactionStatus(true));
+        transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+        // When
+        Throwable failure = runOnOtherThread(() -> transactionManager.getTransaction(new DefaultTransactionDefinition()));
+
+        // Then
+        assertInstanceOf(CannotCreateTransactionException.class, failure);
+        verify(delegate, times(1)).getTransaction(any());
+    }
+
+    @Test
+    void rollback_ShouldReleasePermit_WhenDelegateFails() {
+        // Given
+        TransactionStatus status = new SimpleTransactionStatus(true);
+        when(delegate.getTransaction(any())).thenReturn(status);
+        doThrow(new IllegalStateException("connection lost")).when(delegate).rollback(status);
+        transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+        // When / Then
+        assertThrows(IllegalStateException.class, () -> transactionManager.rollback(status));
+        assertEquals(1, transactionManager.availablePermits());
+    }
+
+    @Test
+    void getTransaction_ShouldNotHoldPermit_WhenNoNewTransactionStarted() {
+        // Given
+        when(delegate.getTransaction(any())).thenReturn(new SimpleTransactionStatus(false));
+
+        // When
+        TransactionStatus status = transactionManager.getTransaction(new DefaultTransactionDefinition());
+
+        // Then
+        assertEquals(1, transactionManager.availablePermits());
+        transactionManager.commit(status);
+        assertEquals(1, transactionManager.availablePermits());
+    }
+
+    private static Throwable runOnOtherThread(Runnable action) throws InterruptedException {
+        Throwable[] failure = new Throwable[1];
+        Thread thread = Thread.ofVirtual().start(() -> {
+            try {
+                action.run();
+            } catch (Throwable t) {
+                failure[0] = t;
+            }
+        });
+        thread.join();
+        return failure[0];
+    }
+}
\ No newline at end of file
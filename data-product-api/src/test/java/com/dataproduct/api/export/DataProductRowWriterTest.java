@@ -0,0 +1,85 @@
+package com.dataproduct.api.export;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.commons.exception.InvalidRequestException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataProductRowWriterTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+    private final DataProductMapper dataProductMapper = new DataProductMapper();
+
+    private DataProduct testDataProduct;
+
+    @BeforeEach
+    void setUp() {
+        testDataProduct = new DataProduct();
+        testDataProduct.setId(UUID.randomUUID());
+        testDataProduct.setName("Sales, \"EMEA\"");
+        testDataProduct.setPortfolio("Finance");
+        testDataProduct.setSource("warehouse");
+        testDataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+        testDataProduct.setTags(List.of("sales", "emea"));
+        testDataProduct.setIsActive(true);
+        testDataProduct.setCreatedAt(LocalDateTime.of(2024, 1, 1, 12, 0));
+        testDataProduct.setUpdatedAt(LocalDateTime.of(2024, 1, 2, 12, 0));
+    }
+
+    @Test
+    void ndjson_ShouldWriteOneJsonObjectPerLine() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (DataProductRowWriter writer = new NdjsonDataProductWriter(out, objectMapper, dataProductMapper)) {
+            writer.write(testDataProduct);
+            writer.write(testDataProduct);
+        }
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n", -1);
+        assertEquals(3, lines.length);
+        assertEquals("", lines[2]);
+        JsonNode first = objectMapper.readTree(lines[0]);
+        assertEquals(testDataProduct.getName(), first.get("name").asText());
+        assertEquals(2, first.get("tags").size());
+    }
+
+    @Test
+    void csv_ShouldWriteHeaderAndQuoteSpecialCharacters() throws Exception {
+        // Given
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // When
+        try (DataProductRowWriter writer = new CsvDataProductWriter(out)) {
+            writer.write(testDataProduct);
+        }
+
+        // Then
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\r\n");
+        assertEquals(2, lines.length);
+        assertEquals(CsvDataProductWriter.HEADER, lines[0]);
+        assertTrue(lines[1].startsWith(testDataProduct.getId() + ",\"Sales, \"\"EMEA\"\"\",,Finance,warehouse,INTERNAL,,,sales;emea,true,,"));
+        assertTrue(lines[1].endsWith("2024-01-02T12:00Z"));
+    }
+
+    @Test
+    void exportFormat_ShouldRejectUnknownFormat() {
+        assertEquals(ExportFormat.CSV, ExportFormat.fromParameter("CSV"));
+        assertThrows(InvalidRequestException.class,
+                () -> ExportFormat.fromParameter("xml"));
+    }
+}
\ No newline at end of file
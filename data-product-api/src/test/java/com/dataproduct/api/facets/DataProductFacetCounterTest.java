@@ -0,0 +1,126 @@
+package com.dataproduct.api.facets;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.facets.DataProductFacets.Facet;
+import com.dataproduct.api.facets.DataProductFacets.ValueCount;
+import com.dataproduct.api.repository.DataProductFacetValues;
+import com.dataproduct.api.repository.DataProductRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataProductFacetCounterTest {
+
+    @Mock
+    private DataProductRepository dataProductRepository;
+
+    @InjectMocks
+    private DataProductFacetCounter counter;
+
+    private UUID salesId;
+    private UUID supplyId;
+
+    @BeforeEach
+    void setUp() {
+        salesId = UUID.randomUUID();
+        supplyId = UUID.randomUUID();
+        when(dataProductRepository.streamFacetValues()).thenReturn(Stream.of(
+                new DataProductFacetValues(salesId, "Retail", DataProduct.SensitivityCategory.INTERNAL,
+                        "JSON", true, List.of("sales", "core", "sales")),
+                new DataProductFacetValues(supplyId, "Retail", DataProduct.SensitivityCategory.PUBLIC,
+                        null, true, List.of("core")),
+                new DataProductFacetValues(UUID.randomUUID(), "Finance", DataProduct.SensitivityCategory.INTERNAL,
+                        "PARQUET", false, List.of())));
+        counter.reconcile();
+    }
+
+    @Test
+    void facets_ShouldCountValuesMostFrequentFirst() {
+        // When
+        DataProductFacets facets = counter.facets(10);
+
+        // Then
+        assertEquals(3, facets.total());
+        assertEquals(List.of(new ValueCount("Retail", 2), new ValueCount("Finance", 1)),
+                facets.top(Facet.PORTFOLIO, 10));
+        assertEquals(List.of(new ValueCount("core", 2), new ValueCount("sales", 1)), facets.top(Facet.TAG, 10));
+        assertEquals(List.of(new ValueCount("JSON", 1), new ValueCount("PARQUET", 1)), facets.top(Facet.DATA_FORMAT, 10));
+        assertEquals(List.of(new ValueCount("true", 2)), facets.top(Facet.IS_ACTIVE, 1));
+    }
+
+    @Test
+    void facets_ShouldReturnOnlyTheFirstValuesUpToLimit_InCurrentOrder() {
+        // Given
+        DataProduct finance = new DataProduct();
+        finance.setId(UUID.randomUUID());
+        finance.setPortfolio("Finance");
+        DataProduct moreFinance = new DataProduct();
+        moreFinance.setId(UUID.randomUUID());
+        moreFinance.setPortfolio("Finance");
+        counter.onDataProductChanged(DataProductChangedEvent.created(finance));
+        counter.onDataProductChanged(DataProductChangedEvent.created(moreFinance));
+
+        // When
+        DataProductFacets facets = counter.facets(1);
+
+        // Then
+        assertEquals(List.of(new ValueCount("Finance", 3)), facets.top(Facet.PORTFOLIO, 10));
+        assertEquals(List.of(new ValueCount("core", 2)), facets.top(Facet.TAG, 10));
+    }
+
+    @Test
+    void onDataProductChanged_ShouldMoveCountsOnUpdateAndDropThemOnDelete() {
+        // Given
+        DataProduct moved = new DataProduct();
+        moved.setId(salesId);
+        moved.setPortfolio("Finance");
+        moved.setSensitivityCategory(DataProduct.SensitivityCategory.RESTRICTED);
+        moved.setIsActive(true);
+        moved.setTags(List.of("ledger"));
+
+        // When
+        counter.onDataProductChanged(DataProductChangedEvent.updated(moved));
+        counter.onDataProductChanged(DataProductChangedEvent.deleted(supplyId));
+
+        // Then
+        DataProductFacets facets = counter.facets(10);
+        assertEquals(2, facets.total());
+        assertEquals(List.of(new ValueCount("Finance", 2)), facets.top(Facet.PORTFOLIO, 10));
+        assertEquals(List.of(new ValueCount("INTERNAL", 1), new ValueCount("RESTRICTED", 1)),
+                facets.top(Facet.SENSITIVITY_CATEGORY, 10));
+        assertEquals(List.of(new ValueCount("ledger", 1)), facets.top(Facet.TAG, 10));
+        verify(dataProductRepository, times(1)).streamFacetValues();
+    }
+
+    @Test
+    void reconcile_ShouldReplaceDriftedCountsWithDatabaseState() {
+        // Given
+        DataProduct unknown = new DataProduct();
+        unknown.setId(UUID.randomUUID());
+        unknown.setPortfolio("Marketing");
+        counter.onDataProductChanged(DataProductChangedEvent.created(unknown));
+        when(dataProductRepository.streamFacetValues()).thenReturn(Stream.of(
+                new DataProductFacetValues(salesId, "Retail", DataProduct.SensitivityCategory.INTERNAL,
+                        "JSON", true, List.of("sales"))));
+
+        // When
+        counter.reconcile();
+
+        // Then
+        DataProductFacets facets = counter.facets(10);
+        assertEquals(1, facets.total());
+        assertEquals(List.of(new ValueCount("Retail", 1)), facets.top(Facet.PORTFOLIO, 10));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,137 @@
+package com.dataproduct.api.imports;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.api.service.DataProductBatchResult;
+import com.dataproduct.api.service.DataProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.validation.Validation;
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.ByteArrayInputStream;
+import java.io.InputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class DataProductImporterTest {
+
+    private static final String VALID_LINE =
+            "{\"name\": \"Product %d\", \"portfolio\": \"P\", \"source\": \"S\", \"sensitivityCategory\": \"PUBLIC\"}";
+
+    @Mock
+    private DataProductService dataProductService;
+
+    @Mock
+    private EntityManager entityManager;
+
+    private final Validator validator = Validation.buildDefaultValidatorFactory().getValidator();
+
+    private DataProductImporter importer;
+
+    @BeforeEach
+    void setUp() {
+        importer = new DataProductImporter(dataProductService, new DataProductMapper(), new ObjectMapper(),
+                validator, entityManager, 2, 200, 2);
+    }
+
+    @Test
+    void importDataProducts_ShouldCommitInChunks() throws Exception {
+        // Given
+        when(dataProductService.createDataProducts(anyList(), eq(false))).thenAnswer(invocation -> {
+            List<DataProduct> chunk = invocation.getArgument(0);
+            return IntStream.range(0, chunk.size())
+                    .mapToObj(i -> created(i, chunk.get(i)))
+                    .toList();
+        });
+
+        // When
+        DataProductImportReport report = importer.importDataProducts(lines(
+                VALID_LINE.formatted(1), VALID_LINE.formatted(2), VALID_LINE.formatted(3)), false);
+
+        // Then
+        assertEquals(3, report.linesRead());
+        assertEquals(3, report.created());
+        assertEquals(0, report.rejected());
+        verify(dataProductService, times(2)).createDataProducts(anyList(), eq(false));
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void importDataProducts_ShouldRejectInvalidLinesWithLineNumbers() throws Exception {
+        // Given
+        String invalid = "{\"name\": \"\", \"portfolio\": \"P\", \"source\": \"S\", \"sensitivityCategory\": \"PUBLIC\"}";
+        String tooLong = VALID_LINE.formatted(1).replace("\"S\"", "\"" + "S".repeat(200) + "\"");
+
+        // When
+        DataProductImportReport report = importer.importDataProducts(lines(invalid, "", "{oops", tooLong), false);
+
+        // Then
+        assertEquals(3, report.linesRead());
+        assertEquals(3, report.rejected());
+        assertEquals(1, report.errors().get(0).line());
+        assertTrue(report.errors().get(0).message().startsWith("name:"));
+        assertEquals(3, report.errors().get(1).line());
+        assertTrue(report.errors().get(1).message().startsWith("Malformed JSON"));
+        assertTrue(report.errorsTruncated());
+        verifyNoInteractions(dataProductService);
+    }
+
+    @Test
+    void importDataProducts_ShouldKeepEarlierChunks_WhenChunkRollsBack() throws Exception {
+        // Given
+        when(dataProductService.createDataProducts(anyList(), anyBoolean()))
+                .thenAnswer(invocation -> {
+                    List<DataProduct> chunk = invocation.getArgument(0);
+                    return List.of(created(0, chunk.get(0)), created(1, chunk.get(1)));
+                })
+                .thenThrow(new DataIntegrityViolationException("duplicate key"));
+
+        // When
+        DataProductImportReport report = importer.importDataProducts(lines(
+                VALID_LINE.formatted(1), VALID_LINE.formatted(2), VALID_LINE.formatted(3)), true);
+
+        // Then
+        assertEquals(2, report.created());
+        assertEquals(1, report.rejected());
+        assertEquals(3, report.errors().get(0).line());
+        assertEquals("Chunk rolled back: duplicate key", report.errors().get(0).message());
+    }
+
+    @Test
+    void boundedLineReader_ShouldHandleCrLfAndMissingTrailingNewline() throws Exception {
+        BoundedLineReader reader = new BoundedLineReader(
+                new StringReader("a\r\nbb\n" + "c".repeat(5) + "\nd"), 3);
+
+        assertEquals("a", reader.readLine().text());
+        assertEquals("bb", reader.readLine().text());
+        assertTrue(reader.readLine().tooLong());
+        assertEquals("d", reader.readLine().text());
+        assertNull(reader.readLine());
+    }
+
+    private static InputStream lines(String... lines) {
+        String body = Arrays.stream(lines).collect(Collectors.joining("\n"));
+        return new ByteArrayInputStream(body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static DataProductBatchResult created(int index, DataProduct dataProduct) {
+        return new DataProductBatchResult(index, DataProductBatchResult.Outcome.CREATED, dataProduct, null);
+    }
+}
\ No newline at end of file
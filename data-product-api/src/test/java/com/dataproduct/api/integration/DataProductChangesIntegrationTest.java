@@ -0,0 +1,285 @@
+package com.dataproduct.api.integration;
+
+import com.dataproduct.api.changes.DataProductOutboxRetention;
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.entity.DataProductOutboxState;
+import com.dataproduct.api.repository.DataProductOutboxRepository;
+import com.dataproduct.api.service.DataProductService;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+import org.springframework.test.web.servlet.ResultActions;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not transactional: outbox rows and change notifications only become visible once the writing
+ * transaction commits.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DataProductChangesIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataProductOutboxRepository dataProductOutboxRepository;
+
+    @Autowired
+    private DataProductOutboxRetention dataProductOutboxRetention;
+
+    @Autowired
+    private DataProductService dataProductService;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private TransactionTemplate transactionTemplate;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // Also removes rows soft deleted through the API
+        jdbcTemplate.update("DELETE FROM data_products");
+        dataProductOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void getDataProductChanges_ShouldReturnChangesInCommitOrderAndResumeFromNextSince() throws Exception {
+        // Given
+        long since = lastSequence();
+        String first = createDataProduct("Changes First");
+        mockMvc.perform(put("/api/v1/data-products/{id}", first)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Updated\"}"))
+                .andExpect(status().isOk());
+        String second = createDataProduct("Changes Second");
+        mockMvc.perform(delete("/api/v1/data-products/{id}", first))
+                .andExpect(status().isNoContent());
+
+        // When & Then
+        getChanges(since, 2)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[0].sequence", is((int) since + 1)))
+                .andExpect(jsonPath("$.changes[0].id", is(first)))
+                .andExpect(jsonPath("$.changes[0].type", is("CREATED")))
+                .andExpect(jsonPath("$.changes[0].dataProduct").doesNotExist())
+                .andExpect(jsonPath("$.changes[1].type", is("UPDATED")))
+                .andExpect(jsonPath("$.nextSince", is((int) since + 2)))
+                .andExpect(jsonPath("$.hasMore", is(true)));
+
+        getChanges(since + 2, 100)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[0].id", is(second)))
+                .andExpect(jsonPath("$.changes[0].type", is("CREATED")))
+                .andExpect(jsonPath("$.changes[0].dataProduct.name", is("Changes Second")))
+                .andExpect(jsonPath("$.changes[1].id", is(first)))
+                .andExpect(jsonPath("$.changes[1].type", is("DELETED")))
+                .andExpect(jsonPath("$.nextSince", is((int) since + 4)))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    void getDataProductChanges_ShouldNumberChangesByCommit_WhenAnOpenTransactionWroteFirst() throws Exception {
+        // Given
+        long since = lastSequence();
+        DataProduct slow = new DataProduct();
+        slow.setName("Changes Slow");
+        slow.setPortfolio("Changes");
+        slow.setSource("Test Source");
+        slow.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+
+        // When: the outbox state row is only locked at commit, so the second writer does not wait
+        String[] ids = transactionTemplate.execute(status -> {
+            String slowId = dataProductService.createDataProduct(slow).getId().toString();
+            String fastId = CompletableFuture.supplyAsync(() -> {
+                try {
+                    return createDataProduct("Changes Fast");
+                } catch (Exception e) {
+                    throw new IllegalStateException(e);
+                }
+            }).orTimeout(5, TimeUnit.SECONDS).join();
+            return new String[] {slowId, fastId};
+        });
+
+        // Then
+        getChanges(since, 100)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(2)))
+                .andExpect(jsonPath("$.changes[0].id", is(ids[1])))
+                .andExpect(jsonPath("$.changes[0].sequence", is((int) since + 1)))
+                .andExpect(jsonPath("$.changes[1].id", is(ids[0])))
+                .andExpect(jsonPath("$.changes[1].sequence", is((int) since + 2)));
+    }
+
+    @Test
+    void getDataProductChanges_ShouldCompleteLongPoll_WhenChangeCommits() throws Exception {
+        // Given
+        long since = lastSequence();
+        MvcResult pending = mockMvc.perform(get("/api/v1/data-products/changes")
+                .param("since", String.valueOf(since))
+                .param("wait", "30"))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // When
+        String id = createDataProduct("Long Poll Product");
+
+        // Then
+        mockMvc.perform(asyncDispatch(pending))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].id", is(id)))
+                .andExpect(jsonPath("$.nextSince", is((int) since + 1)));
+    }
+
+    @Test
+    void getDataProductChanges_ShouldReturnEmptyBatch_WhenWaitRunsOut() throws Exception {
+        long since = lastSequence();
+
+        getChanges(since, 100, 1)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)))
+                .andExpect(jsonPath("$.nextSince", is((int) since)))
+                .andExpect(jsonPath("$.hasMore", is(false)));
+    }
+
+    @Test
+    void getDataProductChanges_ShouldReturn400_WhenLimitOutOfRange() throws Exception {
+        mockMvc.perform(get("/api/v1/data-products/changes")
+                .param("limit", "1001"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void streamDataProductChanges_ShouldSendChangesAsServerSentEvents() throws Exception {
+        // Given
+        long since = lastSequence();
+        String id = createDataProduct("Streamed Product");
+
+        // When
+        MvcResult stream = mockMvc.perform(get("/api/v1/data-products/changes")
+                .param("since", String.valueOf(since))
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        // Then
+        String body = awaitContent(stream, "Streamed Product");
+        assertTrue(body.contains("id:" + (since + 1)));
+        assertTrue(body.contains("event:CREATED"));
+        assertTrue(body.contains("\"id\":\"" + id + "\""));
+    }
+
+    @Test
+    void compact_ShouldKeepLatestChangePerDataProductAndExpirePrunedCursors() throws Exception {
+        // Given
+        long since = lastSequence();
+        String id = createDataProduct("Compacted Product");
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(put("/api/v1/data-products/{id}", id)
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .content("{\"description\": \"Revision " + i + "\"}"))
+                    .andExpect(status().isOk());
+        }
+
+        // When
+        dataProductOutboxRetention.compact();
+
+        // Then
+        getChanges(since, 100)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(1)))
+                .andExpect(jsonPath("$.changes[0].sequence", is((int) since + 4)))
+                .andExpect(jsonPath("$.changes[0].type", is("UPDATED")))
+                .andExpect(jsonPath("$.changes[0].dataProduct.description", is("Revision 2")));
+
+        // When
+        long prunedThrough = dataProductOutboxRetention.pruneBefore(LocalDateTime.now().plusSeconds(1));
+
+        // Then
+        assertEquals(since + 4, prunedThrough);
+        mockMvc.perform(get("/api/v1/data-products/changes")
+                .param("since", String.valueOf(since)))
+                .andExpect(status().isGone())
+                .andExpect(jsonPath("$.details", containsString("since=" + prunedThrough)));
+        getChanges(prunedThrough, 100)
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.changes", hasSize(0)));
+    }
+
+    private ResultActions getChanges(long since, int limit) throws Exception {
+        return getChanges(since, limit, 0);
+    }
+
+    private ResultActions getChanges(long since, int limit, int wait) throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/v1/data-products/changes")
+                .param("since", String.valueOf(since))
+                .param("limit", String.valueOf(limit))
+                .param("wait", String.valueOf(wait)))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+        return mockMvc.perform(asyncDispatch(result));
+    }
+
+    private String createDataProduct(String name) throws Exception {
+        String response = mockMvc.perform(post("/api/v1/data-products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "name": "%s",
+                        "portfolio": "Changes",
+                        "source": "Test Source",
+                        "sensitivityCategory": "INTERNAL"
+                    }
+                    """.formatted(name)))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        JsonNode created = objectMapper.readTree(response);
+        return created.get("id").asText();
+    }
+
+    private long lastSequence() {
+        DataProductOutboxState state = transactionTemplate.execute(status ->
+                entityManager.find(DataProductOutboxState.class, DataProductOutboxState.ID));
+        return state != null ? state.getLastSequence() : 0;
+    }
+
+    private static String awaitContent(MvcResult result, String expected) throws Exception {
+        long deadline = System.currentTimeMillis() + 10_000;
+        String content = result.getResponse().getContentAsString();
+        while (!content.contains(expected) && System.currentTimeMillis() < deadline) {
+            Thread.sleep(20);
+            content = result.getResponse().getContentAsString();
+        }
+        return content;
+    }
+}
\ No newline at end of file
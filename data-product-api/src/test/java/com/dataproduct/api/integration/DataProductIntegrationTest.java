@@ -1,6 +1,8 @@
 package com.dataproduct.api.integration;
 
+import com.dataproduct.api.autocomplete.DataProductAutocompleteIndex;
 import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.facets.DataProductFacetCounter;
 import com.dataproduct.api.repository.DataProductRepository;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
@@ -17,6 +19,7 @@ import java.util.List;
 import java.util.UUID;
 
 import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
 
@@ -35,6 +38,12 @@ class DataProductIntegrationTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private DataProductAutocompleteIndex autocompleteIndex;
+
+    @Autowired
+    private DataProductFacetCounter facetCounter;
+
     private DataProduct testDataProduct;
 
     @BeforeEach
@@ -64,11 +73,238 @@ class DataProductIntegrationTest {
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
                 .andExpect(jsonPath("$.content", hasSize(1)))
                 .andExpect(jsonPath("$.content[0].name", is("Integration Test Product")))
+                .andExpect(jsonPath("$.content[0].id", is(testDataProduct.getId().toString())))
+                .andExpect(jsonPath("$.content[0].version").doesNotExist())
                 .andExpect(jsonPath("$.totalElements", is(1)))
                 .andExpect(jsonPath("$.page", is(0)))
                 .andExpect(jsonPath("$.size", is(10)));
     }
 
+    @Test
+    void getAllDataProducts_ShouldFilterByAnyOrAllTags() throws Exception {
+        DataProduct other = new DataProduct();
+        other.setName("Other Product");
+        other.setPortfolio("Test Portfolio");
+        other.setSource("Test Source");
+        other.setSensitivityCategory(DataProduct.SensitivityCategory.PUBLIC);
+        other.setTags(List.of("test", "finance"));
+        dataProductRepository.save(other);
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("tags", "integration", "finance"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(2)));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("tags", "test", "finance")
+                .param("tagMatch", "ALL"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Other Product")));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("tags", "test")
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+    }
+
+    @Test
+    void getAllDataProducts_ShouldFilterByOwnerSourceFormatActiveAndCreationTime() throws Exception {
+        DataProduct inactive = new DataProduct();
+        inactive.setName("Inactive Product");
+        inactive.setPortfolio("Test Portfolio");
+        inactive.setSource("Other Source");
+        inactive.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+        inactive.setDataFormat("JSON");
+        inactive.setOwner("test@company.com");
+        inactive.setIsActive(false);
+        dataProductRepository.save(inactive);
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("owner", "test@company.com")
+                .param("dataFormat", "JSON")
+                .param("isActive", "true"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Integration Test Product")));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("source", "Other Source")
+                .param("fields", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Inactive Product")));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("createdFrom", "2000-01-01T00:00:00Z")
+                .param("createdTo", "2100-01-01T00:00:00+02:00")
+                .param("limit", "10"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("createdFrom", "2100-01-01T00:00:00Z"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(0)));
+    }
+
+    @Test
+    void getAllDataProducts_ShouldWalkAllRowsWithCursor() throws Exception {
+        for (int i = 0; i < 4; i++) {
+            DataProduct dataProduct = new DataProduct();
+            dataProduct.setName("Cursor Product " + i);
+            dataProduct.setPortfolio("Test Portfolio");
+            dataProduct.setSource("Test Source");
+            dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.PUBLIC);
+            dataProductRepository.save(dataProduct);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/v1/data-products")
+                .param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(3)))
+                .andExpect(jsonPath("$.first", is(true)))
+                .andExpect(jsonPath("$.last", is(false)))
+                .andExpect(jsonPath("$.page").doesNotExist())
+                .andExpect(jsonPath("$.totalElements").doesNotExist())
+                .andExpect(jsonPath("$.nextCursor", notNullValue()))
+                .andReturn().getResponse().getContentAsString();
+
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("after", nextCursor)
+                .param("limit", "3"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.page").doesNotExist())
+                .andExpect(jsonPath("$.first", is(false)))
+                .andExpect(jsonPath("$.last", is(true)))
+                .andExpect(jsonPath("$.nextCursor").doesNotExist());
+    }
+
+    @Test
+    void getAllDataProducts_ShouldReportFirstCursorPage_WhenRowsBeforeCursorAreGone() throws Exception {
+        for (int i = 0; i < 3; i++) {
+            DataProduct dataProduct = new DataProduct();
+            dataProduct.setName("Cursor Product " + i);
+            dataProduct.setPortfolio("Test Portfolio");
+            dataProduct.setSource("Test Source");
+            dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.PUBLIC);
+            dataProductRepository.save(dataProduct);
+        }
+
+        String firstPage = mockMvc.perform(get("/api/v1/data-products")
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andReturn().getResponse().getContentAsString();
+        String nextCursor = objectMapper.readTree(firstPage).get("nextCursor").asText();
+        objectMapper.readTree(firstPage).get("content").forEach(row ->
+                dataProductRepository.deleteById(UUID.fromString(row.get("id").asText())));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("after", nextCursor)
+                .param("limit", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.first", is(true)))
+                .andExpect(jsonPath("$.last", is(true)));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("after", nextCursor)
+                .param("limit", "2")
+                .param("fields", "id,name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(2)))
+                .andExpect(jsonPath("$.first", is(true)));
+    }
+
+    @Test
+    void getAllDataProducts_ShouldReturn400_WhenCursorIsMalformed() throws Exception {
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("after", "not-a-cursor"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Invalid cursor")));
+    }
+
+    @Test
+    void getAllDataProducts_ShouldOrderPagesBySort() throws Exception {
+        for (String name : List.of("Zulu Product", "Alpha Product")) {
+            DataProduct dataProduct = new DataProduct();
+            dataProduct.setName(name);
+            dataProduct.setPortfolio("Test Portfolio");
+            dataProduct.setSource("Test Source");
+            dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+            dataProductRepository.save(dataProduct);
+        }
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("sort", "name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name",
+                        contains("Alpha Product", "Integration Test Product", "Zulu Product")));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("portfolio", "Test Portfolio")
+                .param("sensitivityCategory", "INTERNAL")
+                .param("sort", "-name")
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[*].name", contains("Zulu Product", "Integration Test Product")))
+                .andExpect(jsonPath("$.totalElements", is(3)));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("fields", "name")
+                .param("sort", "-name"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].name", is("Zulu Product")));
+    }
+
+    @Test
+    void getAllDataProducts_ShouldReturn400_WhenSortIsNotIndexBacked() throws Exception {
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("sort", "owner"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Unsupported sort")));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("sort", "name")
+                .param("limit", "10"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Cursor pages are ordered by createdAt")));
+    }
+
+    @Test
+    void getAllDataProducts_ShouldReturnOnlyRequestedFields() throws Exception {
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("fields", "name,sensitivityCategory,tags"))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.content[0].id", is(testDataProduct.getId().toString())))
+                .andExpect(jsonPath("$.content[0].name", is("Integration Test Product")))
+                .andExpect(jsonPath("$.content[0].sensitivityCategory", is("INTERNAL")))
+                .andExpect(jsonPath("$.content[0].tags", hasSize(2)))
+                .andExpect(jsonPath("$.content[0]", not(hasKey("description"))))
+                .andExpect(jsonPath("$.content[0]", not(hasKey("createdAt"))))
+                .andExpect(jsonPath("$.totalElements", is(1)));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("fields", "portfolio")
+                .param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].portfolio", is("Test Portfolio")))
+                .andExpect(jsonPath("$.content[0]", not(hasKey("name"))))
+                .andExpect(jsonPath("$.last", is(true)));
+    }
+
+    @Test
+    void getAllDataProducts_ShouldReturn400_WhenFieldIsUnknown() throws Exception {
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("fields", "name,version"))
+                .andExpect(status().isBadRequest())
+                .andExpect(jsonPath("$.message", containsString("Unsupported field: version")));
+    }
+
     @Test
     void getDataProductById_ShouldReturnDataProduct_WhenExists() throws Exception {
         mockMvc.perform(get("/api/v1/data-products/{id}", testDataProduct.getId()))
@@ -79,6 +315,30 @@ class DataProductIntegrationTest {
                 .andExpect(jsonPath("$.portfolio", is("Test Portfolio")));
     }
 
+    @Test
+    void getDataProductById_ShouldReturn304_WhenETagMatches() throws Exception {
+        String eTag = mockMvc.perform(get("/api/v1/data-products/{id}", testDataProduct.getId()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andReturn().getResponse().getHeader("ETag");
+
+        mockMvc.perform(get("/api/v1/data-products/{id}", testDataProduct.getId())
+                .header("If-None-Match", eTag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", eTag))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    void updateDataProduct_ShouldReturn412_WhenIfMatchIsStale() throws Exception {
+        mockMvc.perform(put("/api/v1/data-products/{id}", testDataProduct.getId())
+                .header("If-Match", "\"5\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Stale update\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", containsString("has been modified")));
+    }
+
     @Test
     void getDataProductById_ShouldReturn404_WhenNotExists() throws Exception {
         UUID nonExistentId = UUID.randomUUID();
@@ -133,6 +393,131 @@ class DataProductIntegrationTest {
                 .andExpect(jsonPath("$.message", containsString("already exists")));
     }
 
+    @Test
+    void batchCreateDataProducts_ShouldCreateNewItemsAndReportConflicts() throws Exception {
+        String batchRequest = """
+            [
+                {
+                    "name": "Batch Product 1",
+                    "portfolio": "Batch Portfolio",
+                    "source": "Batch Source",
+                    "sensitivityCategory": "PUBLIC",
+                    "tags": ["batch"]
+                },
+                {
+                    "name": "Integration Test Product",
+                    "portfolio": "Test Portfolio",
+                    "source": "Test Source",
+                    "sensitivityCategory": "INTERNAL"
+                }
+            ]
+            """;
+
+        mockMvc.perform(post("/api/v1/data-products/batch")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.conflicts", is(1)))
+                .andExpect(jsonPath("$.results[0].status", is("CREATED")))
+                .andExpect(jsonPath("$.results[0].id", notNullValue()))
+                .andExpect(jsonPath("$.results[1].status", is("CONFLICT")));
+
+        mockMvc.perform(post("/api/v1/data-products/batch")
+                .param("upsert", "true")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(batchRequest))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.updated", is(2)))
+                .andExpect(jsonPath("$.results[1].id", is(testDataProduct.getId().toString())));
+    }
+
+    @Test
+    void searchDataProducts_ShouldRankNameMatchesFirstAndApplyFilters() throws Exception {
+        DataProduct describedOnly = new DataProduct();
+        describedOnly.setName("Customer Events");
+        describedOnly.setDescription("Raw integration feed");
+        describedOnly.setPortfolio("Test Portfolio");
+        describedOnly.setSource("Test Source");
+        describedOnly.setSensitivityCategory(DataProduct.SensitivityCategory.PUBLIC);
+        dataProductRepository.save(describedOnly);
+
+        mockMvc.perform(get("/api/v1/data-products/search")
+                .param("q", "Integration"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.totalElements", is(2)))
+                .andExpect(jsonPath("$.content[0].name", is("Integration Test Product")))
+                .andExpect(jsonPath("$.content[1].name", is("Customer Events")));
+
+        mockMvc.perform(get("/api/v1/data-products/search")
+                .param("q", "integration")
+                .param("sensitivityCategory", "PUBLIC"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].name", is("Customer Events")));
+    }
+
+    @Test
+    void autocompleteDataProducts_ShouldSuggestNamesFromIndex() throws Exception {
+        autocompleteIndex.rebuild();
+
+        mockMvc.perform(get("/api/v1/data-products/autocomplete")
+                .param("prefix", "integ"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.field", is("NAME")))
+                .andExpect(jsonPath("$.suggestions", contains("Integration Test Product")));
+
+        mockMvc.perform(get("/api/v1/data-products/autocomplete")
+                .param("prefix", "TEST@")
+                .param("field", "OWNER"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.suggestions", contains("test@company.com")));
+    }
+
+    @Test
+    void getDataProductFacets_ShouldReturnCountsPerFacet() throws Exception {
+        facetCounter.reconcile();
+
+        mockMvc.perform(get("/api/v1/data-products/facets"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.total", is(1)))
+                .andExpect(jsonPath("$.portfolio[0].value", is("Test Portfolio")))
+                .andExpect(jsonPath("$.portfolio[0].count", is(1)))
+                .andExpect(jsonPath("$.sensitivityCategory[0].value", is("INTERNAL")))
+                .andExpect(jsonPath("$.dataFormat[0].value", is("JSON")))
+                .andExpect(jsonPath("$.isActive[0].value", is("true")))
+                .andExpect(jsonPath("$.tags[*].value", containsInAnyOrder("test", "integration")));
+
+        mockMvc.perform(get("/api/v1/data-products/facets").param("limit", "1"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.tags", hasSize(1)));
+    }
+
+    @Test
+    void importDataProducts_ShouldCreateValidLinesAndReportRejectedOnes() throws Exception {
+        String ndjson = """
+            {"name": "Imported Product 1", "portfolio": "Import Portfolio", "source": "Import Source", "sensitivityCategory": "PUBLIC"}
+            {"name": "", "portfolio": "Import Portfolio", "source": "Import Source", "sensitivityCategory": "PUBLIC"}
+
+            {"name": "Integration Test Product", "portfolio": "Test Portfolio", "source": "Test Source", "sensitivityCategory": "INTERNAL"}
+            not json
+            """;
+
+        mockMvc.perform(post("/api/v1/data-products/import")
+                .contentType(MediaType.APPLICATION_NDJSON)
+                .content(ndjson))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.linesRead", is(4)))
+                .andExpect(jsonPath("$.created", is(1)))
+                .andExpect(jsonPath("$.rejected", is(3)))
+                .andExpect(jsonPath("$.errors[*].line", contains(2, 5, 4)))
+                .andExpect(jsonPath("$.errorsTruncated", is(false)));
+
+        mockMvc.perform(get("/api/v1/data-products")
+                .param("portfolio", "Import Portfolio"))
+                .andExpect(jsonPath("$.content", hasSize(1)));
+    }
+
     @Test
     void updateDataProduct_ShouldUpdateAndReturnDataProduct_WhenValid() throws Exception {
         String updateRequest = """
@@ -152,6 +537,79 @@ class DataProductIntegrationTest {
                 .andExpected(jsonPath("$.sensitivityCategory", is("CONFIDENTIAL")));
     }
 
+    @Test
+    void patchDataProduct_ShouldSetSuppliedFieldsAndClearNulls() throws Exception {
+        String patch = """
+            {
+                "description": null,
+                "tags": ["patched"],
+                "isActive": false
+            }
+            """;
+
+        mockMvc.perform(patch("/api/v1/data-products/{id}", testDataProduct.getId())
+                .header("If-Match", "\"0\"")
+                .contentType("application/merge-patch+json")
+                .content(patch))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"1\""))
+                .andExpect(jsonPath("$.name", is("Integration Test Product")))
+                .andExpect(jsonPath("$.description", nullValue()))
+                .andExpect(jsonPath("$.owner", is("test@company.com")))
+                .andExpect(jsonPath("$.tags", contains("patched")))
+                .andExpect(jsonPath("$.isActive", is(false)));
+
+        DataProduct stored = dataProductRepository.findById(testDataProduct.getId()).orElseThrow();
+        assertNull(stored.getDescription());
+        assertEquals(List.of("patched"), stored.getTags());
+        assertEquals(1L, stored.getVersion());
+    }
+
+    @Test
+    void patchDataProduct_ShouldReturn409_WhenNameIsTaken() throws Exception {
+        DataProduct other = new DataProduct();
+        other.setName("Other Product");
+        other.setPortfolio("Test Portfolio");
+        other.setSource("Test Source");
+        other.setSensitivityCategory(DataProduct.SensitivityCategory.PUBLIC);
+        dataProductRepository.save(other);
+
+        mockMvc.perform(patch("/api/v1/data-products/{id}", testDataProduct.getId())
+                .contentType("application/merge-patch+json")
+                .content("{\"name\": \"Other Product\"}"))
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.message", containsString("already exists")));
+    }
+
+    @Test
+    void patchDataProduct_ShouldReturn412_WhenIfMatchIsStale() throws Exception {
+        mockMvc.perform(patch("/api/v1/data-products/{id}", testDataProduct.getId())
+                .header("If-Match", "\"5\"")
+                .contentType("application/merge-patch+json")
+                .content("{\"description\": \"Stale patch\"}"))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message", containsString("current version is 0")));
+    }
+
+    @Test
+    void patchDataProduct_ShouldReturn400_WhenPatchIsInvalid() throws Exception {
+        for (String patch : List.of("{\"name\": null}", "{\"id\": \"x\"}", "{\"color\": \"red\"}",
+                "{\"retentionPeriodDays\": 0}", "{\"isActive\": \"maybe\"}")) {
+            mockMvc.perform(patch("/api/v1/data-products/{id}", testDataProduct.getId())
+                    .contentType("application/merge-patch+json")
+                    .content(patch))
+                    .andExpect(status().isBadRequest());
+        }
+    }
+
+    @Test
+    void patchDataProduct_ShouldReturn404_WhenNotExists() throws Exception {
+        mockMvc.perform(patch("/api/v1/data-products/{id}", UUID.randomUUID())
+                .contentType("application/merge-patch+json")
+                .content("{\"description\": \"Missing\"}"))
+                .andExpect(status().isNotFound());
+    }
+
     @Test
     void deleteDataProduct_ShouldDeleteDataProduct_WhenExists() throws Exception {
         mockMvc.perform(delete("/api/v1/data-products/{id}", testDataProduct.getId()))
@@ -161,6 +619,26 @@ class DataProductIntegrationTest {
         assertFalse(dataProductRepository.existsById(testDataProduct.getId()));
     }
 
+    @Test
+    void createDataProduct_ShouldReuseNameOfDeletedDataProduct() throws Exception {
+        String createRequest = """
+            {
+                "name": "Integration Test Product",
+                "portfolio": "Test Portfolio",
+                "source": "Test Source",
+                "sensitivityCategory": "INTERNAL"
+            }
+            """;
+
+        mockMvc.perform(delete("/api/v1/data-products/{id}", testDataProduct.getId()))
+                .andExpect(status().isNoContent());
+        mockMvc.perform(post("/api/v1/data-products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(createRequest))
+                .andExpect(status().isCreated())
+                .andExpect(jsonPath("$.id", not(testDataProduct.getId().toString())));
+    }
+
     @Test
     void deleteDataProduct_ShouldReturn404_WhenNotExists() throws Exception {
         UUID nonExistentId = UUID.randomUUID();
@@ -0,0 +1,172 @@
+package com.dataproduct.api.integration;
+
+import com.dataproduct.api.controller.DataProductController;
+import com.dataproduct.api.repository.DataProductOutboxRepository;
+import com.dataproduct.api.service.DataProductService;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.search.Search;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.actuate.observability.AutoConfigureObservability;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Runs a create, read, update, list and delete cycle and checks the meters it leaves behind.
+ * Not transactional, so statements are executed and counted as they would be in production.
+ * Every request counts as slow here, so each one is logged.
+ */
+@SpringBootTest(properties = {
+        "dataproduct.request-timing.slow-threshold=0s",
+        "dataproduct.request-timing.slow-log-sample-rate=1"})
+@AutoConfigureMockMvc
+@AutoConfigureObservability
+@ActiveProfiles("test")
+@ExtendWith(OutputCaptureExtension.class)
+class DataProductMetricsIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private DataProductOutboxRepository dataProductOutboxRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        jdbcTemplate.update("DELETE FROM data_products");
+        dataProductOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void crudCycle_ShouldRecordTimersAndPoolAndHibernateMetrics() throws Exception {
+        // Given
+        String response = mockMvc.perform(post("/api/v1/data-products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "name": "Metrics Product",
+                        "portfolio": "Metrics",
+                        "source": "Test Source",
+                        "sensitivityCategory": "INTERNAL"
+                    }
+                    """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(response).get("id").asText();
+
+        // When
+        mockMvc.perform(get("/api/v1/data-products/{id}", id))
+                .andExpect(status().isOk());
+        mockMvc.perform(put("/api/v1/data-products/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Updated\"}"))
+                .andExpect(status().isOk());
+        mockMvc.perform(get("/api/v1/data-products").param("portfolio", "Metrics"))
+                .andExpect(status().isOk());
+        mockMvc.perform(delete("/api/v1/data-products/{id}", id))
+                .andExpect(status().isNoContent());
+
+        // Then
+        for (String method : new String[] {"createDataProduct", "getDataProductById", "updateDataProduct",
+                "getAllDataProducts", "deleteDataProduct"}) {
+            assertHistogram(meterRegistry.find("dataproduct.api.requests")
+                    .tag("class", DataProductController.class.getName()).tag("method", method));
+        }
+        assertHistogram(meterRegistry.find("dataproduct.service.calls")
+                .tag("class", DataProductService.class.getName()).tag("method", "updateDataProduct"));
+        assertHistogram(meterRegistry.find("spring.data.repository.invocations")
+                .tag("repository", "DataProductRepository"));
+        assertHistogram(meterRegistry.find("hikaricp.connections.acquire"));
+        assertNotNull(meterRegistry.find("hikaricp.connections.pending").gauge());
+        assertNotNull(meterRegistry.find("hikaricp.connections.active").gauge());
+
+        DistributionSummary statements = meterRegistry.find("dataproduct.hibernate.statements")
+                .tag("operation", "createDataProduct").summary();
+        assertNotNull(statements);
+        assertTrue(statements.totalAmount() > 0);
+        assertTrue(statements.takeSnapshot().histogramCounts().length > 0);
+        assertNotNull(meterRegistry.find("dataproduct.hibernate.entity.loads")
+                .tag("operation", "getDataProductById").summary());
+        assertNotNull(meterRegistry.find("dataproduct.hibernate.collection.fetches")
+                .tag("operation", "getAllDataProducts").summary());
+
+        mockMvc.perform(get("/actuator/prometheus"))
+                .andExpect(status().isOk())
+                .andExpect(content().string(allOf(
+                        containsString("dataproduct_api_requests_seconds_bucket"),
+                        containsString("dataproduct_service_calls_seconds_bucket"),
+                        containsString("spring_data_repository_invocations_seconds_bucket"),
+                        containsString("hikaricp_connections_pending"),
+                        containsString("dataproduct_hibernate_statements_bucket"))));
+    }
+
+    @Test
+    void getDataProductById_ShouldReportPhasesInServerTimingHeaderAndSlowRequestLog(CapturedOutput output)
+            throws Exception {
+        // Given
+        String response = mockMvc.perform(post("/api/v1/data-products")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("""
+                    {
+                        "name": "Timed Product",
+                        "portfolio": "Metrics",
+                        "source": "Test Source",
+                        "sensitivityCategory": "INTERNAL"
+                    }
+                    """))
+                .andExpect(status().isCreated())
+                .andExpect(header().string("Server-Timing", containsString("statements\"")))
+                .andReturn().getResponse().getContentAsString();
+        String id = objectMapper.readTree(response).get("id").asText();
+
+        // When & Then
+        mockMvc.perform(get("/api/v1/data-products/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("Server-Timing", matchesPattern(
+                        "db-conn;dur=\\d+\\.\\d{3}, db;dur=\\d+\\.\\d{3};desc=\"\\d+ statements?\", "
+                                + "map;dur=\\d+\\.\\d{3}, app;dur=\\d+\\.\\d{3}")));
+        mockMvc.perform(delete("/api/v1/data-products/{id}", id))
+                .andExpect(status().isNoContent())
+                .andExpect(header().exists("Server-Timing"));
+        mockMvc.perform(get("/api/v1/data-products/{id}", id))
+                .andExpect(status().isNotFound())
+                .andExpect(header().exists("Server-Timing"));
+
+        assertTrue(output.getOut().lines().anyMatch(line -> line.contains(
+                "slow_request method=GET operation=getDataProductById status=200 total_ms=")
+                && line.contains(" db_ms=") && line.contains(" map_ms=") && line.contains(" body_ms=")));
+        assertTrue(output.getOut().contains("slow_request method=DELETE operation=deleteDataProduct status=204"));
+    }
+
+    private static void assertHistogram(Search search) {
+        Timer timer = search.timer();
+        assertNotNull(timer);
+        assertTrue(timer.count() > 0);
+        assertTrue(timer.takeSnapshot().histogramCounts().length > 0);
+    }
+}
\ No newline at end of file
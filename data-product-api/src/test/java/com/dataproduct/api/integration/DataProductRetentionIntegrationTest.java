@@ -0,0 +1,193 @@
+package com.dataproduct.api.integration;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.repository.DataProductOutboxRepository;
+import com.dataproduct.api.repository.DataProductRepository;
+import com.dataproduct.api.retention.DataProductRetention;
+import com.dataproduct.api.retention.DataProductRetention.Action;
+import com.dataproduct.api.retention.DataProductRetentionReport;
+import com.dataproduct.api.service.DataProductService;
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Not transactional: the retention job commits each chunk in its own transaction.
+ */
+@SpringBootTest
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class DataProductRetentionIntegrationTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataProductRepository dataProductRepository;
+
+    @Autowired
+    private DataProductOutboxRepository dataProductOutboxRepository;
+
+    @Autowired
+    private DataProductService dataProductService;
+
+    @Autowired
+    private DataProductRetention dataProductRetention;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @AfterEach
+    void tearDown() {
+        // Soft-deleted rows are invisible to the repository
+        jdbcTemplate.update("DELETE FROM data_products");
+        dataProductOutboxRepository.deleteAllInBatch();
+    }
+
+    @Test
+    void deleteDataProduct_ShouldHideRowUntilPurged() throws Exception {
+        // Given
+        UUID id = save("Soft Deleted Product", null).getId();
+
+        // When
+        mockMvc.perform(delete("/api/v1/data-products/{id}", id))
+                .andExpect(status().isNoContent());
+
+        // Then
+        mockMvc.perform(get("/api/v1/data-products/{id}", id))
+                .andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/v1/data-products"))
+                .andExpect(jsonPath("$.content", hasSize(0)));
+        mockMvc.perform(delete("/api/v1/data-products/{id}", id))
+                .andExpect(status().isNotFound());
+        assertEquals(1, rowCount(id));
+
+        // When
+        DataProductRetentionReport report = dataProductRetention.run(LocalDateTime.now().plusDays(31));
+
+        // Then
+        assertEquals(1, report.purged());
+        assertEquals(0, rowCount(id));
+    }
+
+    @Test
+    void run_ShouldArchiveExpiredDataProductsInChunksAndPurgeThemLater() {
+        // Given
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 5; i++) {
+            save("Expired Product " + i, 1);
+        }
+        UUID retained = save("Retained Product", 40).getId();
+        UUID unlimited = save("Unlimited Product", null).getId();
+        DataProductRetention retention = retention(Action.ARCHIVE, false, 0.5, Duration.ofSeconds(30),
+                new SimpleMeterRegistry());
+
+        // When
+        DataProductRetentionReport report = retention.run(now.plusDays(2));
+
+        // Then
+        assertEquals(new DataProductRetentionReport(5, 0, 0, 0, false, true), report);
+        assertEquals(2, dataProductRepository.count());
+        assertTrue(dataProductRepository.existsById(retained));
+        assertTrue(dataProductRepository.existsById(unlimited));
+        assertEquals(5, dataProductOutboxRepository.count());
+
+        // When
+        report = retention.run(now.plusDays(2).plus(Duration.ofDays(30)));
+
+        // Then
+        assertEquals(new DataProductRetentionReport(0, 5, 0, 0, false, true), report);
+        assertEquals(2, jdbcTemplate.queryForObject("SELECT count(*) FROM data_products", Long.class));
+    }
+
+    @Test
+    void run_ShouldDeleteExpiredRowsOutright_WhenActionIsPurge() {
+        // Given
+        UUID expired = save("Purged Product", 1).getId();
+        DataProductRetention retention = retention(Action.PURGE, false, 0.5, Duration.ofSeconds(30),
+                new SimpleMeterRegistry());
+
+        // When
+        DataProductRetentionReport report = retention.run(LocalDateTime.now().plusDays(2));
+
+        // Then
+        assertEquals(new DataProductRetentionReport(0, 1, 0, 0, false, true), report);
+        assertEquals(0, rowCount(expired));
+    }
+
+    @Test
+    void run_ShouldOnlyReportWhatIsDue_WhenDryRun() {
+        // Given
+        UUID expired = save("Dry Run Product", 1).getId();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        DataProductRetention retention = retention(Action.PURGE, true, 0.5, Duration.ofSeconds(30), meterRegistry);
+
+        // When
+        DataProductRetentionReport report = retention.run(LocalDateTime.now().plusDays(2));
+
+        // Then
+        assertEquals(new DataProductRetentionReport(0, 0, 1, 0, true, true), report);
+        assertTrue(dataProductRepository.existsById(expired));
+        assertEquals(1, meterRegistry.get("dataproduct.retention.pending").tag("phase", "expired").gauge().value());
+        assertEquals(0, meterRegistry.get("dataproduct.retention.rows").tag("action", "purged").counter().count());
+    }
+
+    @Test
+    void run_ShouldYieldAndStop_WhenPoolStaysBusy() {
+        // Given
+        UUID expired = save("Throttled Product", 1).getId();
+        MeterRegistry meterRegistry = new SimpleMeterRegistry();
+        // No share of the pool is ever free enough
+        DataProductRetention retention = retention(Action.ARCHIVE, false, 0, Duration.ofMillis(200), meterRegistry);
+
+        // When
+        DataProductRetentionReport report = retention.run(LocalDateTime.now().plusDays(2));
+
+        // Then
+        assertFalse(report.completed());
+        assertEquals(0, report.archived());
+        assertEquals(1, report.pendingExpired());
+        assertTrue(dataProductRepository.existsById(expired));
+        assertTrue(meterRegistry.get("dataproduct.retention.throttled").counter().count() > 0);
+    }
+
+    private DataProductRetention retention(Action action, boolean dryRun, double maxPoolUsage,
+                                           Duration maxDuration, MeterRegistry meterRegistry) {
+        return new DataProductRetention(dataProductService, dataSource, meterRegistry, action, Duration.ofDays(30),
+                2, Duration.ofMillis(10), maxPoolUsage, maxDuration, dryRun);
+    }
+
+    private DataProduct save(String name, Integer retentionPeriodDays) {
+        DataProduct dataProduct = new DataProduct();
+        dataProduct.setName(name);
+        dataProduct.setPortfolio("Retention");
+        dataProduct.setSource("Test Source");
+        dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+        dataProduct.setRetentionPeriodDays(retentionPeriodDays);
+        return dataProductRepository.save(dataProduct);
+    }
+
+    private long rowCount(UUID id) {
+        return jdbcTemplate.queryForObject("SELECT count(*) FROM data_products WHERE id = ?", Long.class, id);
+    }
+}
\ No newline at end of file
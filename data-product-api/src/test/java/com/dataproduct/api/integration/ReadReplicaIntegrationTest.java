@@ -0,0 +1,106 @@
+package com.dataproduct.api.integration;
+
+import com.dataproduct.api.repository.DataProductRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+
+import static org.hamcrest.Matchers.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * One replica that lags behind for good: it holds a copy of data_products taken before the write
+ * under test and never catches up. List reads go to it; the shared detail cache must not be filled
+ * from it, since a hit is served to every client, the writer included, without reaching the
+ * database or ReadYourWritesFilter.
+ */
+@SpringBootTest(properties = {
+        "dataproduct.datasource.replicas[0].url=" + ReadReplicaIntegrationTest.REPLICA_URL,
+        "spring.jpa.show-sql=false"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class ReadReplicaIntegrationTest {
+
+    static final String REPLICA_URL = "jdbc:h2:mem:lagging-replica;DB_CLOSE_DELAY=-1";
+
+    private final JdbcTemplate replica = new JdbcTemplate(new DriverManagerDataSource(REPLICA_URL, "sa", ""));
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+
+    @Autowired
+    private DataProductRepository dataProductRepository;
+
+    // The primary's own pool, bypassing the routing DataSource
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @AfterEach
+    void tearDown() {
+        dataProductRepository.deleteAll();
+        replica.execute("DROP ALL OBJECTS");
+    }
+
+    @Test
+    void getDataProductById_ShouldServeTheWrite_WhenTheReplicaLagsBehindIt() throws Exception {
+        // Given
+        String id = objectMapper.readTree(mockMvc.perform(post("/api/v1/data-products")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content("""
+                            {
+                                "name": "Replica Product",
+                                "description": "Original",
+                                "portfolio": "Test Portfolio",
+                                "source": "Test Source",
+                                "sensitivityCategory": "INTERNAL"
+                            }
+                            """))
+                .andExpect(status().isCreated())
+                .andReturn().getResponse().getContentAsString()).get("id").asText();
+        copyPrimaryToReplica();
+        mockMvc.perform(get("/api/v1/data-products/{id}", id))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""));
+
+        // When
+        mockMvc.perform(put("/api/v1/data-products/{id}", id)
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{\"description\": \"Updated\"}"))
+                .andExpect(status().isOk());
+
+        // Then: reads without the writer's cookie; the list still comes from the lagging replica
+        mockMvc.perform(get("/api/v1/data-products"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content[0].description", is("Original")));
+        mockMvc.perform(get("/api/v1/data-products/{id}", id)
+                .header("If-None-Match", "\"1\""))
+                .andExpect(status().isNotModified());
+        for (int i = 0; i < 2; i++) {
+            mockMvc.perform(get("/api/v1/data-products/{id}", id))
+                    .andExpect(status().isOk())
+                    .andExpect(header().string("ETag", "\"1\""))
+                    .andExpect(jsonPath("$.description", is("Updated")));
+        }
+    }
+
+    // The replica's snapshot: schema and rows of data_products as the primary has them now
+    private void copyPrimaryToReplica() {
+        replica.execute("DROP ALL OBJECTS");
+        new JdbcTemplate(dataSource)
+                .queryForList("SCRIPT NOPASSWORDS NOSETTINGS NOVERSION TABLE data_products", String.class)
+                .forEach(replica::execute);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,163 @@
+package com.dataproduct.api.integration;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.repository.DataProductRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.hibernate.engine.spi.SessionImplementor;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.ApplicationContext;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.orm.jpa.support.OpenEntityManagerInViewInterceptor;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.servlet.ModelAndView;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Virtual-thread mode with open-in-view requested explicitly. Transactions are admitted only while
+ * the pool has a free connection, which holds only if every connection goes back to the pool when
+ * its transaction ends: a request that still holds one after its handler returned has given up its
+ * permit while keeping the connection, and the next transaction admitted would wait on the pool.
+ */
+@SpringBootTest(properties = {
+        "spring.threads.virtual.enabled=true",
+        "spring.jpa.open-in-view=true",
+        "spring.jpa.show-sql=false",
+        "spring.datasource.hikari.maximum-pool-size=2",
+        "spring.datasource.hikari.minimum-idle=2"})
+@AutoConfigureMockMvc
+@ActiveProfiles("test")
+class VirtualThreadsConnectionPoolIntegrationTest {
+
+    private static final int CLIENTS = 32;
+    private static final int REQUESTS_PER_CLIENT = 10;
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @Autowired
+    private DataProductRepository dataProductRepository;
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private HeldConnectionProbe heldConnectionProbe;
+
+    @AfterEach
+    void tearDown() {
+        dataProductRepository.deleteAll();
+    }
+
+    @Test
+    void openInView_ShouldBeTurnedOff() {
+        assertEquals(0, applicationContext.getBeanNamesForType(OpenEntityManagerInViewInterceptor.class).length);
+    }
+
+    @Test
+    void concurrentRequests_ShouldReturnConnectionsWithTheirPermits() throws Exception {
+        // Given
+        for (int i = 0; i < 30; i++) {
+            DataProduct dataProduct = new DataProduct();
+            dataProduct.setName("Pool Product " + i);
+            dataProduct.setPortfolio("Pool");
+            dataProduct.setSource("Test Source");
+            dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+            dataProductRepository.save(dataProduct);
+        }
+        HikariPoolMXBean pool = dataSource.getHikariPoolMXBean();
+        AtomicBoolean running = new AtomicBoolean(true);
+        AtomicInteger maxActive = new AtomicInteger();
+        Thread sampler = Thread.ofPlatform().start(() -> {
+            while (running.get()) {
+                maxActive.accumulateAndGet(pool.getActiveConnections(), Math::max);
+                Thread.onSpinWait();
+            }
+        });
+
+        // When
+        try (ExecutorService clients = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> results = new ArrayList<>();
+            for (int client = 0; client < CLIENTS; client++) {
+                results.add(clients.submit(() -> {
+                    for (int request = 0; request < REQUESTS_PER_CLIENT; request++) {
+                        mockMvc.perform(get("/api/v1/data-products")
+                                        .param("page", String.valueOf(request % 3))
+                                        .param("size", "10"))
+                                .andExpect(status().isOk());
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> result : results) {
+                result.get();
+            }
+        } finally {
+            running.set(false);
+            sampler.join();
+        }
+
+        // Then
+        assertTrue(maxActive.get() <= 2, "active connections peaked at " + maxActive.get());
+        assertEquals(CLIENTS * REQUESTS_PER_CLIENT, heldConnectionProbe.handled.get());
+        assertEquals(0, heldConnectionProbe.heldAfterHandler.get(), "requests still holding a connection");
+    }
+
+    /**
+     * Checks, once the handler has returned and its transactions have ended, whether the request's
+     * thread still has an EntityManager bound that holds a physical connection.
+     */
+    @TestConfiguration
+    static class HeldConnectionProbe implements WebMvcConfigurer, HandlerInterceptor {
+
+        final AtomicInteger handled = new AtomicInteger();
+        final AtomicInteger heldAfterHandler = new AtomicInteger();
+
+        @Autowired
+        private EntityManagerFactory entityManagerFactory;
+
+        @Override
+        public void addInterceptors(InterceptorRegistry registry) {
+            registry.addInterceptor(this);
+        }
+
+        @Override
+        public void postHandle(HttpServletRequest request, HttpServletResponse response, Object handler,
+                ModelAndView modelAndView) {
+            handled.incrementAndGet();
+            if (TransactionSynchronizationManager.getResource(entityManagerFactory)
+                    instanceof EntityManagerHolder holder
+                    && holder.getEntityManager().unwrap(SessionImplementor.class)
+                            .getJdbcCoordinator().getLogicalConnection().isPhysicallyConnected()) {
+                heldAfterHandler.incrementAndGet();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,108 @@
+package com.dataproduct.api.mapper;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.service.DataProductCursorPage;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.SliceImpl;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class DataProductPageJsonWriterTest {
+
+    // Spring Boot's JacksonAutoConfiguration defaults: ISO-8601 strings for java.time values
+    private final ObjectMapper objectMapper = Jackson2ObjectMapperBuilder.json()
+            .featuresToDisable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS)
+            .build();
+    private final DataProductMapper dataProductMapper = new DataProductMapper();
+    private final DataProductPageJsonWriter dataProductPageJsonWriter = new DataProductPageJsonWriter(objectMapper);
+
+    @Test
+    void writePage_ShouldMatchJacksonOutputOfPageResponse() throws Exception {
+        // Given
+        PageImpl<DataProduct> page = new PageImpl<>(dataProducts(), PageRequest.of(2, 6), 45);
+
+        // When
+        byte[] json = write(DataProductListPage.of(page));
+
+        // Then
+        assertEquals(new String(objectMapper.writeValueAsBytes(dataProductMapper.toPageResponse(page)), StandardCharsets.UTF_8),
+                new String(json, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void writePage_ShouldMatchJacksonOutputOfEmptyPage() throws Exception {
+        // Given
+        PageImpl<DataProduct> page = new PageImpl<>(List.of(), PageRequest.of(0, 20), 0);
+
+        // When
+        byte[] json = write(DataProductListPage.of(page));
+
+        // Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(dataProductMapper.toPageResponse(page)), json);
+    }
+
+    @Test
+    void writeCursorPage_ShouldMatchJacksonOutputWithAndWithoutNextCursor() throws Exception {
+        // Given
+        DataProductCursorPage<DataProduct> middle = new DataProductCursorPage<>(
+                new SliceImpl<>(dataProducts(), PageRequest.of(0, 6), true), false);
+        DataProductCursorPage<DataProduct> end = new DataProductCursorPage<>(
+                new SliceImpl<>(dataProducts(), PageRequest.of(0, 6), false), true);
+
+        // When
+        byte[] middleJson = write(DataProductListPage.ofCursor(middle));
+        byte[] endJson = write(DataProductListPage.ofCursor(end));
+
+        // Then
+        assertArrayEquals(objectMapper.writeValueAsBytes(dataProductMapper.toCursorPageResponse(middle)), middleJson);
+        assertArrayEquals(objectMapper.writeValueAsBytes(dataProductMapper.toCursorPageResponse(end)), endJson);
+        assertTrue(new String(middleJson, StandardCharsets.UTF_8).contains("\"nextCursor\":\""));
+        assertTrue(new String(middleJson, StandardCharsets.UTF_8).contains("\"page\":null"));
+    }
+
+    private byte[] write(DataProductListPage page) throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        dataProductPageJsonWriter.write(page, out);
+        return out.toByteArray();
+    }
+
+    private List<DataProduct> dataProducts() {
+        int[] nanos = {0, 500_000_000, 123_000_000, 123_456_000, 1, 999_999_999};
+        List<DataProduct> dataProducts = new ArrayList<>();
+        for (int i = 0; i < nanos.length; i++) {
+            DataProduct dataProduct = new DataProduct();
+            dataProduct.setId(i == 0 ? new UUID(0, 1) : UUID.randomUUID());
+            dataProduct.setName("Product " + i + " \"quoted\" é☃\n");
+            dataProduct.setPortfolio("Finance");
+            dataProduct.setSource("warehouse");
+            dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.values()[i % 4]);
+            dataProduct.setIsActive(i % 2 == 0);
+            dataProduct.setCreatedAt(LocalDateTime.of(2024, 1, 1, 0, 0).plusNanos(nanos[i]));
+            dataProduct.setUpdatedAt(LocalDateTime.of(999, 12, 31, 23, 59, 59).plusNanos(nanos[i]));
+            if (i % 2 == 1) {
+                // Every optional field set on odd rows, left null on even ones
+                dataProduct.setDescription("Daily aggregate\tof sales");
+                dataProduct.setDataFormat("PARQUET");
+                dataProduct.setOwner("owner@company.com");
+                dataProduct.setTags(List.of("sales", "emea"));
+                dataProduct.setRetentionPeriodDays(365);
+            } else {
+                dataProduct.setTags(i == 0 ? null : List.of());
+            }
+            dataProducts.add(dataProduct);
+        }
+        return dataProducts;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,77 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.service.DataProductService;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Batch creation on the migrated PostgreSQL schema, where tags is a varchar[] column: the inserts,
+ * array included, have to go out as JDBC batches of hibernate.jdbc.batch_size rather than one
+ * statement per row.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@Testcontainers(disabledWithoutDocker = true)
+class DataProductBatchInsertTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DataProductService dataProductService;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void createDataProducts_ShouldInsertRowsWithTagsInJdbcBatches() {
+        // Given
+        List<DataProduct> dataProducts = new ArrayList<>();
+        for (int i = 0; i < 120; i++) {
+            DataProduct dataProduct = new DataProduct();
+            dataProduct.setName("Batched Product " + i);
+            dataProduct.setPortfolio("Test Portfolio");
+            dataProduct.setSource("Test Source");
+            dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+            dataProduct.setTags(List.of("batch", "tag" + i));
+            dataProducts.add(dataProduct);
+        }
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        // When
+        dataProductService.createDataProducts(dataProducts, false);
+
+        // Then: a batched INSERT is prepared once per table and reused for every batch of 50, so the
+        // name check, both INSERTs, the outbox state lock and its update; unbatched it would be 243
+        assertEquals(240, statistics.getEntityInsertCount());
+        assertEquals(5, statistics.getPrepareStatementCount());
+        assertEquals(List.of("batch", "tag7"), jdbcTemplate.queryForList(
+                "SELECT unnest(tags) FROM data_products WHERE name = 'Batched Product 7'", String.class));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,104 @@
+package com.dataproduct.api.repository;
+
+import org.flywaydb.core.Flyway;
+import org.flywaydb.core.api.MigrationInfo;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Applies the Flyway migrations one by one to an empty PostgreSQL database, the way a new
+ * deployment gets its schema, and checks the constraints the entity mapping cannot express.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class DataProductMigrationTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    private DataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void setUp() {
+        dataSource = new DriverManagerDataSource(POSTGRES.getJdbcUrl(), POSTGRES.getUsername(), POSTGRES.getPassword());
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("DROP SCHEMA public CASCADE");
+        jdbcTemplate.execute("CREATE SCHEMA public");
+    }
+
+    @Test
+    void migrate_ShouldApplyEveryVersionInOrderOnAnEmptyDatabase() {
+        Flyway flyway = flyway("latest");
+
+        assertTrue(flyway.migrate().success);
+
+        MigrationInfo[] applied = flyway.info().applied();
+        List<String> versions = Arrays.stream(applied).map(info -> info.getVersion().getVersion()).toList();
+        List<String> resolved = Arrays.stream(flyway.info().all()).map(info -> info.getVersion().getVersion()).toList();
+        assertEquals(resolved, versions);
+        assertEquals("1", versions.get(0));
+        assertTrue(Arrays.stream(applied).allMatch(info -> info.getState().isApplied() && !info.getState().isFailed()));
+    }
+
+    @Test
+    void migrate_ShouldKeepNamesUniqueAmongLiveRowsOnly() {
+        assertTrue(flyway("latest").migrate().success);
+
+        insert("Unique Product");
+        jdbcTemplate.update("UPDATE data_products SET deleted_at = now() WHERE name = 'Unique Product'");
+        insert("Unique Product");
+
+        assertThrows(DuplicateKeyException.class, () -> insert("Unique Product"));
+    }
+
+    @Test
+    void migrate_ShouldMoveTagsIntoASortedArrayTheTagFiltersCanQuery() {
+        assertTrue(flyway("4").migrate().success);
+        insert("Tagged Product");
+        for (String tag : List.of("zeta", "alpha", "mid")) {
+            jdbcTemplate.update("""
+                    INSERT INTO data_product_tags (data_product_id, tag)
+                    SELECT id, ? FROM data_products WHERE name = 'Tagged Product'
+                    """, tag);
+        }
+
+        assertTrue(flyway("latest").migrate().success);
+
+        assertEquals(List.of("alpha", "mid", "zeta"), jdbcTemplate.queryForList(
+                "SELECT unnest(tags) FROM data_products WHERE name = 'Tagged Product'", String.class));
+        // The operand types Hibernate renders for DataProductFilterRepositoryImpl's tag predicates
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM data_products WHERE tags && cast(array[?, ?] as varchar array)",
+                Integer.class, "mid", "other"));
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT count(*) FROM data_products WHERE tags @> array[cast(? as varchar)]", Integer.class, "zeta"));
+    }
+
+    private void insert(String name) {
+        jdbcTemplate.update("""
+                INSERT INTO data_products (id, name, portfolio, source, sensitivity_category, is_active,
+                                           created_at, updated_at)
+                VALUES (gen_random_uuid(), ?, 'Portfolio', 'Source', 'PUBLIC', TRUE, now(), now())
+                """, name);
+    }
+
+    private Flyway flyway(String target) {
+        return Flyway.configure()
+                .dataSource(dataSource)
+                .locations("classpath:db/migration")
+                .target(target)
+                .load();
+    }
+}
\ No newline at end of file
@@ -0,0 +1,119 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.service.DataProductService;
+import com.dataproduct.commons.exception.DataProductVersionConflictException;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs PATCH against the migrated PostgreSQL schema. The patch statement goes over plain JDBC, so
+ * any statement Hibernate prepares on top of it shows up in the inspector.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.dataproduct.api.repository.DataProductPatchStatementTest$RecordingStatementInspector")
+@Testcontainers(disabledWithoutDocker = true)
+class DataProductPatchStatementTest {
+
+    @Container
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DataProductService dataProductService;
+
+    @Autowired
+    private DataProductRepository dataProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private UUID id;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate.update("DELETE FROM data_products");
+        DataProduct dataProduct = new DataProduct();
+        dataProduct.setName("Patched Product " + UUID.randomUUID());
+        dataProduct.setPortfolio("Test Portfolio");
+        dataProduct.setSource("Test Source");
+        dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+        id = dataProductService.createDataProduct(dataProduct).getId();
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void patchDataProduct_ShouldUpdateAndRecordTheChangeInOneStatement() {
+        // Given
+        long before = lastSequence();
+
+        // When
+        DataProduct patched = dataProductService.patchDataProduct(id,
+                new DataProductPatch().set(DataProductField.DESCRIPTION, "Patched"), 0L);
+
+        // Then
+        assertEquals("Patched", patched.getDescription());
+        assertEquals(1L, patched.getVersion());
+        assertEquals(List.of(), List.copyOf(RecordingStatementInspector.STATEMENTS));
+        assertEquals(before + 1, lastSequence());
+        Map<String, Object> change = jdbcTemplate.queryForMap(
+                "SELECT data_product_id, change_type FROM data_product_outbox WHERE sequence_number = ?", before + 1);
+        assertEquals(id, change.get("data_product_id"));
+        assertEquals("UPDATED", change.get("change_type"));
+
+        // And the next change recorded through DataProductOutbox continues the sequence
+        dataProductService.deleteDataProduct(id);
+        assertEquals("DELETED", jdbcTemplate.queryForObject(
+                "SELECT change_type FROM data_product_outbox WHERE sequence_number = ?", String.class, before + 2));
+    }
+
+    @Test
+    void patchDataProduct_ShouldTakeNoSequence_WhenVersionDoesNotMatch() {
+        // Given
+        long before = lastSequence();
+
+        // When & Then
+        assertThrows(DataProductVersionConflictException.class, () -> dataProductService.patchDataProduct(id,
+                new DataProductPatch().set(DataProductField.DESCRIPTION, "Patched"), 5L));
+        assertEquals(before, lastSequence());
+        assertEquals(0L, dataProductRepository.findVersionById(id).orElseThrow());
+    }
+
+    private long lastSequence() {
+        return jdbcTemplate.queryForObject("SELECT last_sequence FROM data_product_outbox_state", Long.class);
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
\ No newline at end of file
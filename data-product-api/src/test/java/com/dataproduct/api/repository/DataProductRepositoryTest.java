@@ -0,0 +1,170 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.generated.model.DataProductPageResponse;
+import com.dataproduct.api.mapper.DataProductMapper;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Slice;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@ActiveProfiles("test")
+@Transactional
+class DataProductRepositoryTest {
+
+    private static final int PAGE_SIZE = 100;
+
+    @Autowired
+    private DataProductRepository dataProductRepository;
+
+    @Autowired
+    private DataProductMapper dataProductMapper;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void setUp() {
+        dataProductRepository.deleteAll();
+
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            DataProduct dataProduct = new DataProduct();
+            dataProduct.setName("Batch Product " + i);
+            dataProduct.setPortfolio("Test Portfolio");
+            dataProduct.setSource("Test Source");
+            dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.INTERNAL);
+            dataProduct.setTags(List.of("tag-" + i, "shared", i % 2 == 0 ? "even" : "odd"));
+            dataProductRepository.save(dataProduct);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void findWithFilters_ShouldLoadTagsWithRows() {
+        Page<DataProduct> page = dataProductRepository.findWithFilters(DataProductFilter.NONE, null, null,
+                PageRequest.of(0, PAGE_SIZE));
+        DataProductPageResponse response = dataProductMapper.toPageResponse(page);
+
+        assertEquals(PAGE_SIZE, response.getContent().size());
+        assertTrue(response.getContent().stream().allMatch(item -> item.getTags().size() == 3));
+        // page select + count; tags are a column of the row
+        assertEquals(2, statistics.getPrepareStatementCount());
+    }
+
+    @Test
+    void findWithFilters_ShouldMatchAnyOrAllTags() {
+        Page<DataProduct> any = dataProductRepository.findWithFilters(
+                DataProductFilter.NONE, List.of("tag-1", "tag-2", "missing"), null, PageRequest.of(0, PAGE_SIZE));
+        Page<DataProduct> all = dataProductRepository.findWithFilters(
+                DataProductFilter.NONE, null, List.of("shared", "even"), PageRequest.of(0, PAGE_SIZE));
+        Page<DataProduct> none = dataProductRepository.findWithFilters(
+                DataProductFilter.NONE, null, List.of("tag-1", "even"), PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(2, any.getTotalElements());
+        assertEquals(PAGE_SIZE / 2, all.getTotalElements());
+        assertEquals(0, none.getTotalElements());
+    }
+
+    @Test
+    void findWithFilters_ShouldApplyOnlySuppliedFilters() {
+        LocalDateTime tomorrow = LocalDateTime.now().plusDays(1);
+        Page<DataProduct> matching = dataProductRepository.findWithFilters(
+                new DataProductFilter(null, null, null, "Test Source", null, true, null, tomorrow), null, null,
+                PageRequest.of(0, PAGE_SIZE));
+        Page<DataProduct> otherOwner = dataProductRepository.findWithFilters(
+                new DataProductFilter(null, null, "nobody", null, null, null, null, null), null, null,
+                PageRequest.of(0, PAGE_SIZE));
+        Page<DataProduct> createdLater = dataProductRepository.findWithFilters(
+                new DataProductFilter(null, null, null, null, null, null, tomorrow, null), null, null,
+                PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE, matching.getTotalElements());
+        assertEquals(0, otherOwner.getTotalElements());
+        assertEquals(0, createdLater.getTotalElements());
+        List<String> queries = List.of(statistics.getQueries());
+        assertTrue(queries.stream().anyMatch(query -> query.contains("dp.source = :source")), queries::toString);
+        assertTrue(queries.stream().noneMatch(query -> query.contains("dp.source") && query.contains("dp.owner")),
+                queries::toString);
+    }
+
+    @Test
+    void findWithFilters_ShouldReuseQueryShape_WhenTagCountsPadToSameSize() {
+        dataProductRepository.findWithFilters(
+                DataProductFilter.NONE, List.of("tag-1", "tag-2", "tag-3"), null, PageRequest.of(0, PAGE_SIZE));
+        Page<DataProduct> page = dataProductRepository.findWithFilters(
+                DataProductFilter.NONE, List.of("tag-1", "tag-2", "tag-3", "tag-4"), null,
+                PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(4, page.getTotalElements());
+        // One page select and one count, each run twice
+        assertEquals(2, statistics.getQueries().length);
+    }
+
+    @Test
+    void findProjectionsWithFilters_ShouldReadSelectedColumnsWithoutLoadingEntities() {
+        Page<DataProductProjection> page = dataProductRepository.findProjectionsWithFilters(
+                DataProductFilter.NONE, List.of("even"), null, EnumSet.of(DataProductField.ID, DataProductField.NAME),
+                PageRequest.of(0, PAGE_SIZE));
+
+        assertEquals(PAGE_SIZE / 2, page.getTotalElements());
+        DataProductProjection row = page.getContent().get(0);
+        assertNotNull(row.id());
+        assertTrue(row.name().startsWith("Batch Product "));
+        assertNull(row.portfolio());
+        assertNull(row.tags());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void findProjectionSliceWithFilters_ShouldSeekPastCursor() {
+        Set<DataProductField> fields = EnumSet.of(DataProductField.ID, DataProductField.TAGS);
+        Slice<DataProductProjection> first = dataProductRepository.findProjectionSliceWithFilters(
+                DataProductFilter.NONE, null, null, fields, null, null, PageRequest.of(0, 60));
+        DataProductProjection last = first.getContent().get(first.getNumberOfElements() - 1);
+        Slice<DataProductProjection> rest = dataProductRepository.findProjectionSliceWithFilters(
+                DataProductFilter.NONE, null, null, fields, last.createdAt(), last.id(), PageRequest.of(0, 60));
+
+        assertTrue(first.hasNext());
+        assertFalse(rest.hasNext());
+        assertEquals(PAGE_SIZE - 60, rest.getNumberOfElements());
+        assertEquals(3, rest.getContent().get(0).tags().size());
+        assertEquals(0, statistics.getEntityLoadCount());
+    }
+
+    @Test
+    void save_ShouldNotRewriteTags_WhenUnchanged() {
+        DataProduct dataProduct = dataProductRepository.findByName("Batch Product 0").orElseThrow();
+        dataProduct.setTags(List.of("tag-0", "shared", "even"));
+        entityManager.flush();
+        entityManager.clear();
+
+        assertEquals(0, statistics.getEntityUpdateCount());
+        assertEquals(0L, dataProductRepository.findByName("Batch Product 0").orElseThrow().getVersion());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,199 @@
+package com.dataproduct.api.repository;
+
+import com.dataproduct.api.entity.DataProduct;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.DynamicPropertyRegistry;
+import org.springframework.test.context.DynamicPropertySource;
+import org.testcontainers.containers.PostgreSQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the migrations on PostgreSQL and checks the plan of every list query shape: each filter
+ * combination, including owner, source, dataFormat, isActive and the creation range, with each
+ * DataProductSort. Sequential scans and sorts are priced out, so a plan that still contains one
+ * has no index to use instead.
+ */
+@SpringBootTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector="
+        + "com.dataproduct.api.repository.DataProductSortPlanTest$RecordingStatementInspector")
+@Testcontainers(disabledWithoutDocker = true)
+class DataProductSortPlanTest {
+
+    @Container
+    // Simple protocol: EXPLAIN (GENERIC_PLAN) has to reach the server with its $n placeholders unbound
+    private static final PostgreSQLContainer<?> POSTGRES = new PostgreSQLContainer<>("postgres:16-alpine")
+            .withUrlParam("preferQueryMode", "simple");
+
+    @DynamicPropertySource
+    static void datasource(DynamicPropertyRegistry registry) {
+        registry.add("spring.datasource.url", POSTGRES::getJdbcUrl);
+        registry.add("spring.datasource.username", POSTGRES::getUsername);
+        registry.add("spring.datasource.password", POSTGRES::getPassword);
+    }
+
+    @Autowired
+    private DataProductRepository dataProductRepository;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("""
+                INSERT INTO data_products (id, name, portfolio, source, sensitivity_category, data_format, owner,
+                                           is_active, created_at, updated_at, tags)
+                SELECT gen_random_uuid(), 'Plan Product ' || i, 'Portfolio ' || (i % 20), 'Source ' || (i % 40),
+                       (ARRAY['PUBLIC', 'INTERNAL', 'CONFIDENTIAL', 'RESTRICTED'])[i % 4 + 1],
+                       (ARRAY['PARQUET', 'CSV', 'JSON'])[i % 3 + 1], 'owner' || (i % 100) || '@company.com',
+                       i % 10 <> 0, now() - i * INTERVAL '1 minute', now(), ARRAY['tag' || (i % 50)]
+                  FROM generate_series(1, 5000) i
+                """);
+        jdbcTemplate.execute("ANALYZE data_products");
+    }
+
+    @BeforeEach
+    void setUp() {
+        RecordingStatementInspector.STATEMENTS.clear();
+    }
+
+    @Test
+    void listQueries_ShouldReadEveryFilterAndSortCombinationFromAnIndex() {
+        for (DataProductFilter filter : filters()) {
+            for (List<String> anyTags : List.of(List.<String>of(), List.of("tag3", "tag7"))) {
+                for (DataProductSort sort : DataProductSort.values()) {
+                    String shape = filter + ", anyTags=" + anyTags + ", sort=" + sort.getParameter();
+                    PageRequest pageRequest = PageRequest.of(2, 20, sort.getSort());
+
+                    dataProductRepository.findWithFilters(filter, anyTags, null, pageRequest);
+                    dataProductRepository.findProjectionsWithFilters(filter, anyTags, null,
+                            EnumSet.of(DataProductField.NAME), pageRequest);
+
+                    for (String sql : orderedStatements()) {
+                        String plan = explain(sql);
+                        assertFalse(plan.contains("Seq Scan"), shape + "\n" + plan);
+                        if (anyTags.isEmpty()) {
+                            // The GIN index on tags is unordered; only equality filters come presorted
+                            assertFalse(plan.contains("Sort"), shape + "\n" + plan);
+                            assertIndexedEqualityFilter(filter, plan, shape);
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    // Every combination of the equality filters, alone and with each of the unindexed or range filters
+    private static List<DataProductFilter> filters() {
+        LocalDateTime now = LocalDateTime.now();
+        List<DataProductFilter> filters = new ArrayList<>();
+        for (String portfolio : new String[] {null, "Portfolio 3"}) {
+            for (DataProduct.SensitivityCategory sensitivityCategory :
+                    new DataProduct.SensitivityCategory[] {null, DataProduct.SensitivityCategory.INTERNAL}) {
+                for (String owner : new String[] {null, "owner7@company.com"}) {
+                    for (String source : new String[] {null, "Source 3"}) {
+                        filters.add(new DataProductFilter(portfolio, sensitivityCategory, owner, source,
+                                null, null, null, null));
+                        filters.add(new DataProductFilter(portfolio, sensitivityCategory, owner, source,
+                                "CSV", null, null, null));
+                        filters.add(new DataProductFilter(portfolio, sensitivityCategory, owner, source,
+                                null, false, null, null));
+                        filters.add(new DataProductFilter(portfolio, sensitivityCategory, owner, source,
+                                null, null, now.minusDays(2), now.minusDays(1)));
+                    }
+                }
+            }
+        }
+        return filters;
+    }
+
+    // With one of the selective equality filters supplied, one of them leads the index scan; the
+    // rest are checked per row. sensitivityCategory alone has four values, so reading the sort
+    // order and skipping three rows in four is the cheaper plan and is left to the planner.
+    private static void assertIndexedEqualityFilter(DataProductFilter filter, String plan, String shape) {
+        List<String> selective = Stream.of(filter.portfolio() != null ? "portfolio" : null,
+                        filter.owner() != null ? "owner" : null,
+                        filter.source() != null ? "source" : null)
+                .filter(Objects::nonNull)
+                .toList();
+        if (selective.isEmpty()) {
+            return;
+        }
+        String indexConditions = plan.lines()
+                .filter(line -> line.contains("Index Cond:"))
+                .reduce("", String::concat);
+        assertTrue(selective.stream().anyMatch(indexConditions::contains), shape + "\n" + plan);
+    }
+
+    // Only the page selects; counts are unordered, and background jobs never page by offset
+    private List<String> orderedStatements() {
+        List<String> statements = new ArrayList<>();
+        String sql;
+        while ((sql = RecordingStatementInspector.STATEMENTS.poll()) != null) {
+            if (sql.contains("order by") && sql.contains("offset")) {
+                statements.add(sql);
+            }
+        }
+        assertEquals(2, statements.size());
+        return statements;
+    }
+
+    // GENERIC_PLAN explains the prepared statement as is, with $n in place of the bind parameters
+    private String explain(String sql) {
+        StringBuilder numbered = new StringBuilder();
+        int parameter = 0;
+        for (char c : sql.toCharArray()) {
+            if (c == '?') {
+                numbered.append('$').append(++parameter);
+            } else {
+                numbered.append(c);
+            }
+        }
+        return jdbcTemplate.execute((ConnectionCallback<String>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                statement.execute("SET enable_seqscan = off");
+                statement.execute("SET enable_sort = off");
+                StringBuilder plan = new StringBuilder();
+                try (ResultSet rows = statement.executeQuery("EXPLAIN (GENERIC_PLAN) " + numbered)) {
+                    while (rows.next()) {
+                        plan.append(rows.getString(1)).append('\n');
+                    }
+                }
+                statement.execute("RESET enable_seqscan");
+                statement.execute("RESET enable_sort");
+                return plan.toString();
+            }
+        });
+    }
+
+    public static class RecordingStatementInspector implements StatementInspector {
+
+        static final Queue<String> STATEMENTS = new ConcurrentLinkedQueue<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+}
\ No newline at end of file
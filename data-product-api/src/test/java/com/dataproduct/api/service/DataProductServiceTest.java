@@ -1,23 +1,39 @@
 package com.dataproduct.api.service;
 
+import com.dataproduct.api.changes.DataProductOutbox;
 import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.event.DataProductChangedEvent;
+import com.dataproduct.api.repository.DataProductField;
+import com.dataproduct.api.repository.DataProductFilter;
+import com.dataproduct.api.repository.DataProductPatch;
 import com.dataproduct.api.repository.DataProductRepository;
+import com.dataproduct.api.search.DataProductSearchRepository;
 import com.dataproduct.commons.exception.DataProductAlreadyExistsException;
 import com.dataproduct.commons.exception.DataProductNotFoundException;
+import com.dataproduct.commons.exception.DataProductVersionConflictException;
+import com.dataproduct.commons.exception.InvalidRequestException;
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.auditing.DateTimeProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.SliceImpl;
 
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.IntStream;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
@@ -29,6 +45,21 @@ class DataProductServiceTest {
     @Mock
     private DataProductRepository dataProductRepository;
 
+    @Mock
+    private DataProductSearchRepository dataProductSearchRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private DataProductOutbox dataProductOutbox;
+
+    @Mock
+    private DateTimeProvider auditingDateTimeProvider;
+
     @InjectMocks
     private DataProductService dataProductService;
 
@@ -52,16 +83,151 @@ class DataProductServiceTest {
         // Given
         Pageable pageable = PageRequest.of(0, 10);
         Page<DataProduct> mockPage = new PageImpl<>(List.of(testDataProduct), pageable, 1);
-        when(dataProductRepository.findWithFilters(null, null, pageable)).thenReturn(mockPage);
+        when(dataProductRepository.findWithFilters(DataProductFilter.NONE, null, null, pageable)).thenReturn(mockPage);
 
         // When
-        Page<DataProduct> result = dataProductService.getAllDataProducts(null, null, pageable);
+        Page<DataProduct> result = dataProductService.getAllDataProducts(
+                DataProductFilter.NONE, DataProductTagFilter.NONE, pageable);
 
         // Then
         assertNotNull(result);
         assertEquals(1, result.getTotalElements());
         assertEquals(testDataProduct.getName(), result.getContent().get(0).getName());
-        verify(dataProductRepository).findWithFilters(null, null, pageable);
+        verify(dataProductRepository).findWithFilters(DataProductFilter.NONE, null, null, pageable);
+    }
+
+    @Test
+    void searchDataProducts_ShouldDelegateToSearchRepository() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Page<DataProduct> mockPage = new PageImpl<>(List.of(testDataProduct), pageable, 1);
+        when(dataProductSearchRepository.search("test", "Test Portfolio", null, pageable)).thenReturn(mockPage);
+
+        // When
+        Page<DataProduct> result = dataProductService.searchDataProducts("test", "Test Portfolio", null, pageable);
+
+        // Then
+        assertEquals(mockPage, result);
+    }
+
+    @Test
+    void searchDataProducts_ShouldThrowException_WhenQueryBlank() {
+        // When & Then
+        assertThrows(InvalidRequestException.class,
+                () -> dataProductService.searchDataProducts("  ", null, null, PageRequest.of(0, 10)));
+        verifyNoInteractions(dataProductSearchRepository);
+    }
+
+    @Test
+    void exportDataProducts_ShouldWriteEveryRowAndClearContextPerChunk() {
+        // Given
+        int total = DataProductService.EXPORT_CHUNK_SIZE * 2 + 1;
+        List<DataProduct> rows = IntStream.range(0, total)
+                .mapToObj(i -> new DataProduct())
+                .toList();
+        when(dataProductRepository.streamWithFilters(DataProductFilter.of("Test Portfolio", null)))
+                .thenReturn(rows.stream());
+        List<DataProduct> written = new ArrayList<>();
+
+        // When
+        long count = dataProductService.exportDataProducts("Test Portfolio", null, written::add);
+
+        // Then
+        assertEquals(total, count);
+        assertEquals(rows, written);
+        verify(entityManager, times(3)).clear();
+    }
+
+    @Test
+    void getAllDataProducts_ShouldPassTagFilterAsAnyOrAllTags() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        List<String> tags = List.of("finance", "daily");
+        when(dataProductRepository.findWithFilters(any(), any(), any(), any())).thenReturn(Page.empty(pageable));
+
+        // When
+        dataProductService.getAllDataProducts(DataProductFilter.NONE, DataProductTagFilter.of(tags, false), pageable);
+        dataProductService.getAllDataProducts(DataProductFilter.NONE, DataProductTagFilter.of(tags, true), pageable);
+        dataProductService.getAllDataProducts(
+                DataProductFilter.NONE, DataProductTagFilter.of(List.of(), true), pageable);
+
+        // Then
+        verify(dataProductRepository).findWithFilters(DataProductFilter.NONE, tags, null, pageable);
+        verify(dataProductRepository).findWithFilters(DataProductFilter.NONE, null, tags, pageable);
+        verify(dataProductRepository).findWithFilters(DataProductFilter.NONE, null, null, pageable);
+    }
+
+    @Test
+    void getDataProductsAfter_ShouldReturnFirstSlice_WhenNoCursor() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        Slice<DataProduct> mockSlice = new SliceImpl<>(List.of(testDataProduct), pageable, false);
+        when(dataProductRepository.findFirstSliceWithFilters(DataProductFilter.NONE, null, null, pageable))
+                .thenReturn(mockSlice);
+
+        // When
+        DataProductCursorPage<DataProduct> result = dataProductService.getDataProductsAfter(
+                DataProductFilter.NONE, DataProductTagFilter.NONE, null, 10);
+
+        // Then
+        assertEquals(1, result.slice().getNumberOfElements());
+        assertFalse(result.slice().hasNext());
+        assertTrue(result.first());
+        verify(dataProductRepository).findFirstSliceWithFilters(DataProductFilter.NONE, null, null, pageable);
+        verify(dataProductRepository, never()).findWithFilters(any(), any(), any(), any());
+        verify(dataProductRepository, never()).existsWithFiltersAtOrBefore(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    void getDataProductsAfter_ShouldSeekPastCursor_WhenCursorGiven() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        DataProductCursor cursor = new DataProductCursor(LocalDateTime.of(2024, 1, 1, 12, 0), UUID.randomUUID());
+        Slice<DataProduct> mockSlice = new SliceImpl<>(List.of(testDataProduct), pageable, true);
+        when(dataProductRepository.findSliceWithFiltersAfter(
+                DataProductFilter.of("Test Portfolio", null), null, null, cursor.createdAt(), cursor.id(), pageable))
+                .thenReturn(mockSlice);
+        when(dataProductRepository.existsWithFiltersAtOrBefore(
+                DataProductFilter.of("Test Portfolio", null), null, null, cursor.createdAt(), cursor.id()))
+                .thenReturn(true);
+
+        // When
+        DataProductCursorPage<DataProduct> result = dataProductService.getDataProductsAfter(
+                DataProductFilter.of("Test Portfolio", null), DataProductTagFilter.NONE, cursor, 10);
+
+        // Then
+        assertTrue(result.slice().hasNext());
+        assertFalse(result.first());
+        verify(dataProductRepository).findSliceWithFiltersAfter(
+                DataProductFilter.of("Test Portfolio", null), null, null, cursor.createdAt(), cursor.id(), pageable);
+    }
+
+    @Test
+    void getDataProductsAfter_ShouldReportFirstPage_WhenNothingPrecedesCursor() {
+        // Given
+        Pageable pageable = PageRequest.of(0, 10);
+        DataProductCursor cursor = new DataProductCursor(LocalDateTime.of(2024, 1, 1, 12, 0), UUID.randomUUID());
+        when(dataProductRepository.findSliceWithFiltersAfter(
+                DataProductFilter.NONE, null, null, cursor.createdAt(), cursor.id(), pageable))
+                .thenReturn(new SliceImpl<>(List.of(testDataProduct), pageable, false));
+        when(dataProductRepository.existsWithFiltersAtOrBefore(
+                DataProductFilter.NONE, null, null, cursor.createdAt(), cursor.id()))
+                .thenReturn(false);
+
+        // When
+        DataProductCursorPage<DataProduct> result = dataProductService.getDataProductsAfter(
+                DataProductFilter.NONE, DataProductTagFilter.NONE, cursor, 10);
+
+        // Then
+        assertTrue(result.first());
+    }
+
+    @Test
+    void dataProductCursor_ShouldRoundTrip() {
+        DataProductCursor cursor = new DataProductCursor(LocalDateTime.of(2024, 1, 1, 12, 0, 0, 123456000), testId);
+
+        assertEquals(cursor, DataProductCursor.decode(cursor.encode()));
+        assertThrows(InvalidRequestException.class, () -> DataProductCursor.decode("not-a-cursor"));
     }
 
     @Test
@@ -135,30 +301,193 @@ class DataProductServiceTest {
         assertNotNull(result);
         verify(dataProductRepository).findById(testId);
         verify(dataProductRepository).save(any(DataProduct.class));
+        verify(dataProductOutbox).append(DataProductChangedEvent.updated(testDataProduct));
+        verify(eventPublisher).publishEvent(
+                DataProductChangedEvent.updated(testDataProduct));
     }
 
     @Test
-    void deleteDataProduct_ShouldDeleteDataProduct_WhenExists() {
+    void updateDataProduct_ShouldThrowException_WhenExpectedVersionIsStale() {
         // Given
-        when(dataProductRepository.existsById(testId)).thenReturn(true);
+        testDataProduct.setVersion(3L);
+        DataProduct updateRequest = new DataProduct();
+        updateRequest.setDescription("Updated Description");
+
+        when(dataProductRepository.findById(testId)).thenReturn(Optional.of(testDataProduct));
+
+        // When & Then
+        assertThrows(DataProductVersionConflictException.class,
+            () -> dataProductService.updateDataProduct(testId, updateRequest, 2L));
+        verify(dataProductRepository, never()).save(any());
+        verify(dataProductOutbox, never()).append(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void createDataProducts_ShouldReportConflictsAndSaveNewItems() {
+        // Given
+        DataProduct newDataProduct = new DataProduct();
+        newDataProduct.setName("New Product");
+        DataProduct duplicateInBatch = new DataProduct();
+        duplicateInBatch.setName("New Product");
+        DataProduct existingName = new DataProduct();
+        existingName.setName(testDataProduct.getName());
+
+        when(dataProductRepository.findByNameIn(any())).thenReturn(List.of(testDataProduct));
+
+        // When
+        List<DataProductBatchResult> results = dataProductService.createDataProducts(
+                List.of(newDataProduct, duplicateInBatch, existingName), false);
+
+        // Then
+        assertEquals(DataProductBatchResult.Outcome.CREATED, results.get(0).outcome());
+        assertEquals(DataProductBatchResult.Outcome.CONFLICT, results.get(1).outcome());
+        assertEquals(DataProductBatchResult.Outcome.CONFLICT, results.get(2).outcome());
+        verify(dataProductRepository).findByNameIn(any());
+        verify(dataProductRepository, never()).existsByName(any());
+        verify(dataProductRepository).saveAll(List.of(newDataProduct));
+    }
+
+    @Test
+    void createDataProducts_ShouldUpdateExistingItems_WhenUpsert() {
+        // Given
+        DataProduct upsertItem = new DataProduct();
+        upsertItem.setName(testDataProduct.getName());
+        upsertItem.setDescription("Upserted Description");
+
+        when(dataProductRepository.findByNameIn(any())).thenReturn(List.of(testDataProduct));
+
+        // When
+        List<DataProductBatchResult> results = dataProductService.createDataProducts(List.of(upsertItem), true);
+
+        // Then
+        assertEquals(DataProductBatchResult.Outcome.UPDATED, results.get(0).outcome());
+        assertSame(testDataProduct, results.get(0).dataProduct());
+        assertEquals("Upserted Description", testDataProduct.getDescription());
+        verify(dataProductRepository).saveAll(List.of());
+        verify(eventPublisher).publishEvent(
+                DataProductChangedEvent.updated(testDataProduct));
+    }
+
+    @Test
+    void patchDataProduct_ShouldUpdateInOneStatement_WithoutLoadingOrNameCheck() {
+        // Given
+        DataProductPatch patch = new DataProductPatch().set(DataProductField.NAME, "Patched Name");
+        when(dataProductRepository.patch(testId, patch, 0L)).thenReturn(Optional.of(testDataProduct));
+
+        // When
+        DataProduct result = dataProductService.patchDataProduct(testId, patch, 0L);
+
+        // Then
+        assertSame(testDataProduct, result);
+        verify(dataProductRepository, never()).findById(any());
+        verify(dataProductRepository, never()).existsByName(any());
+        verify(dataProductOutbox).append(DataProductChangedEvent.updated(testDataProduct));
+    }
+
+    @Test
+    void patchDataProduct_ShouldOnlyPublishEvent_WhenPatchStatementRecordsChange() {
+        // Given
+        DataProductPatch patch = new DataProductPatch().set(DataProductField.DESCRIPTION, "New");
+        when(dataProductRepository.patch(testId, patch, null)).thenReturn(Optional.of(testDataProduct));
+        when(dataProductRepository.patchRecordsChange()).thenReturn(true);
+
+        // When
+        dataProductService.patchDataProduct(testId, patch, null);
+
+        // Then
+        verify(dataProductOutbox, never()).append(any());
+        verify(eventPublisher).publishEvent(DataProductChangedEvent.updated(testDataProduct));
+    }
+
+    @Test
+    void patchDataProduct_ShouldThrowVersionConflict_WhenNoRowMatchesExistingDataProduct() {
+        // Given
+        DataProductPatch patch = new DataProductPatch().set(DataProductField.DESCRIPTION, null);
+        when(dataProductRepository.patch(testId, patch, 2L)).thenReturn(Optional.empty());
+        when(dataProductRepository.findVersionById(testId)).thenReturn(Optional.of(3L));
+
+        // When & Then
+        assertThrows(DataProductVersionConflictException.class,
+            () -> dataProductService.patchDataProduct(testId, patch, 2L));
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void patchDataProduct_ShouldThrowNotFound_WhenNoRowMatchesAndDataProductIsMissing() {
+        // Given
+        DataProductPatch patch = new DataProductPatch().set(DataProductField.DESCRIPTION, "New");
+        when(dataProductRepository.patch(testId, patch, null)).thenReturn(Optional.empty());
+        when(dataProductRepository.findVersionById(testId)).thenReturn(Optional.empty());
+
+        // When & Then
+        assertThrows(DataProductNotFoundException.class,
+            () -> dataProductService.patchDataProduct(testId, patch, null));
+    }
+
+    @Test
+    void deleteDataProduct_ShouldSoftDeleteDataProduct_WhenExists() {
+        // Given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        when(auditingDateTimeProvider.getNow()).thenReturn(Optional.of(now));
+        when(dataProductRepository.softDeleteByIdIn(List.of(testId), now)).thenReturn(1);
 
         // When
         dataProductService.deleteDataProduct(testId);
 
         // Then
-        verify(dataProductRepository).existsById(testId);
-        verify(dataProductRepository).deleteById(testId);
+        verify(dataProductRepository).softDeleteByIdIn(List.of(testId), now);
+        verify(dataProductRepository, never()).deleteById(any());
+        verify(dataProductOutbox).append(DataProductChangedEvent.deleted(testId));
+        verify(eventPublisher).publishEvent(
+                DataProductChangedEvent.deleted(testId));
     }
 
     @Test
     void deleteDataProduct_ShouldThrowException_WhenNotExists() {
         // Given
-        when(dataProductRepository.existsById(testId)).thenReturn(false);
+        when(auditingDateTimeProvider.getNow()).thenReturn(Optional.of(LocalDateTime.now()));
+        when(dataProductRepository.softDeleteByIdIn(any(), any())).thenReturn(0);
 
         // When & Then
         assertThrows(DataProductNotFoundException.class, 
             () -> dataProductService.deleteDataProduct(testId));
-        verify(dataProductRepository).existsById(testId);
-        verify(dataProductRepository, never()).deleteById(any());
+        verify(dataProductOutbox, never()).append(any());
+        verify(eventPublisher, never()).publishEvent(any());
+    }
+
+    @Test
+    void retireExpiredDataProducts_ShouldArchiveLockedRowsAndRecordDeletes() {
+        // Given
+        LocalDateTime expiredBy = LocalDateTime.of(2024, 1, 1, 12, 0);
+        UUID otherId = UUID.randomUUID();
+        when(auditingDateTimeProvider.getNow()).thenReturn(Optional.of(expiredBy));
+        when(dataProductRepository.lockExpiredIds(expiredBy, 100)).thenReturn(List.of(testId, otherId));
+
+        // When
+        int retired = dataProductService.retireExpiredDataProducts(expiredBy, 100, false);
+
+        // Then
+        assertEquals(2, retired);
+        verify(dataProductRepository).softDeleteByIdIn(List.of(testId, otherId), expiredBy);
+        verify(dataProductRepository, never()).deleteByIdIn(any());
+        verify(dataProductOutbox).append(DataProductChangedEvent.deleted(testId));
+        verify(dataProductOutbox).append(DataProductChangedEvent.deleted(otherId));
+    }
+
+    @Test
+    void retireExpiredDataProducts_ShouldDeleteRows_WhenPurging() {
+        // Given
+        LocalDateTime expiredBy = LocalDateTime.of(2024, 1, 1, 12, 0);
+        when(dataProductRepository.lockExpiredIds(expiredBy, 100)).thenReturn(List.of(testId));
+
+        // When
+        int retired = dataProductService.retireExpiredDataProducts(expiredBy, 100, true);
+
+        // Then
+        assertEquals(1, retired);
+        verify(dataProductRepository).deleteByIdIn(List.of(testId));
+        verify(dataProductRepository, never()).softDeleteByIdIn(any(), any());
+        verify(eventPublisher).publishEvent(DataProductChangedEvent.deleted(testId));
     }
 }
\ No newline at end of file
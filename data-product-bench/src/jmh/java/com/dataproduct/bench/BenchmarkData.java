@@ -0,0 +1,62 @@
+package com.dataproduct.bench;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.generated.model.CreateDataProductRequest;
+import com.dataproduct.api.generated.model.SensitivityCategory;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Deterministic fixtures shaped like catalog rows: every optional field set, three tags.
+ */
+final class BenchmarkData {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private BenchmarkData() {
+    }
+
+    static DataProduct dataProduct(int i) {
+        DataProduct dataProduct = new DataProduct();
+        dataProduct.setId(new UUID(0, i));
+        dataProduct.setName("Benchmark Product " + i);
+        dataProduct.setDescription("Daily aggregate of wholesale transactions for benchmark product " + i);
+        dataProduct.setPortfolio("Portfolio " + (i % 50));
+        dataProduct.setSource("source-" + (i % 200));
+        dataProduct.setSensitivityCategory(DataProduct.SensitivityCategory.values()[i % 4]);
+        dataProduct.setDataFormat("PARQUET");
+        dataProduct.setOwner("owner" + (i % 1000) + "@company.com");
+        dataProduct.setTags(List.of("domain-" + (i % 40), "team-" + (i % 25), "core"));
+        dataProduct.setIsActive(true);
+        dataProduct.setRetentionPeriodDays(365);
+        dataProduct.setCreatedAt(CREATED_AT.plusSeconds(i));
+        dataProduct.setUpdatedAt(CREATED_AT.plusSeconds(i));
+        dataProduct.setVersion(0L);
+        return dataProduct;
+    }
+
+    static List<DataProduct> dataProducts(int count) {
+        List<DataProduct> dataProducts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            dataProducts.add(dataProduct(i));
+        }
+        return dataProducts;
+    }
+
+    static CreateDataProductRequest createRequest(int i) {
+        CreateDataProductRequest request = new CreateDataProductRequest();
+        request.setName("Benchmark Product " + i);
+        request.setDescription("Daily aggregate of wholesale transactions for benchmark product " + i);
+        request.setPortfolio("Portfolio " + (i % 50));
+        request.setSource("source-" + (i % 200));
+        request.setSensitivityCategory(SensitivityCategory.INTERNAL);
+        request.setDataFormat("PARQUET");
+        request.setOwner("owner" + (i % 1000) + "@company.com");
+        request.setTags(List.of("domain-" + (i % 40), "team-" + (i % 25), "core"));
+        request.setRetentionPeriodDays(365);
+        return request;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,88 @@
+package com.dataproduct.bench;
+
+import com.dataproduct.api.DataProductApiApplication;
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.service.DataProductBatchResult;
+import com.dataproduct.api.service.DataProductService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Creating data products one transaction at a time, as onboarding did through POST, against one
+ * createDataProducts call per 100, as the batch endpoint and the importer do. Scores are per data
+ * product. Runs on the H2 database of the API's test profile unless spring.datasource.url is set
+ * (-Pjmh.datasource.url=...), which benchmarks the migrated schema of that database instead.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+public class DataProductBatchCreateBenchmark {
+
+    private static final int ITEMS = 100;
+
+    private ConfigurableApplicationContext context;
+    private DataProductService dataProductService;
+    private long created;
+
+    @Setup
+    public void setUp() {
+        boolean external = System.getProperty("spring.datasource.url") != null;
+        context = new SpringApplicationBuilder(DataProductApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles(external ? "default" : "test")
+                // As arguments: default properties lose to the test profile, which logs every statement
+                .run("--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.dataproduct=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        dataProductService = context.getBean(DataProductService.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public void createOneByOne(Blackhole blackhole) {
+        for (DataProduct dataProduct : nextDataProducts()) {
+            blackhole.consume(dataProductService.createDataProduct(dataProduct));
+        }
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(ITEMS)
+    public List<DataProductBatchResult> createBatch() {
+        return dataProductService.createDataProducts(nextDataProducts(), false);
+    }
+
+    // Names are unique across iterations and both benchmarks, so every item is a CREATED insert
+    private List<DataProduct> nextDataProducts() {
+        List<DataProduct> dataProducts = new ArrayList<>(ITEMS);
+        for (int i = 0; i < ITEMS; i++) {
+            DataProduct dataProduct = BenchmarkData.dataProduct(i);
+            dataProduct.setId(null);
+            dataProduct.setVersion(null);
+            dataProduct.setName("Batch Benchmark " + System.nanoTime() + "-" + created++);
+            dataProducts.add(dataProduct);
+        }
+        return dataProducts;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,57 @@
+package com.dataproduct.bench;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.generated.model.CreateDataProductRequest;
+import com.dataproduct.api.generated.model.DataProductPageResponse;
+import com.dataproduct.api.generated.model.DataProductResponse;
+import com.dataproduct.api.mapper.DataProductMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataProductMapperBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int items;
+
+    private final DataProductMapper mapper = new DataProductMapper();
+
+    private DataProduct dataProduct;
+    private Page<DataProduct> page;
+    private CreateDataProductRequest createRequest;
+
+    @Setup
+    public void setUp() {
+        dataProduct = BenchmarkData.dataProduct(1);
+        page = new PageImpl<>(BenchmarkData.dataProducts(items), PageRequest.of(0, items), items * 10L);
+        createRequest = BenchmarkData.createRequest(1);
+    }
+
+    @Benchmark
+    public DataProductResponse toResponse() {
+        return mapper.toResponse(dataProduct);
+    }
+
+    @Benchmark
+    public DataProductPageResponse toPageResponse() {
+        return mapper.toPageResponse(page);
+    }
+
+    @Benchmark
+    public DataProduct toEntity() {
+        return mapper.toEntity(createRequest);
+    }
+}
\ No newline at end of file
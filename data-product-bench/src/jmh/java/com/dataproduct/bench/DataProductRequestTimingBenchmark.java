@@ -0,0 +1,134 @@
+package com.dataproduct.bench;
+
+import com.dataproduct.api.DataProductApiApplication;
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.mapper.DataProductListPage;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.api.mapper.DataProductPageJsonWriter;
+import com.dataproduct.api.metrics.RequestTimingFilter;
+import com.dataproduct.api.repository.DataProductFilter;
+import com.dataproduct.api.repository.DataProductRepository;
+import com.dataproduct.api.service.DataProductService;
+import com.dataproduct.api.service.DataProductTagFilter;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.mock.web.MockServletContext;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The cost of request timing on the request path, measured through RequestTimingFilter: the same
+ * service, Hibernate, mapping and JSON work, written to a mock response, with the filter in front
+ * (its response wrapper, Server-Timing header, summaries and slow-log check) or called directly.
+ * The difference between the timing=true and timing=false scores is the filter's cost; the README
+ * has recorded results and the fork and iteration counts they were taken with.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataProductRequestTimingBenchmark {
+
+    private static final int CATALOG_SIZE = 1000;
+
+    @Param({"false", "true"})
+    private boolean timing;
+
+    // Shared: MockHttpServletRequest would otherwise build a servlet context per request
+    private final MockServletContext servletContext = new MockServletContext();
+    private ConfigurableApplicationContext context;
+    private DataProductService dataProductService;
+    private DataProductMapper dataProductMapper;
+    private DataProductPageJsonWriter dataProductPageJsonWriter;
+    private ObjectMapper objectMapper;
+    private RequestTimingFilter requestTimingFilter;
+    private HandlerMethod getDataProductByIdHandler;
+    private HandlerMethod getAllDataProductsHandler;
+    private UUID dataProductId;
+
+    @Setup
+    public void setUp() throws NoSuchMethodException {
+        context = new SpringApplicationBuilder(DataProductApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // As arguments, so they override the test profile: SQL logging would dwarf the difference
+                .run("--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.dataproduct=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        dataProductService = context.getBean(DataProductService.class);
+        dataProductMapper = context.getBean(DataProductMapper.class);
+        dataProductPageJsonWriter = context.getBean(DataProductPageJsonWriter.class);
+        objectMapper = context.getBean(ObjectMapper.class);
+        requestTimingFilter = context.getBean(RequestTimingFilter.class);
+        // The filter tags its summaries with the handler method Spring MVC resolved
+        getDataProductByIdHandler = new HandlerMethod(this, getClass().getMethod("getDataProductById"));
+        getAllDataProductsHandler = new HandlerMethod(this, getClass().getMethod("getAllDataProductsFirstPage"));
+
+        List<DataProduct> catalog = BenchmarkData.dataProducts(CATALOG_SIZE);
+        catalog.forEach(dataProduct -> {
+            dataProduct.setId(null);
+            dataProduct.setVersion(null);
+        });
+        dataProductService.createDataProducts(catalog, false);
+        dataProductId = context.getBean(DataProductRepository.class)
+                .findByName("Benchmark Product " + CATALOG_SIZE / 2).orElseThrow().getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public MockHttpServletResponse getDataProductById() throws ServletException, IOException {
+        return handle(getDataProductByIdHandler, (request, response) -> objectMapper.writeValue(
+                response.getOutputStream(),
+                dataProductMapper.toResponse(dataProductService.getDataProductById(dataProductId))));
+    }
+
+    // As the list endpoint does: entities straight to JSON, without DataProductMapper
+    @Benchmark
+    public MockHttpServletResponse getAllDataProductsFirstPage() throws ServletException, IOException {
+        return handle(getAllDataProductsHandler, (request, response) -> {
+            Page<DataProduct> page = dataProductService.getAllDataProducts(
+                    DataProductFilter.NONE, DataProductTagFilter.NONE, PageRequest.of(0, 20));
+            dataProductPageJsonWriter.write(DataProductListPage.of(page), response.getOutputStream());
+        });
+    }
+
+    private MockHttpServletResponse handle(HandlerMethod handler, FilterChain chain)
+            throws ServletException, IOException {
+        MockHttpServletRequest request = new MockHttpServletRequest(servletContext, "GET", "/api/v1/data-products");
+        request.setAttribute(HandlerMapping.BEST_MATCHING_HANDLER_ATTRIBUTE, handler);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        if (timing) {
+            requestTimingFilter.doFilter(request, response, chain);
+        } else {
+            chain.doFilter(request, response);
+        }
+        return response;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,84 @@
+package com.dataproduct.bench;
+
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.generated.model.DataProductPageResponse;
+import com.dataproduct.api.mapper.DataProductListPage;
+import com.dataproduct.api.mapper.DataProductMapper;
+import com.dataproduct.api.mapper.DataProductPageJsonWriter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Serializes DataProductPageResponse with the ObjectMapper Spring Boot builds from the API's
+ * application.yml, so spring.jackson.* changes show up here. mapAndSerializePage and
+ * writePageDirect compare the two list paths end to end, from a page of entities to bytes.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataProductSerializationBenchmark {
+
+    @Param({"20", "100", "1000"})
+    private int items;
+
+    private ConfigurableApplicationContext context;
+    private ObjectMapper objectMapper;
+    private DataProductMapper dataProductMapper;
+    private DataProductPageJsonWriter dataProductPageJsonWriter;
+    private Page<DataProduct> page;
+    private DataProductPageResponse response;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(JacksonAutoConfiguration.class)
+                .web(WebApplicationType.NONE)
+                .properties("logging.level.root=WARN")
+                .run();
+        objectMapper = context.getBean(ObjectMapper.class);
+        dataProductMapper = new DataProductMapper();
+        dataProductPageJsonWriter = new DataProductPageJsonWriter(objectMapper);
+        page = new PageImpl<>(BenchmarkData.dataProducts(items), PageRequest.of(0, items), items * 10L);
+        response = dataProductMapper.toPageResponse(page);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public byte[] serializePageResponse() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(response);
+    }
+
+    // Both list paths write to the response stream rather than to a byte[], as Spring MVC does
+    @Benchmark
+    public void mapAndSerializePage() throws IOException {
+        objectMapper.writeValue(OutputStream.nullOutputStream(), dataProductMapper.toPageResponse(page));
+    }
+
+    @Benchmark
+    public void writePageDirect() throws IOException {
+        dataProductPageJsonWriter.write(DataProductListPage.of(page), OutputStream.nullOutputStream());
+    }
+}
\ No newline at end of file
@@ -0,0 +1,102 @@
+package com.dataproduct.bench;
+
+import com.dataproduct.api.DataProductApiApplication;
+import com.dataproduct.api.entity.DataProduct;
+import com.dataproduct.api.repository.DataProductFilter;
+import com.dataproduct.api.repository.DataProductRepository;
+import com.dataproduct.api.service.DataProductCursorPage;
+import com.dataproduct.api.service.DataProductService;
+import com.dataproduct.api.service.DataProductTagFilter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * DataProductService reads and updates through the full Spring, Hibernate and repository stack,
+ * against the in-memory H2 database of the API's test profile.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class DataProductServiceBenchmark {
+
+    private static final int CATALOG_SIZE = 1000;
+
+    private ConfigurableApplicationContext context;
+    private DataProductService dataProductService;
+    private UUID dataProductId;
+    private int updates;
+
+    @Setup
+    public void setUp() {
+        context = new SpringApplicationBuilder(DataProductApiApplication.class)
+                .web(WebApplicationType.NONE)
+                .profiles("test")
+                // As arguments: default properties lose to the test profile, which logs every statement
+                .run("--spring.jpa.show-sql=false",
+                        "--logging.level.root=WARN",
+                        "--logging.level.com.dataproduct=WARN",
+                        "--logging.level.org.hibernate.SQL=WARN",
+                        "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+        dataProductService = context.getBean(DataProductService.class);
+
+        List<DataProduct> catalog = BenchmarkData.dataProducts(CATALOG_SIZE);
+        catalog.forEach(dataProduct -> {
+            dataProduct.setId(null);
+            dataProduct.setVersion(null);
+        });
+        dataProductService.createDataProducts(catalog, false);
+        dataProductId = context.getBean(DataProductRepository.class)
+                .findByName("Benchmark Product " + CATALOG_SIZE / 2).orElseThrow().getId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public DataProduct getDataProductById() {
+        return dataProductService.getDataProductById(dataProductId);
+    }
+
+    @Benchmark
+    public Page<DataProduct> getAllDataProductsFirstPage() {
+        return dataProductService.getAllDataProducts(
+                DataProductFilter.NONE, DataProductTagFilter.NONE, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public Page<DataProduct> getAllDataProductsFilteredPage() {
+        return dataProductService.getAllDataProducts(
+                DataProductFilter.of("Portfolio 7", DataProduct.SensitivityCategory.RESTRICTED),
+                DataProductTagFilter.NONE, PageRequest.of(0, 20));
+    }
+
+    @Benchmark
+    public DataProductCursorPage<DataProduct> getDataProductsFirstCursorPage() {
+        return dataProductService.getDataProductsAfter(
+                DataProductFilter.NONE, DataProductTagFilter.NONE, null, 20);
+    }
+
+    @Benchmark
+    public DataProduct updateDataProduct() {
+        DataProduct update = new DataProduct();
+        update.setDescription("Benchmark update " + updates++);
+        return dataProductService.updateDataProduct(dataProductId, update);
+    }
+}
\ No newline at end of file
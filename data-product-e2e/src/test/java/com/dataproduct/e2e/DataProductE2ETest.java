@@ -63,7 +63,7 @@ class DataProductE2ETest {
     @Order(2)
     void shouldGetDataProductById() {
         // When
-        DataProductResponse response = dataProductsApi.getDataProductById(createdDataProductId.toString()).block();
+        DataProductResponse response = dataProductsApi.getDataProductById(createdDataProductId.toString(), null).block();
 
         // Then
         assertNotNull(response);
@@ -75,7 +75,8 @@ class DataProductE2ETest {
     @Order(3)
     void shouldGetAllDataProducts() {
         // When
-        DataProductPageResponse response = dataProductsApi.getAllDataProducts(0, 20, null, null).block();
+        DataProductPageResponse response = dataProductsApi.getAllDataProducts(
+                0, 20, null, null, null, null, null, null, null, null, null, null, null, null, null, null).block();
 
         // Then
         assertNotNull(response);
@@ -95,7 +96,7 @@ class DataProductE2ETest {
         request.setSensitivityCategory(SensitivityCategory.CONFIDENTIAL);
 
         // When
-        DataProductResponse response = dataProductsApi.updateDataProduct(createdDataProductId.toString(), request).block();
+        DataProductResponse response = dataProductsApi.updateDataProduct(createdDataProductId.toString(), request, null).block();
 
         // Then
         assertNotNull(response);
@@ -113,7 +114,7 @@ class DataProductE2ETest {
 
         // Verify deletion
         assertThrows(Exception.class, () -> {
-            dataProductsApi.getDataProductById(createdDataProductId.toString()).block();
+            dataProductsApi.getDataProductById(createdDataProductId.toString(), null).block();
         });
     }
 
@@ -130,7 +131,8 @@ class DataProductE2ETest {
         assertNotNull(created);
 
         // When
-        DataProductPageResponse response = dataProductsApi.getAllDataProducts(0, 20, "Specific Portfolio", null).block();
+        DataProductPageResponse response = dataProductsApi.getAllDataProducts(0, 20, "Specific Portfolio",
+                null, null, null, null, null, null, null, null, null, null, null, null, null).block();
 
         // Then
         assertNotNull(response);
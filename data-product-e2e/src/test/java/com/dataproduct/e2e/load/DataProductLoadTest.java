@@ -0,0 +1,93 @@
+package com.dataproduct.e2e.load;
+
+import com.dataproduct.api.DataProductApiApplication;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Executors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Mixed read/write load against the API, run by {@code ./gradlew :data-product-e2e:loadTest}.
+ * Without load.base.url the API is started in-process on a random port with its H2 test
+ * profile; point load.base.url at a running instance to test against PostgreSQL instead.
+ */
+@Tag("load")
+class DataProductLoadTest {
+
+    private static final LoadTestSettings SETTINGS = LoadTestSettings.load();
+
+    private static ConfigurableApplicationContext api;
+    private static DataProductWorkload workload;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        String baseUrl = SETTINGS.baseUrl();
+        if (baseUrl == null) {
+            api = new SpringApplicationBuilder(DataProductApiApplication.class)
+                    .web(WebApplicationType.SERVLET)
+                    .profiles("test")
+                    // Arguments, not builder properties: those are defaults the test profile overrides
+                    .run("--server.port=0",
+                            "--spring.jpa.show-sql=false",
+                            "--logging.level.com.dataproduct=WARN",
+                            "--logging.level.org.hibernate.SQL=WARN",
+                            "--logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN");
+            baseUrl = "http://localhost:" + ((WebServerApplicationContext) api).getWebServer().getPort();
+        }
+
+        HttpClient httpClient = HttpClient.newBuilder()
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .connectTimeout(Duration.ofSeconds(5))
+                .build();
+        workload = new DataProductWorkload(httpClient, baseUrl);
+        workload.seed(SETTINGS.seedSize());
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (api != null) {
+            api.close();
+        }
+    }
+
+    @Test
+    void mixedWorkload_ShouldStayWithinLatencyAndErrorBudgets() throws Exception {
+        assertWithinBudgets("mixed-workload", SETTINGS);
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "load.soak.duration", matches = ".+")
+    void soak_ShouldStayWithinLatencyAndErrorBudgets() throws Exception {
+        assertWithinBudgets("soak", SETTINGS.forSoak());
+    }
+
+    private static void assertWithinBudgets(String name, LoadTestSettings settings) throws Exception {
+        OpenLoopDriver driver = new OpenLoopDriver(workload, settings.mix(), settings.maxInFlight());
+        // Warmup results are discarded so JIT compilation and pool growth don't count against the budgets
+        driver.run(settings.ratePerSecond(), settings.warmup(), new LatencyStats());
+
+        LatencyStats stats = new LatencyStats();
+        long start = System.nanoTime();
+        driver.run(settings.ratePerSecond(), settings.duration(), stats);
+        Duration elapsed = Duration.ofNanos(System.nanoTime() - start);
+
+        LoadReport report = new LoadReport(name, settings, stats, elapsed);
+        report.print(System.out);
+        report.write();
+
+        List<String> violations = report.violations();
+        assertTrue(violations.isEmpty(), "Budgets exceeded: " + String.join("; ", violations));
+    }
+}
\ No newline at end of file
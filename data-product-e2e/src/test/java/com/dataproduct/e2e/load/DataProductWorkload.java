@@ -0,0 +1,158 @@
+package com.dataproduct.e2e.load;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The mixed read/write workload: each call issues one HTTP request for the given operation and
+ * reports whether it succeeded. Ids of data products created by the workload are kept in a pool
+ * that gets, updates and deletes draw from.
+ */
+final class DataProductWorkload {
+
+    private static final String[] PORTFOLIOS = {"Load Alpha", "Load Beta", "Load Gamma", "Load Delta"};
+    private static final String[] SENSITIVITY_CATEGORIES = {"PUBLIC", "INTERNAL", "CONFIDENTIAL", "RESTRICTED"};
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final HttpClient httpClient;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String baseUrl;
+    private final String runId = Long.toString(System.currentTimeMillis(), 36);
+    private final AtomicLong sequence = new AtomicLong();
+    private final IdPool ids = new IdPool();
+
+    DataProductWorkload(HttpClient httpClient, String baseUrl) {
+        this.httpClient = httpClient;
+        this.baseUrl = baseUrl;
+    }
+
+    void seed(int count) throws IOException, InterruptedException {
+        for (int i = 0; i < count; i++) {
+            if (!create()) {
+                throw new IllegalStateException("Seeding failed after " + i + " data products");
+            }
+        }
+    }
+
+    boolean execute(Operation operation) throws IOException, InterruptedException {
+        return switch (operation) {
+            case LIST -> list();
+            case GET -> get();
+            case CREATE -> create();
+            case UPDATE -> update();
+            case DELETE -> delete();
+        };
+    }
+
+    private boolean list() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String uri = "/api/v1/data-products?size=20&portfolio=" + PORTFOLIOS[random.nextInt(PORTFOLIOS.length)].replace(" ", "%20");
+        if (random.nextBoolean()) {
+            uri += "&sensitivityCategory=" + SENSITIVITY_CATEGORIES[random.nextInt(SENSITIVITY_CATEGORIES.length)];
+        }
+        return send(request(uri).GET().build()).statusCode() == 200;
+    }
+
+    private boolean get() throws IOException, InterruptedException {
+        String id = ids.random();
+        if (id == null) {
+            return list();
+        }
+        return send(request("/api/v1/data-products/" + id).GET().build()).statusCode() == 200;
+    }
+
+    private boolean create() throws IOException, InterruptedException {
+        long n = sequence.incrementAndGet();
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("name", "load-" + runId + "-" + n);
+        body.put("description", "Load test data product " + n);
+        body.put("portfolio", PORTFOLIOS[(int) (n % PORTFOLIOS.length)]);
+        body.put("source", "load-test");
+        body.put("sensitivityCategory", SENSITIVITY_CATEGORIES[(int) (n % SENSITIVITY_CATEGORIES.length)]);
+        body.put("dataFormat", "JSON");
+        body.put("owner", "load" + (n % 50) + "@company.com");
+        body.put("tags", List.of("load", "batch-" + (n % 10)));
+
+        HttpResponse<String> response = send(request("/api/v1/data-products")
+                .header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build());
+        if (response.statusCode() != 201) {
+            return false;
+        }
+        JsonNode created = objectMapper.readTree(response.body());
+        ids.add(created.get("id").asText());
+        return true;
+    }
+
+    private boolean update() throws IOException, InterruptedException {
+        String id = ids.random();
+        if (id == null) {
+            return create();
+        }
+        Map<String, Object> body = Map.of("description", "Updated by load test at " + System.nanoTime());
+        return send(request("/api/v1/data-products/" + id)
+                .header("Content-Type", "application/json")
+                .PUT(HttpRequest.BodyPublishers.ofString(json(body)))
+                .build()).statusCode() == 200;
+    }
+
+    private boolean delete() throws IOException, InterruptedException {
+        // Taken out of the pool first so concurrent gets and updates stop picking it
+        String id = ids.take();
+        if (id == null) {
+            return create();
+        }
+        return send(request("/api/v1/data-products/" + id).DELETE().build()).statusCode() == 204;
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUrl + path)).timeout(REQUEST_TIMEOUT);
+    }
+
+    private HttpResponse<String> send(HttpRequest request) throws IOException, InterruptedException {
+        return httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    private String json(Object body) throws JsonProcessingException {
+        return objectMapper.writeValueAsString(body);
+    }
+
+    private static final class IdPool {
+        private final List<String> ids = new ArrayList<>();
+
+        synchronized void add(String id) {
+            ids.add(id);
+        }
+
+        synchronized String random() {
+            return ids.isEmpty() ? null : ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+        }
+
+        // Swap-remove of a random entry keeps removal O(1)
+        synchronized String take() {
+            if (ids.isEmpty()) {
+                return null;
+            }
+            int index = ThreadLocalRandom.current().nextInt(ids.size());
+            String id = ids.get(index);
+            ids.set(index, ids.get(ids.size() - 1));
+            ids.remove(ids.size() - 1);
+            return id;
+        }
+    }
+}
\ No newline at end of file
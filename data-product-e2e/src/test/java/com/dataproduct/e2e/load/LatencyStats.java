@@ -0,0 +1,56 @@
+package com.dataproduct.e2e.load;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-operation latency histograms in microseconds, plus request and error counters. Latency is
+ * measured from the request's scheduled start, not from when it was actually sent, so a stalled
+ * server shows up in the percentiles instead of being hidden by fewer requests (coordinated
+ * omission).
+ */
+final class LatencyStats {
+
+    private static final long HIGHEST_TRACKABLE_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<Operation, Histogram> histograms = new EnumMap<>(Operation.class);
+    private final Map<Operation, LongAdder> errors = new EnumMap<>(Operation.class);
+
+    LatencyStats() {
+        for (Operation operation : Operation.values()) {
+            histograms.put(operation, new ConcurrentHistogram(HIGHEST_TRACKABLE_MICROS, 3));
+            errors.put(operation, new LongAdder());
+        }
+    }
+
+    void record(Operation operation, long latencyNanos, boolean success) {
+        long micros = Math.min(TimeUnit.NANOSECONDS.toMicros(latencyNanos), HIGHEST_TRACKABLE_MICROS);
+        histograms.get(operation).recordValue(micros);
+        if (!success) {
+            errors.get(operation).increment();
+        }
+    }
+
+    Histogram histogram(Operation operation) {
+        return histograms.get(operation);
+    }
+
+    long errors(Operation operation) {
+        return errors.get(operation).sum();
+    }
+
+    Histogram total() {
+        Histogram total = new Histogram(HIGHEST_TRACKABLE_MICROS, 3);
+        histograms.values().forEach(total::add);
+        return total;
+    }
+
+    long totalErrors() {
+        return errors.values().stream().mapToLong(LongAdder::sum).sum();
+    }
+}
\ No newline at end of file
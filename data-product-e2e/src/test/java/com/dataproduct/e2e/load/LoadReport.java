@@ -0,0 +1,119 @@
+package com.dataproduct.e2e.load;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.HdrHistogram.Histogram;
+
+import java.io.IOException;
+import java.io.PrintStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Summarizes a run: prints a table, writes JSON and HDR percentile distributions under
+ * build/reports/load, and lists every budget the run exceeded.
+ */
+final class LoadReport {
+
+    private static final Path REPORT_DIRECTORY = Path.of("build", "reports", "load");
+
+    private final String name;
+    private final LoadTestSettings settings;
+    private final LatencyStats stats;
+    private final Duration elapsed;
+
+    LoadReport(String name, LoadTestSettings settings, LatencyStats stats, Duration elapsed) {
+        this.name = name;
+        this.settings = settings;
+        this.stats = stats;
+        this.elapsed = elapsed;
+    }
+
+    void print(PrintStream out) {
+        out.printf("%n%s: %.0f req/s target for %s%n", name, settings.ratePerSecond(), settings.duration());
+        out.printf("%-8s %9s %9s %9s %9s %9s %9s %9s %8s%n",
+                "op", "count", "req/s", "p50 ms", "p95 ms", "p99 ms", "max ms", "errors", "err %");
+        for (Operation operation : Operation.values()) {
+            printRow(out, operation.name(), stats.histogram(operation), stats.errors(operation));
+        }
+        printRow(out, "TOTAL", stats.total(), stats.totalErrors());
+    }
+
+    void write() throws IOException {
+        Files.createDirectories(REPORT_DIRECTORY);
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("name", name);
+        summary.put("targetRatePerSecond", settings.ratePerSecond());
+        summary.put("elapsedSeconds", elapsed.toMillis() / 1000.0);
+        Map<String, Object> operations = new LinkedHashMap<>();
+        for (Operation operation : Operation.values()) {
+            operations.put(operation.name(), summary(stats.histogram(operation), stats.errors(operation)));
+        }
+        operations.put("TOTAL", summary(stats.total(), stats.totalErrors()));
+        summary.put("operations", operations);
+        summary.put("budgetViolations", violations());
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT)
+                .writeValue(REPORT_DIRECTORY.resolve(name + ".json").toFile(), summary);
+
+        try (PrintStream out = new PrintStream(REPORT_DIRECTORY.resolve(name + ".hgrm").toFile())) {
+            for (Operation operation : Operation.values()) {
+                out.println("# " + operation + " (ms)");
+                stats.histogram(operation).outputPercentileDistribution(out, 1000.0);
+            }
+        }
+    }
+
+    List<String> violations() {
+        List<String> violations = new ArrayList<>();
+        for (Operation operation : Operation.values()) {
+            Histogram histogram = stats.histogram(operation);
+            if (histogram.getTotalCount() == 0) {
+                continue;
+            }
+            double p99Millis = histogram.getValueAtPercentile(99.0) / 1000.0;
+            if (p99Millis > settings.p99BudgetMillis(operation)) {
+                violations.add(String.format("%s p99 %.1f ms exceeds budget of %d ms",
+                        operation, p99Millis, settings.p99BudgetMillis(operation)));
+            }
+        }
+        long count = stats.total().getTotalCount();
+        double errorRate = count == 0 ? 0 : (double) stats.totalErrors() / count;
+        if (errorRate > settings.maxErrorRate()) {
+            violations.add(String.format("error rate %.2f%% exceeds budget of %.2f%%",
+                    errorRate * 100, settings.maxErrorRate() * 100));
+        }
+        return violations;
+    }
+
+    private void printRow(PrintStream out, String label, Histogram histogram, long errors) {
+        long count = histogram.getTotalCount();
+        out.printf("%-8s %9d %9.1f %9.1f %9.1f %9.1f %9.1f %9d %7.2f%%%n", label, count,
+                count / seconds(), millis(histogram, 50), millis(histogram, 95), millis(histogram, 99),
+                histogram.getMaxValue() / 1000.0, errors, count == 0 ? 0.0 : 100.0 * errors / count);
+    }
+
+    private Map<String, Object> summary(Histogram histogram, long errors) {
+        Map<String, Object> summary = new LinkedHashMap<>();
+        summary.put("count", histogram.getTotalCount());
+        summary.put("throughputPerSecond", histogram.getTotalCount() / seconds());
+        summary.put("p50Ms", millis(histogram, 50));
+        summary.put("p95Ms", millis(histogram, 95));
+        summary.put("p99Ms", millis(histogram, 99));
+        summary.put("maxMs", histogram.getMaxValue() / 1000.0);
+        summary.put("errors", errors);
+        return summary;
+    }
+
+    private double seconds() {
+        return Math.max(elapsed.toMillis(), 1) / 1000.0;
+    }
+
+    private static double millis(Histogram histogram, double percentile) {
+        return histogram.getValueAtPercentile(percentile) / 1000.0;
+    }
+}
\ No newline at end of file
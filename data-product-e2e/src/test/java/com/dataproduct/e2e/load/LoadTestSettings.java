@@ -0,0 +1,62 @@
+package com.dataproduct.e2e.load;
+
+import java.time.Duration;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Load test knobs, read from load.* system properties so they can be set from the Gradle command
+ * line, e.g. {@code ./gradlew :data-product-e2e:loadTest -Pload.rate=500 -Pload.duration=PT2M}.
+ */
+record LoadTestSettings(
+        String baseUrl,
+        double ratePerSecond,
+        Duration warmup,
+        Duration duration,
+        int maxInFlight,
+        int seedSize,
+        Map<Operation, Integer> mix,
+        long readP99BudgetMillis,
+        long writeP99BudgetMillis,
+        double maxErrorRate) {
+
+    static LoadTestSettings load() {
+        Map<Operation, Integer> mix = new EnumMap<>(Operation.class);
+        mix.put(Operation.LIST, intProperty("load.mix.list", 45));
+        mix.put(Operation.GET, intProperty("load.mix.get", 35));
+        mix.put(Operation.CREATE, intProperty("load.mix.create", 10));
+        mix.put(Operation.UPDATE, intProperty("load.mix.update", 7));
+        mix.put(Operation.DELETE, intProperty("load.mix.delete", 3));
+
+        return new LoadTestSettings(
+                System.getProperty("load.base.url"),
+                Double.parseDouble(System.getProperty("load.rate", "200")),
+                Duration.parse(System.getProperty("load.warmup", "PT10S")),
+                Duration.parse(System.getProperty("load.duration", "PT30S")),
+                intProperty("load.max-in-flight", 512),
+                intProperty("load.seed-size", 200),
+                mix,
+                Long.parseLong(System.getProperty("load.budget.read.p99-ms", "250")),
+                Long.parseLong(System.getProperty("load.budget.write.p99-ms", "500")),
+                Double.parseDouble(System.getProperty("load.budget.max-error-rate", "0.01")));
+    }
+
+    /**
+     * Same workload at a lower rate for a longer time; only runs when load.soak.duration is set.
+     */
+    LoadTestSettings forSoak() {
+        return new LoadTestSettings(baseUrl,
+                Double.parseDouble(System.getProperty("load.soak.rate", String.valueOf(ratePerSecond / 2))),
+                warmup,
+                Duration.parse(System.getProperty("load.soak.duration")),
+                maxInFlight, seedSize, mix, readP99BudgetMillis, writeP99BudgetMillis, maxErrorRate);
+    }
+
+    long p99BudgetMillis(Operation operation) {
+        return operation.isWrite() ? writeP99BudgetMillis : readP99BudgetMillis;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        return Integer.parseInt(System.getProperty(name, String.valueOf(defaultValue)));
+    }
+}
\ No newline at end of file
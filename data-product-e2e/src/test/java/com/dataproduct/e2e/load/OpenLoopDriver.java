@@ -0,0 +1,67 @@
+package com.dataproduct.e2e.load;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Stream;
+
+/**
+ * Starts requests at a constant arrival rate regardless of how fast the server answers (an open
+ * workload model), each on its own virtual thread. When maxInFlight requests are outstanding a new
+ * arrival is not sent and counts as an error with its full intended latency still recorded.
+ */
+final class OpenLoopDriver {
+
+    private final DataProductWorkload workload;
+    private final Operation[] schedule;
+    private final int maxInFlight;
+
+    OpenLoopDriver(DataProductWorkload workload, Map<Operation, Integer> mix, int maxInFlight) {
+        this.workload = workload;
+        this.schedule = weighted(mix);
+        this.maxInFlight = maxInFlight;
+    }
+
+    void run(double ratePerSecond, Duration duration, LatencyStats stats) throws InterruptedException {
+        long intervalNanos = (long) (1_000_000_000L / ratePerSecond);
+        long total = (long) (ratePerSecond * duration.toNanos() / 1_000_000_000L);
+        Semaphore inFlight = new Semaphore(maxInFlight);
+        long start = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long i = 0; i < total; i++) {
+                long intendedStart = start + i * intervalNanos;
+                long wait = intendedStart - System.nanoTime();
+                if (wait > 0) {
+                    LockSupport.parkNanos(wait);
+                }
+                Operation operation = schedule[ThreadLocalRandom.current().nextInt(schedule.length)];
+                if (!inFlight.tryAcquire()) {
+                    stats.record(operation, System.nanoTime() - intendedStart, false);
+                    continue;
+                }
+                executor.execute(() -> {
+                    boolean success;
+                    try {
+                        success = workload.execute(operation);
+                    } catch (Exception e) {
+                        success = false;
+                    } finally {
+                        inFlight.release();
+                    }
+                    stats.record(operation, System.nanoTime() - intendedStart, success);
+                });
+            }
+        }
+    }
+
+    private static Operation[] weighted(Map<Operation, Integer> mix) {
+        return mix.entrySet().stream()
+                .flatMap(entry -> Stream.generate(entry::getKey).limit(entry.getValue()))
+                .toArray(Operation[]::new);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,19 @@
+package com.dataproduct.e2e.load;
+
+enum Operation {
+    LIST(false),
+    GET(false),
+    CREATE(true),
+    UPDATE(true),
+    DELETE(true);
+
+    private final boolean write;
+
+    Operation(boolean write) {
+        this.write = write;
+    }
+
+    boolean isWrite() {
+        return write;
+    }
+}
\ No newline at end of file
@@ -0,0 +1,78 @@
+#!/usr/bin/env bash
+# Servlet vs reactive comparison: drives GET /api/v1/data-products on data-product-api (Tomcat +
+# JPA) and on data-product-reactive-api (Netty + R2DBC) at increasing concurrency and reports
+# requests/sec, p99 latency, and resident memory and thread count under load. Memory per
+# connection is (RSS under load - idle RSS) / concurrent connections.
+#
+# Both applications read the same PostgreSQL database, migrated by data-product-api. Requires
+# `hey` (https://github.com/rakyll/hey) and curl; Linux only (reads /proc). Usage:
+#   ./gradlew :data-product-api:bootJar :data-product-reactive-api:bootJar
+#   data-product-reactive-api/benchmark/compare-stacks.sh
+# Pass SERVLET_ARGS=--spring.threads.virtual.enabled=true to compare against virtual threads.
+
+set -euo pipefail
+
+SERVLET_JAR=${SERVLET_JAR:-data-product-api/build/libs/data-product-api-1.0.0.jar}
+REACTIVE_JAR=${REACTIVE_JAR:-data-product-reactive-api/build/libs/data-product-reactive-api-1.0.0.jar}
+SERVLET_ARGS=${SERVLET_ARGS:-}
+CONCURRENCY=${CONCURRENCY:-"100 1000 5000"}
+DURATION=${DURATION:-30s}
+JAVA_OPTS=${JAVA_OPTS:--Xms512m -Xmx512m}
+OUT=${OUT:-build/compare-stacks}
+QUERY="api/v1/data-products?limit=20"
+
+mkdir -p "$OUT"
+
+start_app() {
+    local name=$1 jar=$2 port=$3; shift 3
+    # shellcheck disable=SC2086
+    java $JAVA_OPTS -jar "$jar" --server.port="$port" --logging.level.com.dataproduct=INFO \
+        --logging.level.org.hibernate.SQL=WARN --logging.level.org.hibernate.type.descriptor.sql.BasicBinder=WARN \
+        "$@" > "$OUT/$name.log" 2>&1 &
+    APP_PID=$!
+    until curl -sf "http://localhost:$port/actuator/health" > /dev/null; do sleep 1; done
+    # Warm up JIT and connection pools before measuring
+    hey -c 50 -z 10s "http://localhost:$port/$QUERY" > /dev/null
+}
+
+rss_kb() {
+    awk '/VmRSS/ { print $2 }' "/proc/$1/status"
+}
+
+threads() {
+    awk '/Threads/ { print $2 }' "/proc/$1/status"
+}
+
+measure() {
+    local name=$1 port=$2
+    local idle_rss
+    idle_rss=$(rss_kb "$APP_PID")
+    for clients in $CONCURRENCY; do
+        hey -c "$clients" -z "$DURATION" "http://localhost:$port/$QUERY" > "$OUT/$name-$clients.txt" &
+        local load_pid=$!
+        # Sample halfway through the run, once every client holds a connection
+        sleep $(( ${DURATION%s} / 2 ))
+        local load_rss load_threads
+        load_rss=$(rss_kb "$APP_PID")
+        load_threads=$(threads "$APP_PID")
+        wait "$load_pid"
+        local rps p99 errors
+        rps=$(awk '/Requests\/sec/ { print $2 }' "$OUT/$name-$clients.txt")
+        p99=$(awk '/99% in/ { print $3 }' "$OUT/$name-$clients.txt")
+        errors=$(awk '/^  \[[0-9]+\]/ && $1 != "[200]" { sum += $2 } END { print sum + 0 }' "$OUT/$name-$clients.txt")
+        printf '%-9s %7s %10s %10s %8s %12s %10s %14s\n' "$name" "$clients" "$rps" "$p99" "$errors" \
+            "$((load_rss / 1024))" "$load_threads" "$(( (load_rss - idle_rss) / clients ))"
+    done
+}
+
+printf '%-9s %7s %10s %10s %8s %12s %10s %14s\n' stack clients req/s p99_s non200 rss_mb threads kb_per_conn
+
+start_app servlet "$SERVLET_JAR" 8080 $SERVLET_ARGS
+measure servlet 8080
+kill "$APP_PID"; wait "$APP_PID" || true
+
+start_app reactive "$REACTIVE_JAR" 8081
+measure reactive 8081
+kill "$APP_PID"; wait "$APP_PID" || true
+
+echo "Raw hey output and application logs are in $OUT"
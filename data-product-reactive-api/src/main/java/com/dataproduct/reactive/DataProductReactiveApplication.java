@@ -0,0 +1,12 @@
+package com.dataproduct.reactive;
+
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.SpringBootApplication;
+
+@SpringBootApplication
+public class DataProductReactiveApplication {
+
+    public static void main(String[] args) {
+        SpringApplication.run(DataProductReactiveApplication.class, args);
+    }
+}
\ No newline at end of file
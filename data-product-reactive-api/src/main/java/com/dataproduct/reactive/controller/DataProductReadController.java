@@ -0,0 +1,147 @@
+package com.dataproduct.reactive.controller;
+
+import com.dataproduct.commons.exception.DataProductNotFoundException;
+import com.dataproduct.commons.exception.InvalidRequestException;
+import com.dataproduct.reactive.generated.DataProductsApi;
+import com.dataproduct.reactive.generated.model.DataProductPageResponse;
+import com.dataproduct.reactive.generated.model.DataProductResponse;
+import com.dataproduct.reactive.generated.model.SensitivityCategory;
+import com.dataproduct.reactive.generated.model.TagMatch;
+import com.dataproduct.reactive.mapper.DataProductResponseMapper;
+import com.dataproduct.reactive.repository.DataProductCursor;
+import com.dataproduct.reactive.repository.DataProductFilter;
+import com.dataproduct.reactive.repository.DataProductOrder;
+import com.dataproduct.reactive.repository.DataProductReadRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.server.ServerWebExchange;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.time.OffsetDateTime;
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Read endpoints of the data product contract on WebFlux. Write endpoints are served by
+ * data-product-api only; here they keep the generated 501 Not Implemented defaults.
+ */
+@RestController
+public class DataProductReadController implements DataProductsApi {
+
+    private final DataProductReadRepository dataProductReadRepository;
+    private final DataProductResponseMapper dataProductResponseMapper;
+
+    @Autowired
+    public DataProductReadController(DataProductReadRepository dataProductReadRepository,
+                                     DataProductResponseMapper dataProductResponseMapper) {
+        this.dataProductReadRepository = dataProductReadRepository;
+        this.dataProductResponseMapper = dataProductResponseMapper;
+    }
+
+    @Override
+    public Mono<ResponseEntity<DataProductPageResponse>> getAllDataProducts(
+            Integer page, Integer size, String portfolio, SensitivityCategory sensitivityCategory,
+            String after, Integer limit, List<String> tags, TagMatch tagMatch, List<String> fields, String sort,
+            String owner, String source, String dataFormat, Boolean isActive, OffsetDateTime createdFrom,
+            OffsetDateTime createdTo, ServerWebExchange exchange) {
+
+        // fields is not applied here: full items are a superset of any sparse fieldset
+        DataProductFilter filter = filter(portfolio, sensitivityCategory, owner, source, dataFormat, isActive,
+                createdFrom, createdTo, tags, tagMatch);
+        DataProductOrder order = DataProductOrder.fromParameter(sort);
+
+        // Cursor mode: keyset seek on (createdAt, id), no OFFSET and no COUNT query
+        if (after != null || limit != null) {
+            if (order != DataProductOrder.CREATED_AT) {
+                throw new InvalidRequestException("Cursor pages are ordered by createdAt; sort=" + sort
+                        + " needs page and size");
+            }
+            DataProductCursor cursor = after != null ? DataProductCursor.decode(after) : null;
+            int pageSize = limit != null ? limit : 20;
+            // A page after a cursor is still the first when nothing matching is left before the cursor
+            Mono<Boolean> first = cursor == null ? Mono.just(true)
+                    : dataProductReadRepository.existsAtOrBefore(filter, cursor).map(exists -> !exists);
+            return Mono.zip(dataProductReadRepository.findAfter(filter, cursor, pageSize + 1).collectList(), first)
+                    .map(result -> ResponseEntity.ok(dataProductResponseMapper.toCursorPageResponse(
+                            result.getT1(), pageSize, result.getT2())));
+        }
+
+        int pageNumber = page != null ? page : 0;
+        int pageSize = size != null ? size : 20;
+        return Mono.zip(
+                        dataProductReadRepository.findPage(filter, order, (long) pageNumber * pageSize, pageSize)
+                                .collectList(),
+                        dataProductReadRepository.count(filter))
+                .map(result -> ResponseEntity.ok(dataProductResponseMapper.toPageResponse(
+                        result.getT1(), pageNumber, pageSize, result.getT2())));
+    }
+
+    /**
+     * Streaming variant of the list endpoint, selected with Accept: application/x-ndjson. Emits
+     * one JSON document per line as rows arrive from the database, in (createdAt, id) order.
+     */
+    @GetMapping(value = "/api/v1/data-products", produces = MediaType.APPLICATION_NDJSON_VALUE)
+    public Flux<DataProductResponse> streamDataProducts(
+            @RequestParam(value = "portfolio", required = false) String portfolio,
+            @RequestParam(value = "sensitivityCategory", required = false) SensitivityCategory sensitivityCategory,
+            @RequestParam(value = "tags", required = false) List<String> tags,
+            @RequestParam(value = "tagMatch", required = false) TagMatch tagMatch,
+            @RequestParam(value = "owner", required = false) String owner,
+            @RequestParam(value = "source", required = false) String source,
+            @RequestParam(value = "dataFormat", required = false) String dataFormat,
+            @RequestParam(value = "isActive", required = false) Boolean isActive,
+            @RequestParam(value = "createdFrom", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdFrom,
+            @RequestParam(value = "createdTo", required = false)
+            @DateTimeFormat(iso = DateTimeFormat.ISO.DATE_TIME) OffsetDateTime createdTo) {
+        return dataProductReadRepository.stream(filter(portfolio, sensitivityCategory, owner, source, dataFormat,
+                        isActive, createdFrom, createdTo, tags, tagMatch))
+                .map(dataProductResponseMapper::toResponse);
+    }
+
+    @Override
+    public Mono<ResponseEntity<DataProductResponse>> getDataProductById(
+            String id, String ifNoneMatch, ServerWebExchange exchange) {
+        UUID uuid = UUID.fromString(id);
+
+        return dataProductReadRepository.findById(uuid)
+                .switchIfEmpty(Mono.error(() -> new DataProductNotFoundException("Data product not found with id: " + id)))
+                .map(row -> {
+                    String eTag = EntityTags.of(row.version());
+                    if (ifNoneMatch != null && !EntityTags.noneMatchSatisfied(ifNoneMatch, row.version())) {
+                        return ResponseEntity.status(HttpStatus.NOT_MODIFIED)
+                                .eTag(eTag)
+                                .cacheControl(CacheControl.noCache())
+                                .build();
+                    }
+                    return ResponseEntity.ok()
+                            .eTag(eTag)
+                            .cacheControl(CacheControl.noCache())
+                            .body(dataProductResponseMapper.toResponse(row));
+                });
+    }
+
+    private static DataProductFilter filter(String portfolio, SensitivityCategory sensitivityCategory, String owner,
+                                            String source, String dataFormat, Boolean isActive,
+                                            OffsetDateTime createdFrom, OffsetDateTime createdTo,
+                                            List<String> tags, TagMatch tagMatch) {
+        return new DataProductFilter(portfolio, sensitivityCategory != null ? sensitivityCategory.name() : null,
+                owner, source, dataFormat, isActive, toUtc(createdFrom), toUtc(createdTo), tags,
+                tagMatch == TagMatch.ALL);
+    }
+
+    // created_at holds UTC local date-times, as written by data-product-api
+    private static LocalDateTime toUtc(OffsetDateTime value) {
+        return value != null ? value.withOffsetSameInstant(ZoneOffset.UTC).toLocalDateTime() : null;
+    }
+}
\ No newline at end of file
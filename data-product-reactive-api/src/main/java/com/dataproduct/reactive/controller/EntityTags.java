@@ -0,0 +1,35 @@
+package com.dataproduct.reactive.controller;
+
+/**
+ * Strong entity tags derived from the data product version, e.g. {@code "3"}, matching the
+ * ETags data-product-api issues.
+ */
+final class EntityTags {
+
+    private static final String ANY = "*";
+    private static final String WEAK_PREFIX = "W/";
+
+    private EntityTags() {
+    }
+
+    static String of(long version) {
+        return "\"" + version + "\"";
+    }
+
+    /**
+     * If-None-Match uses weak comparison, so both {@code "3"} and {@code W/"3"} match version 3.
+     */
+    static boolean noneMatchSatisfied(String ifNoneMatch, long version) {
+        String current = of(version);
+        for (String tag : ifNoneMatch.split(",")) {
+            String candidate = tag.trim();
+            if (candidate.startsWith(WEAK_PREFIX)) {
+                candidate = candidate.substring(WEAK_PREFIX.length());
+            }
+            if (candidate.equals(ANY) || candidate.equals(current)) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
\ No newline at end of file
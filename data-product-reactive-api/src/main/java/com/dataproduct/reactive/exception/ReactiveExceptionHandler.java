@@ -0,0 +1,59 @@
+package com.dataproduct.reactive.exception;
+
+import com.dataproduct.commons.exception.DataProductNotFoundException;
+import com.dataproduct.commons.exception.GlobalExceptionHandler.ErrorResponse;
+import com.dataproduct.commons.exception.InvalidRequestException;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.server.reactive.ServerHttpRequest;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.server.ServerWebInputException;
+
+import java.time.LocalDateTime;
+
+/**
+ * WebFlux counterpart of the commons GlobalExceptionHandler: same exceptions, same ErrorResponse
+ * body, so clients see identical errors from either deployment.
+ */
+@RestControllerAdvice
+public class ReactiveExceptionHandler {
+
+    @ExceptionHandler(DataProductNotFoundException.class)
+    public ResponseEntity<ErrorResponse> handleDataProductNotFound(
+            DataProductNotFoundException ex, ServerHttpRequest request) {
+        return error(HttpStatus.NOT_FOUND, ex.getMessage(), null, request);
+    }
+
+    @ExceptionHandler(InvalidRequestException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidRequest(
+            InvalidRequestException ex, ServerHttpRequest request) {
+        return error(HttpStatus.BAD_REQUEST, ex.getMessage(), null, request);
+    }
+
+    // Binding and validation failures (WebExchangeBindException is a ServerWebInputException)
+    @ExceptionHandler(ServerWebInputException.class)
+    public ResponseEntity<ErrorResponse> handleInvalidInput(
+            ServerWebInputException ex, ServerHttpRequest request) {
+        return error(HttpStatus.BAD_REQUEST, "Validation failed", ex.getReason(), request);
+    }
+
+    @ExceptionHandler(ResponseStatusException.class)
+    public ResponseEntity<ErrorResponse> handleResponseStatus(
+            ResponseStatusException ex, ServerHttpRequest request) {
+        return error(ex.getStatusCode(), ex.getReason(), null, request);
+    }
+
+    @ExceptionHandler(Exception.class)
+    public ResponseEntity<ErrorResponse> handleGlobalException(Exception ex, ServerHttpRequest request) {
+        return error(HttpStatus.INTERNAL_SERVER_ERROR, "Internal server error", ex.getMessage(), request);
+    }
+
+    private static ResponseEntity<ErrorResponse> error(HttpStatusCode status, String message, String details,
+                                                       ServerHttpRequest request) {
+        ErrorResponse error = new ErrorResponse(message, details, LocalDateTime.now(), request.getPath().value());
+        return new ResponseEntity<>(error, status);
+    }
+}
\ No newline at end of file
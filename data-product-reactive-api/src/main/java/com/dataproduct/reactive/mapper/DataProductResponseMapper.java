@@ -0,0 +1,66 @@
+package com.dataproduct.reactive.mapper;
+
+import com.dataproduct.reactive.generated.model.DataProductPageResponse;
+import com.dataproduct.reactive.generated.model.DataProductResponse;
+import com.dataproduct.reactive.generated.model.SensitivityCategory;
+import com.dataproduct.reactive.repository.DataProductCursor;
+import com.dataproduct.reactive.repository.DataProductRow;
+import org.springframework.stereotype.Component;
+
+import java.time.ZoneOffset;
+import java.util.List;
+import java.util.stream.Collectors;
+
+@Component
+public class DataProductResponseMapper {
+
+    public DataProductResponse toResponse(DataProductRow row) {
+        DataProductResponse response = new DataProductResponse();
+        response.setId(row.id().toString());
+        response.setName(row.name());
+        response.setDescription(row.description());
+        response.setPortfolio(row.portfolio());
+        response.setSource(row.source());
+        response.setSensitivityCategory(SensitivityCategory.valueOf(row.sensitivityCategory()));
+        response.setDataFormat(row.dataFormat());
+        response.setOwner(row.owner());
+        response.setTags(row.tags());
+        response.setIsActive(row.isActive());
+        response.setRetentionPeriodDays(row.retentionPeriodDays());
+        response.setCreatedAt(row.createdAt().atOffset(ZoneOffset.UTC));
+        response.setUpdatedAt(row.updatedAt().atOffset(ZoneOffset.UTC));
+        return response;
+    }
+
+    public DataProductPageResponse toPageResponse(List<DataProductRow> rows, int page, int size, long totalElements) {
+        int totalPages = (int) ((totalElements + size - 1) / size);
+
+        DataProductPageResponse response = new DataProductPageResponse();
+        response.setContent(rows.stream().map(this::toResponse).collect(Collectors.toList()));
+        response.setPage(page);
+        response.setSize(size);
+        response.setTotalElements((int) totalElements);
+        response.setTotalPages(totalPages);
+        response.setFirst(page == 0);
+        response.setLast(page + 1 >= totalPages);
+        return response;
+    }
+
+    /**
+     * rows holds up to limit + 1 entries; the extra one only signals that another page exists.
+     */
+    public DataProductPageResponse toCursorPageResponse(List<DataProductRow> rows, int limit, boolean first) {
+        boolean hasNext = rows.size() > limit;
+        List<DataProductRow> content = hasNext ? rows.subList(0, limit) : rows;
+
+        DataProductPageResponse response = new DataProductPageResponse();
+        response.setContent(content.stream().map(this::toResponse).collect(Collectors.toList()));
+        response.setSize(limit);
+        response.setFirst(first);
+        response.setLast(!hasNext);
+        if (hasNext) {
+            response.setNextCursor(DataProductCursor.of(content.get(content.size() - 1)).encode());
+        }
+        return response;
+    }
+}
\ No newline at end of file
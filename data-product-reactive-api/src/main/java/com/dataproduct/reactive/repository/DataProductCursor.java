@@ -0,0 +1,42 @@
+package com.dataproduct.reactive.repository;
+
+import com.dataproduct.commons.exception.InvalidRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+/**
+ * Keyset position in the (createdAt, id) ordering used by cursor pagination. Encoded the same
+ * way as data-product-api's cursor, so a client can continue a listing on either deployment.
+ */
+public record DataProductCursor(LocalDateTime createdAt, UUID id) {
+
+    private static final char SEPARATOR = '|';
+
+    public static DataProductCursor of(DataProductRow row) {
+        return new DataProductCursor(row.createdAt(), row.id());
+    }
+
+    public static DataProductCursor decode(String cursor) {
+        try {
+            String decoded = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            int separator = decoded.indexOf(SEPARATOR);
+            if (separator < 0) {
+                throw new InvalidRequestException("Invalid cursor: " + cursor);
+            }
+            return new DataProductCursor(
+                    LocalDateTime.parse(decoded.substring(0, separator)),
+                    UUID.fromString(decoded.substring(separator + 1)));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new InvalidRequestException("Invalid cursor: " + cursor, e);
+        }
+    }
+
+    public String encode() {
+        String raw = createdAt.toString() + SEPARATOR + id;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,17 @@
+package com.dataproduct.reactive.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Optional list filters; null fields and an empty tag list are not applied. createdFrom is
+ * inclusive, createdTo exclusive.
+ */
+public record DataProductFilter(String portfolio, String sensitivityCategory, String owner, String source,
+                                String dataFormat, Boolean isActive, LocalDateTime createdFrom,
+                                LocalDateTime createdTo, List<String> tags, boolean matchAllTags) {
+
+    public DataProductFilter {
+        tags = tags != null ? List.copyOf(tags) : List.of();
+    }
+}
\ No newline at end of file
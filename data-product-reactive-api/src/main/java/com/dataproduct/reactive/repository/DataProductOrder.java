@@ -0,0 +1,43 @@
+package com.dataproduct.reactive.repository;
+
+import com.dataproduct.commons.exception.InvalidRequestException;
+
+/**
+ * Page orderings accepted by the list endpoint. The same whitelist as data-product-api's
+ * DataProductSort: each ordering is served by an index for every portfolio and sensitivity
+ * category filter combination (V8 migration there).
+ */
+public enum DataProductOrder {
+
+    CREATED_AT("createdAt", "created_at, id"),
+    CREATED_AT_DESC("-createdAt", "created_at DESC, id DESC"),
+    NAME("name", "name"),
+    NAME_DESC("-name", "name DESC");
+
+    private final String parameter;
+    private final String orderBy;
+
+    DataProductOrder(String parameter, String orderBy) {
+        this.parameter = parameter;
+        this.orderBy = orderBy;
+    }
+
+    public String orderBy() {
+        return orderBy;
+    }
+
+    /**
+     * Resolves a sort parameter; null means creation order.
+     */
+    public static DataProductOrder fromParameter(String parameter) {
+        if (parameter == null) {
+            return CREATED_AT;
+        }
+        for (DataProductOrder order : values()) {
+            if (order.parameter.equals(parameter)) {
+                return order;
+            }
+        }
+        throw new InvalidRequestException("Unsupported sort: " + parameter);
+    }
+}
\ No newline at end of file
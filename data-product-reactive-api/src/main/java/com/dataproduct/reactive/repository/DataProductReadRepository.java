@@ -0,0 +1,184 @@
+package com.dataproduct.reactive.repository;
+
+import io.r2dbc.spi.Readable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.stereotype.Repository;
+import reactor.core.publisher.Flux;
+import reactor.core.publisher.Mono;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Read-only queries against the data_products table owned by data-product-api. SQL is built
+ * from the filters actually supplied, like data-product-api's DataProductFilterRepositoryImpl,
+ * and tag filters use the same array operators so the GIN index on tags applies.
+ */
+@Repository
+public class DataProductReadRepository {
+
+    // Rows requested from the server per round trip while streaming
+    static final int STREAM_FETCH_SIZE = 500;
+
+    private static final String COLUMNS = "id, name, description, portfolio, source, sensitivity_category, "
+            + "data_format, owner, tags, is_active, retention_period_days, created_at, updated_at, version";
+    private static final String ORDER_BY_KEYSET = " ORDER BY created_at, id";
+
+    private final DatabaseClient databaseClient;
+
+    @Autowired
+    public DataProductReadRepository(DatabaseClient databaseClient) {
+        this.databaseClient = databaseClient;
+    }
+
+    public Mono<DataProductRow> findById(UUID id) {
+        return databaseClient.sql("SELECT " + COLUMNS + " FROM data_products WHERE id = :id AND deleted_at IS NULL")
+                .bind("id", id)
+                .map(DataProductReadRepository::toRow)
+                .one();
+    }
+
+    public Flux<DataProductRow> findPage(DataProductFilter filter, DataProductOrder order, long offset, int size) {
+        Where where = new Where(filter);
+        return where.bind(databaseClient.sql("SELECT " + COLUMNS + " FROM data_products" + where.clause()
+                        + " ORDER BY " + order.orderBy() + " LIMIT :limit OFFSET :offset"))
+                .bind("limit", size)
+                .bind("offset", offset)
+                .map(DataProductReadRepository::toRow)
+                .all();
+    }
+
+    public Mono<Long> count(DataProductFilter filter) {
+        Where where = new Where(filter);
+        return where.bind(databaseClient.sql("SELECT COUNT(*) FROM data_products" + where.clause()))
+                .map(row -> row.get(0, Long.class))
+                .one();
+    }
+
+    /**
+     * Up to limit rows after the cursor in (createdAt, id) order, or from the start when after is null.
+     */
+    public Flux<DataProductRow> findAfter(DataProductFilter filter, DataProductCursor after, int limit) {
+        Where where = new Where(filter);
+        if (after != null) {
+            where.add("(created_at, id) > (:createdAt, :id)");
+            where.parameters.put("createdAt", after.createdAt());
+            where.parameters.put("id", after.id());
+        }
+        return where.bind(databaseClient.sql("SELECT " + COLUMNS + " FROM data_products" + where.clause()
+                        + ORDER_BY_KEYSET + " LIMIT :limit"))
+                .bind("limit", limit)
+                .map(DataProductReadRepository::toRow)
+                .all();
+    }
+
+    /**
+     * Whether a matching row sits at or before the cursor, read backwards on the keyset index.
+     */
+    public Mono<Boolean> existsAtOrBefore(DataProductFilter filter, DataProductCursor cursor) {
+        Where where = new Where(filter);
+        where.add("(created_at, id) <= (:createdAt, :id)");
+        where.parameters.put("createdAt", cursor.createdAt());
+        where.parameters.put("id", cursor.id());
+        return where.bind(databaseClient.sql("SELECT id FROM data_products" + where.clause()
+                        + " ORDER BY created_at DESC, id DESC LIMIT 1"))
+                .map(row -> row.get("id", UUID.class))
+                .first()
+                .hasElement();
+    }
+
+    /**
+     * Every matching row in (createdAt, id) order. Rows are fetched in STREAM_FETCH_SIZE batches
+     * as downstream demand arrives, so a slow client holds back the query instead of buffering it.
+     */
+    public Flux<DataProductRow> stream(DataProductFilter filter) {
+        Where where = new Where(filter);
+        return where.bind(databaseClient.sql("SELECT " + COLUMNS + " FROM data_products" + where.clause()
+                        + ORDER_BY_KEYSET))
+                .filter(statement -> statement.fetchSize(STREAM_FETCH_SIZE))
+                .map(DataProductReadRepository::toRow)
+                .all();
+    }
+
+    private static DataProductRow toRow(Readable row) {
+        return new DataProductRow(
+                row.get("id", UUID.class),
+                row.get("name", String.class),
+                row.get("description", String.class),
+                row.get("portfolio", String.class),
+                row.get("source", String.class),
+                row.get("sensitivity_category", String.class),
+                row.get("data_format", String.class),
+                row.get("owner", String.class),
+                toTags(row.get("tags")),
+                row.get("is_active", Boolean.class),
+                row.get("retention_period_days", Integer.class),
+                row.get("created_at", LocalDateTime.class),
+                row.get("updated_at", LocalDateTime.class),
+                row.get("version", Long.class));
+    }
+
+    // Postgres returns String[]; other drivers may hand back Object[]
+    private static List<String> toTags(Object value) {
+        if (value == null) {
+            return List.of();
+        }
+        return Arrays.stream((Object[]) value).map(String::valueOf).toList();
+    }
+
+    private static final class Where {
+        private final List<String> predicates = new ArrayList<>();
+        private final Map<String, Object> parameters = new HashMap<>();
+
+        Where(DataProductFilter filter) {
+            // Soft-deleted rows wait for data-product-api's retention job to purge them
+            add("deleted_at IS NULL");
+            equal("portfolio", "portfolio", filter.portfolio());
+            equal("sensitivity_category", "sensitivityCategory", filter.sensitivityCategory());
+            equal("owner", "owner", filter.owner());
+            equal("source", "source", filter.source());
+            equal("data_format", "dataFormat", filter.dataFormat());
+            equal("is_active", "isActive", filter.isActive());
+            if (filter.createdFrom() != null) {
+                add("created_at >= :createdFrom");
+                parameters.put("createdFrom", filter.createdFrom());
+            }
+            if (filter.createdTo() != null) {
+                add("created_at < :createdTo");
+                parameters.put("createdTo", filter.createdTo());
+            }
+            if (!filter.tags().isEmpty()) {
+                add(filter.matchAllTags() ? "tags @> CAST(:tags AS text[])" : "tags && CAST(:tags AS text[])");
+                parameters.put("tags", filter.tags().toArray(String[]::new));
+            }
+        }
+
+        void add(String predicate) {
+            predicates.add(predicate);
+        }
+
+        private void equal(String column, String parameter, Object value) {
+            if (value != null) {
+                add(column + " = :" + parameter);
+                parameters.put(parameter, value);
+            }
+        }
+
+        String clause() {
+            return " WHERE " + String.join(" AND ", predicates);
+        }
+
+        DatabaseClient.GenericExecuteSpec bind(DatabaseClient.GenericExecuteSpec spec) {
+            for (Map.Entry<String, Object> parameter : parameters.entrySet()) {
+                spec = spec.bind(parameter.getKey(), parameter.getValue());
+            }
+            return spec;
+        }
+    }
+}
\ No newline at end of file
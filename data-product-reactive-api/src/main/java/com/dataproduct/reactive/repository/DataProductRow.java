@@ -0,0 +1,25 @@
+package com.dataproduct.reactive.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * One data_products row as read over R2DBC.
+ */
+public record DataProductRow(
+        UUID id,
+        String name,
+        String description,
+        String portfolio,
+        String source,
+        String sensitivityCategory,
+        String dataFormat,
+        String owner,
+        List<String> tags,
+        Boolean isActive,
+        Integer retentionPeriodDays,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt,
+        Long version) {
+}
\ No newline at end of file
@@ -0,0 +1,169 @@
+package com.dataproduct.reactive.controller;
+
+import com.dataproduct.reactive.generated.model.DataProductPageResponse;
+import com.dataproduct.reactive.generated.model.DataProductResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.reactive.AutoConfigureWebTestClient;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.http.MediaType;
+import org.springframework.r2dbc.core.DatabaseClient;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.web.reactive.server.WebTestClient;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+
+import static org.hamcrest.Matchers.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+@SpringBootTest
+@AutoConfigureWebTestClient
+@ActiveProfiles("test")
+class DataProductReadControllerTest {
+
+    private static final LocalDateTime CREATED_AT = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private WebTestClient webTestClient;
+
+    @Autowired
+    private DatabaseClient databaseClient;
+
+    private UUID firstId;
+
+    @BeforeEach
+    void setUp() {
+        databaseClient.sql("DELETE FROM data_products").then().block();
+        for (int i = 0; i < 5; i++) {
+            UUID id = UUID.randomUUID();
+            if (i == 0) {
+                firstId = id;
+            }
+            databaseClient.sql("INSERT INTO data_products (id, name, portfolio, source, sensitivity_category, "
+                            + "is_active, created_at, updated_at, version) "
+                            + "VALUES (:id, :name, :portfolio, 'Test Source', 'INTERNAL', TRUE, :createdAt, :createdAt, 2)")
+                    .bind("id", id)
+                    .bind("name", "Reactive Product " + i)
+                    .bind("portfolio", i % 2 == 0 ? "Even" : "Odd")
+                    .bind("createdAt", CREATED_AT.plusMinutes(i))
+                    .then()
+                    .block();
+        }
+    }
+
+    @Test
+    void getAllDataProducts_ShouldReturnFilteredPageWithTotals() {
+        webTestClient.get().uri("/api/v1/data-products?portfolio=Even&size=2")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.content[0].name").isEqualTo("Reactive Product 0")
+                .jsonPath("$.totalElements").isEqualTo(3)
+                .jsonPath("$.totalPages").isEqualTo(2)
+                .jsonPath("$.last").isEqualTo(false);
+    }
+
+    @Test
+    void getAllDataProducts_ShouldFilterByActiveFlagAndCreationTime() {
+        webTestClient.get().uri(uriBuilder -> uriBuilder.path("/api/v1/data-products")
+                        .queryParam("source", "Test Source")
+                        .queryParam("createdFrom", CREATED_AT.plusMinutes(2) + "Z")
+                        .queryParam("createdTo", CREATED_AT.plusMinutes(4) + "Z")
+                        .build())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[*].name").value(contains("Reactive Product 2", "Reactive Product 3"))
+                .jsonPath("$.totalElements").isEqualTo(2);
+
+        webTestClient.get().uri("/api/v1/data-products?isActive=false")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.totalElements").isEqualTo(0);
+    }
+
+    @Test
+    void getAllDataProducts_ShouldPageWithCursor() {
+        DataProductPageResponse firstPage = webTestClient.get().uri("/api/v1/data-products?limit=3")
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody(DataProductPageResponse.class)
+                .returnResult()
+                .getResponseBody();
+
+        assertNotNull(firstPage);
+        assertEquals("Reactive Product 2", firstPage.getContent().get(2).getName());
+        assertNull(firstPage.getPage());
+        assertNull(firstPage.getTotalElements());
+        assertTrue(firstPage.getFirst());
+        assertNotNull(firstPage.getNextCursor());
+
+        webTestClient.get().uri("/api/v1/data-products?limit=3&after=" + firstPage.getNextCursor())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content[*].name").value(contains("Reactive Product 3", "Reactive Product 4"))
+                .jsonPath("$.first").isEqualTo(false)
+                .jsonPath("$.last").isEqualTo(true)
+                .jsonPath("$.nextCursor").doesNotExist();
+
+        // With the rows before the cursor gone, the same cursor now starts the listing
+        databaseClient.sql("DELETE FROM data_products WHERE created_at <= :createdAt")
+                .bind("createdAt", CREATED_AT.plusMinutes(2))
+                .then()
+                .block();
+        webTestClient.get().uri("/api/v1/data-products?limit=3&after=" + firstPage.getNextCursor())
+                .exchange()
+                .expectStatus().isOk()
+                .expectBody()
+                .jsonPath("$.content.length()").isEqualTo(2)
+                .jsonPath("$.first").isEqualTo(true);
+    }
+
+    @Test
+    void streamDataProducts_ShouldEmitOneDocumentPerRow() {
+        List<DataProductResponse> rows = webTestClient.get().uri("/api/v1/data-products?portfolio=Odd")
+                .accept(MediaType.APPLICATION_NDJSON)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().contentTypeCompatibleWith(MediaType.APPLICATION_NDJSON)
+                .returnResult(DataProductResponse.class)
+                .getResponseBody()
+                .collectList()
+                .block();
+
+        assertNotNull(rows);
+        assertEquals(List.of("Reactive Product 1", "Reactive Product 3"),
+                rows.stream().map(DataProductResponse::getName).toList());
+    }
+
+    @Test
+    void getDataProductById_ShouldReturnETagAndNotModified() {
+        webTestClient.get().uri("/api/v1/data-products/" + firstId)
+                .exchange()
+                .expectStatus().isOk()
+                .expectHeader().valueEquals("ETag", "\"2\"")
+                .expectBody()
+                .jsonPath("$.name").isEqualTo("Reactive Product 0")
+                .jsonPath("$.tags").isEmpty();
+
+        webTestClient.get().uri("/api/v1/data-products/" + firstId)
+                .header("If-None-Match", "W/\"2\"")
+                .exchange()
+                .expectStatus().isNotModified();
+    }
+
+    @Test
+    void getDataProductById_ShouldReturnNotFoundWithErrorBody() {
+        webTestClient.get().uri("/api/v1/data-products/" + UUID.randomUUID())
+                .exchange()
+                .expectStatus().isNotFound()
+                .expectBody()
+                .jsonPath("$.message").value(startsWith("Data product not found with id: "));
+    }
+}
\ No newline at end of file
@@ -0,0 +1,18 @@
+-- H2 stand-in for the data_products table created by data-product-api's migrations
+CREATE TABLE IF NOT EXISTS data_products (
+    id UUID PRIMARY KEY,
+    name VARCHAR(255) NOT NULL UNIQUE,
+    description VARCHAR(1000),
+    portfolio VARCHAR(255) NOT NULL,
+    source VARCHAR(255) NOT NULL,
+    sensitivity_category VARCHAR(255) NOT NULL,
+    data_format VARCHAR(255),
+    owner VARCHAR(255),
+    tags VARCHAR(255) ARRAY,
+    is_active BOOLEAN NOT NULL,
+    retention_period_days INTEGER,
+    created_at TIMESTAMP(6) NOT NULL,
+    updated_at TIMESTAMP(6) NOT NULL,
+    version BIGINT NOT NULL,
+    deleted_at TIMESTAMP(6)
+);
\ No newline at end of file
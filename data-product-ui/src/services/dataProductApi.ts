@@ -29,10 +29,13 @@ apiClient.interceptors.response.use(
   }
 );
 
+// Fields rendered by the list view; the API reads only these columns (sparse fieldset)
+const LIST_FIELDS = ['name', 'description', 'portfolio', 'source', 'sensitivityCategory', 'tags', 'isActive'].join(',');
+
 export const dataProductApi = {
   getAllDataProducts: (page?: number, size?: number, portfolio?: string, sensitivityCategory?: string) =>
     apiClient.get('/data-products', {
-      params: { page, size, portfolio, sensitivityCategory },
+      params: { page, size, portfolio, sensitivityCategory, fields: LIST_FIELDS },
     }),
 
   getDataProductById: (id: string) =>